@@ -0,0 +1,126 @@
+package project.masil.chat;
+
+import java.lang.reflect.Type;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.springframework.web.socket.sockjs.client.SockJsClient;
+import org.springframework.web.socket.sockjs.client.WebSocketTransport;
+
+/**
+ * 채팅 전달 부하 측정 (chat.broker.mode 별, 노드 수 1/2/4 비교용)
+ * <p>
+ * 각 방(pair)의 보내는 쪽은 nodes[i % n], 받는 쪽은 nodes[(i + 1) % n] 에 연결해 노드 간 전달을 강제한다. 메시지 본문에 송신 시각을
+ * 넣고 수신 시각과의 차이로 전달 지연을 잰다 (송/수신 클라이언트가 같은 JVM).
+ * <pre>
+ * ./gradlew jmhClasses
+ * java -cp build/classes/java/jmh:build/classes/java/main:&lt;runtimeClasspath&gt; \
+ *   project.masil.chat.ChatDeliveryLoadDriver \
+ *   http://node1:8080/api/websocket/chat,http://node2:8080/api/websocket/chat pairs.tsv 1000 200
+ * </pre>
+ * pairs.tsv: 한 줄에 "보내는사람 토큰 \t 받는사람 토큰 \t roomId" (두 사람이 참여한 방)
+ * <p>
+ * 인자: nodes(콤마 구분) pairs 파일, 방당 메시지 수, 방당 초당 전송 수
+ */
+public class ChatDeliveryLoadDriver {
+
+  public static void main(String[] args) throws Exception {
+    List<String> nodes = Arrays.asList(args[0].split(","));
+    List<String[]> pairs = Files.readAllLines(Path.of(args[1])).stream()
+        .filter(l -> !l.isBlank())
+        .map(l -> l.split("\t"))
+        .toList();
+    int perRoom = Integer.parseInt(args[2]);
+    int ratePerRoom = Integer.parseInt(args[3]);
+
+    WebSocketStompClient client = new WebSocketStompClient(
+        new SockJsClient(List.of(new WebSocketTransport(new StandardWebSocketClient()))));
+    client.setMessageConverter(new MappingJackson2MessageConverter());
+
+    int total = pairs.size() * perRoom;
+    long[] latencies = new long[total];
+    AtomicInteger received = new AtomicInteger();
+    CountDownLatch done = new CountDownLatch(total);
+
+    List<StompSession> senders = new ArrayList<>();
+    List<Long> rooms = new ArrayList<>();
+    for (int i = 0; i < pairs.size(); i++) {
+      String[] p = pairs.get(i);
+      long roomId = Long.parseLong(p[2].trim());
+      StompSession receiver = connect(client, nodes.get((i + 1) % nodes.size()), p[1].trim());
+      receiver.subscribe("/user/queue/rooms." + roomId, new StompFrameHandler() {
+        @Override
+        public Type getPayloadType(StompHeaders headers) {
+          return Map.class;
+        }
+
+        @Override
+        public void handleFrame(StompHeaders headers, Object payload) {
+          Object content = ((Map<?, ?>) payload).get("content");
+          int idx = received.getAndIncrement();
+          if (content != null && idx < total) {
+            latencies[idx] = System.nanoTime() - Long.parseLong(content.toString());
+            done.countDown();
+          }
+        }
+      });
+      senders.add(connect(client, nodes.get(i % nodes.size()), p[0].trim()));
+      rooms.add(roomId);
+    }
+    // 구독이 (RELAY 모드에서는 다른 노드까지) 전파될 시간
+    Thread.sleep(1000);
+
+    long intervalNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(1, ratePerRoom);
+    long start = System.nanoTime();
+    for (int m = 0; m < perRoom; m++) {
+      long due = start + m * intervalNanos;
+      while (System.nanoTime() < due) {
+        Thread.onSpinWait();
+      }
+      for (int i = 0; i < senders.size(); i++) {
+        senders.get(i).send("/app/chat/rooms/" + rooms.get(i) + "/messages",
+            Map.of("content", String.valueOf(System.nanoTime())));
+      }
+    }
+    boolean complete = done.await(60, TimeUnit.SECONDS);
+    long elapsed = System.nanoTime() - start;
+
+    int n = Math.min(received.get(), total);
+    long[] sorted = Arrays.copyOf(latencies, n);
+    Arrays.sort(sorted);
+    System.out.printf("nodes=%d rooms=%d sent=%d received=%d%s%n", nodes.size(), pairs.size(),
+        total, n, complete ? "" : " (timeout)");
+    System.out.printf("throughput=%.0f msg/s%n", n / (elapsed / 1e9));
+    if (n > 0) {
+      System.out.printf("latency p50=%.2fms p99=%.2fms max=%.2fms%n",
+          sorted[(int) (n * 0.50)] / 1e6, sorted[Math.min(n - 1, (int) (n * 0.99))] / 1e6,
+          sorted[n - 1] / 1e6);
+    }
+    client.stop();
+    System.exit(0);
+  }
+
+  private static StompSession connect(WebSocketStompClient client, String url, String token)
+      throws Exception {
+    StompHeaders connect = new StompHeaders();
+    connect.add("Authorization", "Bearer " + token);
+    return client.connectAsync(url + "?access_token=" + token, new WebSocketHttpHeaders(),
+            connect, new StompSessionHandlerAdapter() {
+            })
+        .get(10, TimeUnit.SECONDS);
+  }
+}
@@ -0,0 +1,107 @@
+package project.masil.global.config;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 요청 처리 스레드 모델 비교용 부하 (spring.threads.virtual.enabled=false / true 로 같은 서버를 두 번 띄워 비교)
+ * <p>
+ * 경로마다 concurrency 개의 클라이언트가 응답을 받는 즉시 다음 요청을 보내는 폐쇄 루프로 duration 동안 호출하고, 경로별 처리량과
+ * p50/p99 지연, 오류(비 2xx, 타임아웃) 수를 출력한다. 모든 경로를 동시에 호출하므로 AI 호출로 막힌 요청이 /events 목록 지연에 주는
+ * 영향도 함께 보인다.
+ * <pre>
+ * ./gradlew jmhClasses
+ * java -cp build/classes/java/jmh project.masil.global.config.ThreadModelLoadDriver \
+ *   http://localhost:8080/api &lt;accessToken&gt; 200 60 \
+ *   "/events/all?regionId=1,/events/search-ai?query=%EC%A3%BC%EB%A7%90,/events/ai-recommendations"
+ * </pre>
+ * 인자: baseUrl, 액세스 토큰, 경로별 동시 클라이언트 수, 측정 시간(초), 경로(콤마 구분, 쿼리는 URL 인코딩)
+ */
+public class ThreadModelLoadDriver {
+
+  private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+  public static void main(String[] args) throws Exception {
+    String baseUrl = args[0];
+    String token = args[1];
+    int concurrency = Integer.parseInt(args[2]);
+    long durationNanos = TimeUnit.SECONDS.toNanos(Long.parseLong(args[3]));
+    List<String> paths = Arrays.asList(args[4].split(","));
+
+    HttpClient client = HttpClient.newBuilder()
+        .connectTimeout(Duration.ofSeconds(5))
+        .build();
+    List<Result> results = new ArrayList<>();
+    for (String path : paths) {
+      results.add(new Result(path));
+    }
+
+    long start = System.nanoTime();
+    long deadline = start + durationNanos;
+    // 클라이언트 쪽 스레드가 병목이 되지 않도록 가상 스레드로 호출
+    try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (Result result : results) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + result.path))
+            .header("Authorization", "Bearer " + token)
+            .timeout(REQUEST_TIMEOUT)
+            .GET()
+            .build();
+        for (int i = 0; i < concurrency; i++) {
+          clients.submit(() -> {
+            while (System.nanoTime() < deadline) {
+              long sent = System.nanoTime();
+              try {
+                HttpResponse<Void> res = client.send(request,
+                    HttpResponse.BodyHandlers.discarding());
+                if (res.statusCode() / 100 == 2) {
+                  result.latencies.add(System.nanoTime() - sent);
+                } else {
+                  result.errors.incrementAndGet();
+                }
+              } catch (Exception e) {
+                result.errors.incrementAndGet();
+              }
+            }
+            return null;
+          });
+        }
+      }
+    }
+    double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+    System.out.printf("concurrency=%d/path duration=%.0fs%n", concurrency, elapsedSeconds);
+    for (Result result : results) {
+      long[] sorted = result.latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+      int n = sorted.length;
+      System.out.printf("%s ok=%d errors=%d throughput=%.1f req/s", result.path, n,
+          result.errors.get(), n / elapsedSeconds);
+      if (n > 0) {
+        System.out.printf(" p50=%.1fms p99=%.1fms max=%.1fms", sorted[(int) (n * 0.50)] / 1e6,
+            sorted[Math.min(n - 1, (int) (n * 0.99))] / 1e6, sorted[n - 1] / 1e6);
+      }
+      System.out.println();
+    }
+  }
+
+  private static final class Result {
+
+    private final String path;
+    private final ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger errors = new AtomicInteger();
+
+    private Result(String path) {
+      this.path = path;
+    }
+  }
+}
@@ -0,0 +1,55 @@
+package project.masil.global.util.parser;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * KoreanTimeParser.parse 처리량 측정 (./gradlew jmh)
+ * <p>
+ * - repeated : 같은 표현이 반복되는 실제 검색 패턴 (캐시 적중)
+ * - unique   : 매번 다른 질의 (토큰화 + 규칙 적용 비용)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KoreanTimeParserBenchmark {
+
+  private static final String[] QUERIES = {
+      "이번 주말 축제", "다음주 평일 오후 강의", "이번주 금요일 오후", "오늘 저녁 공연",
+      "9월3일 오후 2시", "오후 2시~오후 4시", "플리마켓", "다다음주 주말 플리마켓"
+  };
+
+  @Param({"repeated", "unique"})
+  private String workload;
+
+  private LocalDateTime now;
+  private long counter;
+
+  @Setup
+  public void setUp() {
+    now = LocalDateTime.of(2025, 8, 20, 15, 30);
+  }
+
+  @Benchmark
+  public KoreanTimeParser.TimeSpan parse() {
+    String q = QUERIES[(int) (counter++ % QUERIES.length)];
+    if ("unique".equals(workload)) {
+      q = q + " " + counter;
+    }
+    return KoreanTimeParser.parse(q, now);
+  }
+}
@@ -38,7 +38,7 @@ public class AuthService {
     authenticationManager.authenticate(authenticationToken);
 
     // 액세스 토큰 및 리프레시 토큰 발급
-    String accessToken = jwtProvider.createAccessToken(user.getEmail());
+    String accessToken = jwtProvider.createAccessToken(user);
     String refreshToken = jwtProvider.createRefreshToken(user.getEmail(),
         UUID.randomUUID().toString());
 
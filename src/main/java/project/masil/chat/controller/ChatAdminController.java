@@ -0,0 +1,25 @@
+package project.masil.chat.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import project.masil.chat.dto.response.ChatOutboundResponse;
+import project.masil.chat.websocket.ChatOutboundMetrics;
+import project.masil.global.response.BaseResponse;
+
+@RestController
+@RequestMapping("/api/admin/chat")
+@RequiredArgsConstructor
+public class ChatAdminController {
+
+  private final ChatOutboundMetrics chatOutboundMetrics;
+
+  @GetMapping("/outbound")
+  @Operation(summary = "WebSocket 전송 상태", description = "서버 -> 클라이언트 전송 대기열 깊이, 전송 지연, 버린 프레임/끊은 세션 수를 조회합니다.")
+  public ResponseEntity<BaseResponse<ChatOutboundResponse>> getOutbound() {
+    return ResponseEntity.ok(BaseResponse.success(chatOutboundMetrics.snapshot()));
+  }
+}
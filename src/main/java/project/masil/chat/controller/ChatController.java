@@ -21,9 +21,13 @@ import org.springframework.web.bind.annotation.RestController;
 import project.masil.chat.dto.request.CreateRoomRequest;
 import project.masil.chat.dto.request.SendMessageRequest;
 import project.masil.chat.dto.response.ChatMessageResponse;
+import project.masil.chat.dto.response.ChatMessageSliceResponse;
+import project.masil.chat.dto.response.ChatPresenceResponse;
 import project.masil.chat.dto.response.ChatRoomResponse;
+import project.masil.chat.dto.response.ChatRoomSliceResponse;
 import project.masil.chat.dto.response.ChatTargetResponse;
 import project.masil.chat.enums.ChatContextType;
+import project.masil.chat.service.ChatPresenceService;
 import project.masil.chat.service.ChatService;
 import project.masil.community.service.ClubPostService;
 import project.masil.community.service.CommentService;
@@ -41,6 +45,7 @@ import project.masil.global.security.CustomUserDetails;
 public class ChatController {
 
   private final ChatService chatService;
+  private final ChatPresenceService presenceService;
 
   // 채팅방 진입할때 어떤 채팅방인지에 따라 상대 ID 산출에 사용하는 도메인 서비스가 다름
   private final EventPostService eventPostService;
@@ -88,7 +93,7 @@ public class ChatController {
       @AuthenticationPrincipal CustomUserDetails userDetails,
       @RequestBody @Valid CreateRoomRequest request
   ) {
-    Long userId = userDetails.getUser().getId();
+    Long userId = userDetails.getUserId();
     ChatRoomResponse response = chatService.openChatRoom(
         request.getContextType(),
         request.getContextId(),
@@ -110,7 +115,7 @@ public class ChatController {
           @AuthenticationPrincipal CustomUserDetails userDetails,
           @PathVariable Long roomId
   ) {
-    Long userId = userDetails.getUser().getId();
+    Long userId = userDetails.getUserId();
     ChatRoomResponse response = chatService.getRoomRowFor(roomId, userId);
     return ResponseEntity.ok(BaseResponse.success("채팅방 조회 성공", response));
   }
@@ -126,7 +131,7 @@ public class ChatController {
       @AuthenticationPrincipal CustomUserDetails userDetails,
       @PathVariable Long eventId
   ) {
-    Long userId = userDetails.getUser().getId();
+    Long userId = userDetails.getUserId();
     Long authorId = eventPostService.getEventAuthorId(eventId);
     ChatRoomResponse response = chatService.openChatRoom(
         ChatContextType.EVENT_POST, eventId, authorId, userId
@@ -143,7 +148,7 @@ public class ChatController {
       @AuthenticationPrincipal CustomUserDetails userDetails,
       @PathVariable Long commentId
   ) {
-    Long userId = userDetails.getUser().getId();
+    Long userId = userDetails.getUserId();
     Long authorId = commentService.getCommentAuthorId(commentId);
     ChatRoomResponse response = chatService.openChatRoom(
         ChatContextType.COMMENT, commentId, authorId, userId
@@ -160,7 +165,7 @@ public class ChatController {
       @AuthenticationPrincipal CustomUserDetails userDetails,
       @PathVariable Long clubPostId
   ) {
-    Long userId = userDetails.getUser().getId();
+    Long userId = userDetails.getUserId();
     Long leaderId = clubPostService.getClubLeaderUserId(clubPostId);
     ChatRoomResponse response = chatService.openChatRoom(
         ChatContextType.CLUB_POST, clubPostId, leaderId, userId
@@ -183,7 +188,39 @@ public class ChatController {
     int pageIndex = Math.max(0, page - 1);
     Pageable pageable = PageRequest.of(pageIndex, size, Sort.by(Sort.Direction.fromString(sortDir), sortBy));
 
-    Page<ChatRoomResponse> response = chatService.getMyRooms(userDetails.getUser().getId(), pageable);
+    Page<ChatRoomResponse> response = chatService.getMyRooms(userDetails.getUserId(), pageable);
+
+    return ResponseEntity.ok(BaseResponse.success("내 채팅방 목록 조회 성공", response));
+  }
+
+  /**
+   * 내 대화 상대 접속 상태
+   */
+  @Operation(summary = "대화 상대 접속 상태",
+      description = "내 채팅방 상대들의 현재 접속 여부를 조회합니다. 이후 변경분은 /user/queue/presence 구독으로 받습니다.")
+  @GetMapping("/presence")
+  public ResponseEntity<BaseResponse<ChatPresenceResponse>> getPartnerPresence(
+      @AuthenticationPrincipal CustomUserDetails userDetails
+  ) {
+    ChatPresenceResponse response = presenceService.getPartnerPresence(userDetails.getUserId());
+
+    return ResponseEntity.ok(BaseResponse.success("대화 상대 접속 상태 조회 성공", response));
+  }
+
+  /**
+   * 내 채팅방 목록 커서 조회
+   */
+  @Operation(summary = "내 채팅방 목록(커서)",
+      description = "최근 대화 순으로 채팅방 목록을 조회합니다. 첫 페이지는 cursor 없이 호출하고, "
+          + "다음 페이지는 응답의 nextCursor 를 넘깁니다.")
+  @GetMapping("/rooms/cursor")
+  public ResponseEntity<BaseResponse<ChatRoomSliceResponse>> getMyRoomsByCursor(
+      @AuthenticationPrincipal CustomUserDetails userDetails,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "20") int size
+  ) {
+    ChatRoomSliceResponse response =
+        chatService.getMyRoomsByCursor(userDetails.getUserId(), cursor, size);
 
     return ResponseEntity.ok(BaseResponse.success("내 채팅방 목록 조회 성공", response));
   }
@@ -202,7 +239,28 @@ public class ChatController {
   ) {
     int pageIndex = Math.max(0, page - 1);
     Pageable pageable = PageRequest.of(pageIndex, size);
-    Page<ChatMessageResponse> response = chatService.getMessages(roomId, userDetails.getUser().getId(), pageable);
+    Page<ChatMessageResponse> response = chatService.getMessages(roomId, userDetails.getUserId(), pageable);
+
+    return ResponseEntity.ok(BaseResponse.success("메시지 조회 성공", response));
+  }
+
+  /**
+   * 커서 기반 메시지 조회
+   */
+  @Operation(summary = "특정 채팅방 메시지 커서 조회",
+      description = "before/after(메시지 ID) 커서로 메시지를 조회합니다. 둘 다 없으면 최신 메시지부터 size 건을 반환합니다. "
+          + "응답 목록은 시간 오름차순이며, nextCursor 를 같은 방향 파라미터로 넘기면 이어서 조회합니다. "
+          + "before 조회(이전 메시지)가 아니면 내 안읽음수가 0으로 초기화됩니다.")
+  @GetMapping("/rooms/{roomId}/messages/cursor")
+  public ResponseEntity<BaseResponse<ChatMessageSliceResponse>> getMessagesByCursor(
+      @AuthenticationPrincipal CustomUserDetails userDetails,
+      @PathVariable Long roomId,
+      @RequestParam(required = false) Long before,
+      @RequestParam(required = false) Long after,
+      @RequestParam(defaultValue = "30") int size
+  ) {
+    ChatMessageSliceResponse response =
+        chatService.getMessagesByCursor(roomId, userDetails.getUserId(), before, after, size);
 
     return ResponseEntity.ok(BaseResponse.success("메시지 조회 성공", response));
   }
@@ -218,7 +276,7 @@ public class ChatController {
       @RequestBody @Valid SendMessageRequest request
   ) {
     ChatMessageResponse resp =
-        chatService.sendMessage(roomId, userDetails.getUser().getId(), request);
+        chatService.sendMessage(roomId, userDetails.getUserId(), request);
 
     return ResponseEntity.ok(BaseResponse.success("메시지 전송 성공", resp));
   }
@@ -8,6 +8,9 @@ import org.springframework.stereotype.Controller;
 import project.masil.chat.dto.request.SendMessageRequest;
 import project.masil.chat.dto.response.ChatMessageResponse;
 import project.masil.chat.dto.response.ChatRoomResponse;
+import project.masil.chat.dto.response.ChatSendResult;
+import project.masil.chat.service.ChatMessageBatchWriter;
+import project.masil.chat.service.ChatPresenceService;
 import project.masil.chat.service.ChatService;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.messaging.handler.annotation.MessageMapping;
@@ -20,6 +23,8 @@ import org.springframework.messaging.handler.annotation.MessageMapping;
  *  - 전송(클라→서버):   /app/chat/rooms/{roomId}/messages
  *  - 구독(서버→클라):   /user/queue/rooms.{roomId}  ← "본인 전용" 개인 큐
  *  - (선택) 목록 갱신:   /user/queue/rooms.list      ← 목록 행 갱신/배지카운트용 개인 큐
+ *  - (선택) 접속 상태:   /user/queue/presence        ← 대화 상대 접속/종료 변경분
+ *  - (선택) 입력 중:     /app/chat/rooms/{roomId}/typing → 상대방 /user/queue/typing
  *
  * 흐름:
  *  1) 사용자가 방 화면 입장 → "/user/queue/rooms.{roomId}" 구독
@@ -35,6 +40,8 @@ public class ChatWebSocketController {
 
   private final ChatService chatService; // 채팅 서비스 비즈니스 로직
   private final SimpMessagingTemplate broker; // WebSocket 브로커로 푸시
+  private final ChatMessageBatchWriter batchWriter; // 그룹 커밋 저장 (선택)
+  private final ChatPresenceService presenceService; // 접속 상태/입력 중 표시
 
   /**
    * [메시지 전송]
@@ -59,11 +66,27 @@ public class ChatWebSocketController {
     log.info("[WS] IN rooms/{}/messages by user={} payload={}", roomId, userId, payload);
 
 
-    // 2) 저장/캐시/unread 반영
-    ChatMessageResponse saved = chatService.sendMessage(roomId, userId, payload);
+    // 2) 저장/캐시/unread 반영 + 상대방/목록 행까지 한 트랜잭션에서 (방 조회 1회)
+    //    - chat.write.group-commit=true 면 배치 저장기에 맡기고, 배치가 커밋된 뒤 푸시
+    if (batchWriter.isEnabled()) {
+      batchWriter.submit(roomId, userId, payload).whenComplete((result, e) -> {
+        if (e != null) {
+          log.warn("[WS] rooms/{}/messages by user={} 저장 실패: {}", roomId, userId,
+              e.getMessage());
+          return;
+        }
+        push(roomId, userId, result);
+      });
+      return;
+    }
+    push(roomId, userId, chatService.sendMessageWithRows(roomId, userId, payload));
+  }
+
+  private void push(Long roomId, Long userId, ChatSendResult result) {
+    ChatMessageResponse saved = result.getMessage();
 
     // 3) 수신자(상대방) 식별
-    Long otherUserId = chatService.getOtherParticipantId(roomId, userId);
+    Long otherUserId = result.getOtherUserId();
 
     // 4) 보낸 사람/상대방 각각 "개인 큐"로 메시지 푸시
     //    - 클라는 "/user/queue/rooms.{roomId}"를 구독해야 수신
@@ -79,8 +102,8 @@ public class ChatWebSocketController {
     // 5) 방 목록 행 갱신(각자 관점: myUnreadCount 가 다름)
     //    - 프런트가 목록을 따로 구독하고 있다면 유용 (/user/queue/rooms.list)
     //    - 원치 않으면 이 블록은 제거해도 됨
-    ChatRoomResponse myRoomRow = chatService.getRoomRowFor(roomId, userId);
-    ChatRoomResponse otherRoomRow = chatService.getRoomRowFor(roomId, otherUserId);
+    ChatRoomResponse myRoomRow = result.getSenderRoomRow();
+    ChatRoomResponse otherRoomRow = result.getOtherRoomRow();
 
     broker.convertAndSendToUser(String.valueOf(userId),    "/queue/rooms.list", myRoomRow);
     broker.convertAndSendToUser(String.valueOf(otherUserId), "/queue/rooms.list", otherRoomRow);
@@ -111,5 +134,15 @@ public class ChatWebSocketController {
 
   }
 
+  /**
+   * [입력 중 표시]
+   * 클라이언트 전송 경로: /app/chat/rooms/{roomId}/typing (payload 없음)
+   * - 상대방은 "/user/queue/typing" 구독 시 { roomId, userId } 수신
+   * - (사용자, 방) 당 chat.presence.typing-throttle 에 한 번만 전달
+   */
+  @MessageMapping("/rooms/{roomId}/typing")
+  public void typing(@DestinationVariable Long roomId, Principal principal) {
+    presenceService.typing(roomId, Long.valueOf(principal.getName()));
+  }
 
 }
@@ -41,12 +41,21 @@ public class ChatConverter {
     // 상대방 ID : 내가 A면 상대방 B , 내가 B면 A
     Long targetUserId = userIdIsA ? room.getUserBId() : room.getUserAId();
 
-    // 내 안읽음 수 : 내가 A면 unreadCountA, 내가 B면 unreadCountB
-    int myUnreadCount = userIdIsA ? room.getUnreadCountA() : room.getUnreadCountB();
-
     User targetUser = userRepository.findById(targetUserId)
         .orElseThrow(() -> new CustomException(UserErrorCode.USER_NOT_FOUND));
 
+    return toRoomResponse(room, userId, targetUser);
+  }
+
+  /**
+   * 상대방 User 를 이미 조회한 경우(목록 일괄 조회 등)
+   */
+  public ChatRoomResponse toRoomResponse(ChatRoom room, Long userId, User targetUser) {
+    boolean userIdIsA = room.getUserAId().equals(userId);
+    Long targetUserId = userIdIsA ? room.getUserBId() : room.getUserAId();
+    // 내 안읽음 수 : 내가 A면 unreadCountA, 내가 B면 unreadCountB
+    int myUnreadCount = userIdIsA ? room.getUnreadCountA() : room.getUnreadCountB();
+
     return ChatRoomResponse.builder()
         .roomId(room.getId())
         .contextType(room.getContextType())
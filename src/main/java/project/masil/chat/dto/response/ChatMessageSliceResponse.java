@@ -0,0 +1,21 @@
+package project.masil.chat.dto.response;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 커서 기반 메시지 조회 응답 DTO
+ * - messages   : 시간 오름차순(화면 표시 순서)
+ * - nextCursor : 다음 조회에 넘길 메시지 ID (before 조회면 가장 오래된 메시지, after 조회면 가장 최근 메시지)
+ * - hasNext    : 같은 방향으로 더 조회할 메시지가 있는지
+ */
+@Getter
+@Builder
+public class ChatMessageSliceResponse {
+
+  private List<ChatMessageResponse> messages;
+  private Long nextCursor;
+  private boolean hasNext;
+
+}
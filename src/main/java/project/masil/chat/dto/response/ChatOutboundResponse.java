@@ -0,0 +1,31 @@
+package project.masil.chat.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(title = "ChatOutboundResponse DTO", description = "WebSocket 서버 -> 클라이언트 전송 상태")
+public record ChatOutboundResponse(
+    @Schema(description = "전송 중인 스레드 수")
+    int active,
+    @Schema(description = "전송 스레드 수")
+    int poolSize,
+    @Schema(description = "전송 대기열 깊이")
+    int queueDepth,
+    @Schema(description = "전송한 프레임 수")
+    long sent,
+    @Schema(description = "전송 실패 프레임 수")
+    long failed,
+    @Schema(description = "대기열 포화로 버린 프레임 수")
+    long rejected,
+    @Schema(description = "전송 시간/버퍼 제한 초과로 끊은 세션 수")
+    long droppedSessions,
+    @Schema(description = "대기 시간 p50(ms), 최근 1024건")
+    Double queueWaitP50Ms,
+    @Schema(description = "대기 시간 p99(ms), 최근 1024건")
+    Double queueWaitP99Ms,
+    @Schema(description = "전송 시간 p50(ms), 최근 1024건")
+    Double sendP50Ms,
+    @Schema(description = "전송 시간 p99(ms), 최근 1024건")
+    Double sendP99Ms
+) {
+
+}
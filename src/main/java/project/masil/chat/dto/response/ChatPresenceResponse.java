@@ -0,0 +1,18 @@
+package project.masil.chat.dto.response;
+
+import java.util.Map;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 접속 상태 응답 DTO
+ * - online : userId -> 접속 여부
+ *   · REST 조회 시 내 대화 상대 전체, 푸시(/user/queue/presence) 시 바뀐 사용자만
+ */
+@Getter
+@Builder
+public class ChatPresenceResponse {
+
+  private Map<Long, Boolean> online;
+
+}
@@ -10,7 +10,7 @@ import project.masil.chat.enums.ChatContextType;
  * contextType/Id : 이 방이 어떤 출처에서 시작됐는지
  */
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class ChatRoomResponse {
 
   private Long roomId;
@@ -0,0 +1,21 @@
+package project.masil.chat.dto.response;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 커서 기반 내 채팅방 목록 응답 DTO
+ * - rooms      : 최근 대화 순
+ * - nextCursor : 다음 조회에 넘길 커서 (마지막 행 기준, 불투명 문자열)
+ * - hasNext    : 더 조회할 방이 있는지
+ */
+@Getter
+@Builder
+public class ChatRoomSliceResponse {
+
+  private List<ChatRoomResponse> rooms;
+  private String nextCursor;
+  private boolean hasNext;
+
+}
@@ -0,0 +1,22 @@
+package project.masil.chat.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * WebSocket 메시지 전송 결과 (한 트랜잭션/한 번의 방 조회로 구성)
+ * - message       : 저장된 메시지
+ * - otherUserId   : 수신자(상대방) ID
+ * - senderRoomRow : 보낸 사람 관점의 방 목록 행
+ * - otherRoomRow  : 상대방 관점의 방 목록 행
+ */
+@Getter
+@Builder
+public class ChatSendResult {
+
+  private ChatMessageResponse message;
+  private Long otherUserId;
+  private ChatRoomResponse senderRoomRow;
+  private ChatRoomResponse otherRoomRow;
+
+}
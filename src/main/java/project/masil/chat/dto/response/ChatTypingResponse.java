@@ -0,0 +1,16 @@
+package project.masil.chat.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 입력 중 이벤트 DTO (/user/queue/typing)
+ */
+@Getter
+@Builder
+public class ChatTypingResponse {
+
+  private Long roomId;
+  private Long userId; // 입력 중인 사용자
+
+}
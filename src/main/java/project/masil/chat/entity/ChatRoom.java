@@ -3,6 +3,7 @@ package project.masil.chat.entity;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
@@ -36,15 +37,16 @@ import project.masil.user.entity.User;
           )
        },
        indexes = {
-          // 내 방 목록 조회 최적화
-          @Index(name = "idx_room_usera", columnList = "user_a_id"),
-          @Index(name = "idx_room_userb", columnList = "user_b_id"),
+          // 내 방 목록 조회 최적화: A측/B측을 각각 최근 대화 순으로 읽는다 (keyset)
+          @Index(name = "idx_room_usera_last", columnList = "user_a_id, last_message_at DESC, id DESC"),
+          @Index(name = "idx_room_userb_last", columnList = "user_b_id, last_message_at DESC, id DESC"),
           // 최근 대화 순 정렬 최적화
           @Index(name = "idx_room_lastmsg", columnList = "last_message_at DESC"),
           // 컨텍스트별 통계/운영 조회에 유용
           @Index(name = "idx_room_context", columnList = "context_type, context_id")
        }
 )
+@EntityListeners(ChatRoomEntityListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -98,7 +100,7 @@ public class ChatRoom extends BaseTimeEntity {
    * - 예: "네, 내일 뵙겠습니다." → 채팅방 리스트에 그대로 출력.
    */
   @Comment("목록용 최근 메시지 캐시")
-  @Column(length = 300)
+  @Column(length = 300, updatable = false)
   private String lastMessage;
 
   /**
@@ -107,23 +109,42 @@ public class ChatRoom extends BaseTimeEntity {
    * - 새 메시지가 오면 이 값도 즉시 갱신.
    * - 예: lastMessageAt = 2025-08-15T16:10 → 목록 정렬 시 최신순으로 배치.
    */
-  @Column(name = "last_message_at")
+  @Column(name = "last_message_at", updatable = false)
   private LocalDateTime lastMessageAt;
 
+  /*
+   * lastMessage / lastMessageAt / unreadCountA / unreadCountB / lastReadAtA / lastReadAtB 는 updatable=false:
+   * 동시 전송/읽음에서 값이 유실되지 않도록 ChatRoomRepository 의 원자적 update 로만 변경한다.
+   * 아래 increaseUnreadForOther / resetUnreadFor 는 응답 구성용 메모리 값만 바꾼다.
+   */
+
   /**
    * 사용자 A 기준 안읽음 수(내가 A면 이 값이 내 unread)
    */
   @Comment("A 기준 안읽음 수")
-  @Column(name = "unread_count_a", nullable = false)
+  @Column(name = "unread_count_a", nullable = false, updatable = false)
   private int unreadCountA;
 
   /**
    * 사용자 B 기준 안읽음 수(내가 B면 이 값이 내 unread)
    */
   @Comment("B 기준 안읽음 수")
-  @Column(name = "unread_count_b", nullable = false)
+  @Column(name = "unread_count_b", nullable = false, updatable = false)
   private int unreadCountB;
 
+  /**
+   * A/B 가 마지막으로 읽었을 때의 lastMessageAt (읽음 기준선)
+   * - unread 코얼레싱 flush 는 이 시각보다 나중 메시지만 더한다
+   *   (flush 와 읽음이 겹치거나 다른 노드에서 읽어도 이미 읽은 메시지가 unread 로 되살아나지 않음)
+   */
+  @Comment("A 읽음 기준 시각")
+  @Column(name = "last_read_at_a", updatable = false)
+  private LocalDateTime lastReadAtA;
+
+  @Comment("B 읽음 기준 시각")
+  @Column(name = "last_read_at_b", updatable = false)
+  private LocalDateTime lastReadAtB;
+
 
   /**
    * 권한 체크: userId가 방의 참여자인지
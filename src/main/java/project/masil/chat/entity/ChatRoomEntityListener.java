@@ -0,0 +1,35 @@
+package project.masil.chat.entity;
+
+import jakarta.persistence.PostRemove;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import project.masil.chat.websocket.ChatRoomAccessCache;
+
+/**
+ * 채팅방 삭제 시 STOMP 세션별 방 권한 캐시 무효화 (커밋 후)
+ * - 엔티티 리스너는 EntityManagerFactory 생성 중에 만들어지므로 캐시(→ Repository)는 지연 조회
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatRoomEntityListener {
+
+  private final ObjectProvider<ChatRoomAccessCache> accessCache;
+
+  @PostRemove
+  public void afterRemove(ChatRoom room) {
+    Long roomId = room.getId();
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          accessCache.getObject().evictRoom(roomId);
+        }
+      });
+    } else {
+      accessCache.getObject().evictRoom(roomId);
+    }
+  }
+}
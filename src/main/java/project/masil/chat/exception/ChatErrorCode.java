@@ -17,6 +17,7 @@ import project.masil.global.exception.model.BaseErrorCode;
  *   · 403 Forbidden    : 방 참여자가 아닌 접근/구독/전송
  *   · 404 Not Found    : 리소스(방 등) 없음
  *   · 409 Conflict     : 동시성/유니크 충돌
+ *   · 503 Unavailable  : 메시지 저장 대기열 포화
  */
 @Getter
 @AllArgsConstructor
@@ -40,6 +41,15 @@ public enum ChatErrorCode implements BaseErrorCode {
   /** 메시지 길이 초과 */
   MESSAGE_TOO_LONG("CHAT-400-MSG-LEN", "메시지 길이는 1000자를 초과할 수 없습니다.", HttpStatus.BAD_REQUEST),
 
+  /** 커서 메시지가 없거나 다른 방의 메시지 */
+  INVALID_MESSAGE_CURSOR("CHAT-400-CURSOR", "유효하지 않은 메시지 커서입니다.", HttpStatus.BAD_REQUEST),
+
+  /** 채팅방 목록 커서 형식 오류 */
+  INVALID_ROOM_CURSOR("CHAT-400-ROOM-CURSOR", "유효하지 않은 채팅방 목록 커서입니다.", HttpStatus.BAD_REQUEST),
+
+  /** before/after 커서를 동시에 지정 */
+  CURSOR_CONFLICT("CHAT-400-CURSOR-BOTH", "before와 after는 함께 사용할 수 없습니다.", HttpStatus.BAD_REQUEST),
+
   /** 지원하지 않는 컨텍스트 타입 */
   INVALID_CONTEXT_TYPE("CHAT-400-CTX-TYPE", "지원하지 않는 컨텍스트 타입입니다.", HttpStatus.BAD_REQUEST),
 
@@ -49,6 +59,9 @@ public enum ChatErrorCode implements BaseErrorCode {
    */
   ROOM_CREATE_CONFLICT("CHAT-409-ROOM", "채팅방 생성 중 충돌이 발생했습니다. 잠시 후 다시 시도해 주세요.", HttpStatus.CONFLICT),
 
+  /** 그룹 커밋 대기열이 가득 참 (chat.write.group-commit=true) */
+  MESSAGE_QUEUE_FULL("CHAT-503-QUEUE", "메시지 전송이 몰려 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.", HttpStatus.SERVICE_UNAVAILABLE),
+
   /* ───── WebSocket/STOMP 관련 ───── */
   WEBSOCKET_UNAUTHORIZED("CHAT-401-WS", "WebSocket 인증 정보가 없습니다.", HttpStatus.UNAUTHORIZED),
   SUBSCRIPTION_FORBIDDEN("CHAT-403-SUB", "구독 권한이 없습니다(방 참여자가 아님).", HttpStatus.FORBIDDEN);
@@ -1,23 +1,62 @@
 package project.masil.chat.repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import project.masil.chat.entity.ChatMessage;
 
 /**
  * 채팅 메시지 레포지토리
  * - 특정 방 메시지를 시간 오름차순으로 페이징 조회(대화 흐름 자연스럽게)
+ * - 커서(메시지 ID) 기반 조회: idx_msg_room_created(room_id, createdAt [, id]) 범위 스캔 + LIMIT, COUNT 없음
  */
 @Repository
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
 
   /**
-   * 메시지를 시간 순서대로 정렬해서 페이징 조회
+   * 메시지를 시간 순서대로 정렬해서 페이징 조회 (그룹 커밋 배치는 createdAt 이 같으므로 id 로 저장 순서 보장)
    * @param roomId
    * @param pageable
    * @return
    */
-  Page<ChatMessage> findByRoomIdOrderByCreatedAtAsc(Long roomId, Pageable pageable);
+  Page<ChatMessage> findByRoomIdOrderByCreatedAtAscIdAsc(Long roomId, Pageable pageable);
+
+  /**
+   * 가장 최근 메시지부터 (최신순, Pageable 은 LIMIT 용도로만 사용 → COUNT 쿼리 없음)
+   */
+  @Query("""
+         select m from ChatMessage m
+         where m.room.id = :roomId
+         order by m.createdAt desc, m.id desc
+""")
+  List<ChatMessage> findLatest(@Param("roomId") Long roomId, Pageable limit);
+
+  /**
+   * 커서(createdAt, id) 이전 메시지 (최신순)
+   */
+  @Query("""
+         select m from ChatMessage m
+         where m.room.id = :roomId
+           and (m.createdAt < :createdAt or (m.createdAt = :createdAt and m.id < :id))
+         order by m.createdAt desc, m.id desc
+""")
+  List<ChatMessage> findBefore(@Param("roomId") Long roomId,
+      @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable limit);
+
+  /**
+   * 커서(createdAt, id) 이후 메시지 (오래된순)
+   */
+  @Query("""
+         select m from ChatMessage m
+         where m.room.id = :roomId
+           and (m.createdAt > :createdAt or (m.createdAt = :createdAt and m.id > :id))
+         order by m.createdAt asc, m.id asc
+""")
+  List<ChatMessage> findAfter(@Param("roomId") Long roomId,
+      @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable limit);
 }
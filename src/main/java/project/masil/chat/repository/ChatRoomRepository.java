@@ -1,12 +1,18 @@
 package project.masil.chat.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import project.masil.chat.entity.ChatRoom;
 import project.masil.chat.enums.ChatContextType;
 
@@ -14,9 +20,11 @@ import project.masil.chat.enums.ChatContextType;
  * 채팅방 레포지토리
  * - 단일 방 조회 (contextType, contextId, userAId, userBId)
  * - 내 방 목록 조회 : userId 하나만 받아서 userA==userId OR userB==userId
+ * - 내 방 목록 keyset 조회 : ChatRoomSpecs (A측/B측 각각 인덱스 순서로 읽어 병합)
  */
 @Repository
-public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
+public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long>,
+    JpaSpecificationExecutor<ChatRoom> {
 
   /**
    *
@@ -43,6 +51,121 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
 """)
   Page<ChatRoom> findMyRooms(@Param("userId") Long userId, Pageable pageable);
 
+  /**
+   * 방 참여자 여부 (엔티티 로딩 없이)
+   * - STOMP SUBSCRIBE/SEND 권한 체크용
+   */
+  @Query("""
+         select count(room) > 0
+         from ChatRoom room
+         where room.id = :roomId
+           and (room.userAId = :userId or room.userBId = :userId)
+""")
+  boolean existsParticipant(@Param("roomId") Long roomId, @Param("userId") Long userId);
+
+  /**
+   * userIds 각각의 대화 상대 (접속 상태 알림 대상)
+   * - [userAId, userBId] 쌍 목록, OR 대신 A측/B측을 나눠 각 인덱스로 조회
+   */
+  @Query("""
+         select room.userAId, room.userBId
+         from ChatRoom room
+         where room.userAId in :userIds
+""")
+  List<Object[]> findPairsOnSideA(@Param("userIds") Collection<Long> userIds);
+
+  @Query("""
+         select room.userAId, room.userBId
+         from ChatRoom room
+         where room.userBId in :userIds
+""")
+  List<Object[]> findPairsOnSideB(@Param("userIds") Collection<Long> userIds);
+
+  /**
+   * 새 메시지 반영 (원자적 update, 엔티티 read-modify-write 없음)
+   * - 최근 메시지 캐시: 더 최신 메시지일 때만 갱신 (동시 전송 시 순서 역전 방지)
+   * - 상대방 unread + delta (delta = 0 이면 unread 는 그대로, 코얼레싱 모드)
+   */
+  @Transactional
+  @Modifying(flushAutomatically = true)
+  @Query("""
+         update ChatRoom room
+         set room.lastMessage = case when room.lastMessageAt is null or room.lastMessageAt <= :at
+                                     then :content else room.lastMessage end,
+             room.lastMessageAt = case when room.lastMessageAt is null or room.lastMessageAt <= :at
+                                       then :at else room.lastMessageAt end,
+             room.unreadCountA = room.unreadCountA
+                                 + case when room.userBId = :senderId then :delta else 0 end,
+             room.unreadCountB = room.unreadCountB
+                                 + case when room.userAId = :senderId then :delta else 0 end
+         where room.id = :roomId
+""")
+  int applyMessage(@Param("roomId") Long roomId, @Param("senderId") Long senderId,
+      @Param("content") String content, @Param("at") LocalDateTime at,
+      @Param("delta") int delta);
 
+  /**
+   * senderId 가 보낸 메시지 delta 건만큼 상대방 unread 증가 (코얼레싱 flush)
+   */
+  @Transactional
+  @Modifying
+  @Query("""
+         update ChatRoom room
+         set room.unreadCountA = room.unreadCountA
+                                 + case when room.userBId = :senderId then :delta else 0 end,
+             room.unreadCountB = room.unreadCountB
+                                 + case when room.userAId = :senderId then :delta else 0 end
+         where room.id = :roomId
+""")
+  int addUnread(@Param("roomId") Long roomId, @Param("senderId") Long senderId,
+      @Param("delta") int delta);
+
+  /**
+   * senderId 가 보낸 메시지를 받는 사람의 읽음 기준 시각 (한 번도 안 읽었거나 방이 없으면 null)
+   */
+  @Query("""
+         select case when room.userAId = :senderId then room.lastReadAtB else room.lastReadAtA end
+         from ChatRoom room
+         where room.id = :roomId
+""")
+  LocalDateTime findReadAtOfReceiver(@Param("roomId") Long roomId,
+      @Param("senderId") Long senderId);
+
+  /**
+   * 코얼레싱 flush: 받는 사람의 읽음 기준 시각이 조회한 값(readAt, 없으면 NEVER_READ) 그대로일 때만 delta 반영
+   * (그 사이 읽음 처리가 끼어들면 0건 → 다시 계산)
+   */
+  @Transactional
+  @Modifying
+  @Query("""
+         update ChatRoom room
+         set room.unreadCountA = room.unreadCountA
+                                 + case when room.userBId = :senderId then :delta else 0 end,
+             room.unreadCountB = room.unreadCountB
+                                 + case when room.userAId = :senderId then :delta else 0 end
+         where room.id = :roomId
+           and coalesce(case when room.userAId = :senderId then room.lastReadAtB
+                             else room.lastReadAtA end, :never) = :readAt
+""")
+  int addUnreadIfReadAt(@Param("roomId") Long roomId, @Param("senderId") Long senderId,
+      @Param("delta") int delta, @Param("readAt") LocalDateTime readAt,
+      @Param("never") LocalDateTime never);
+
+  /**
+   * userId 본인 기준 unread = 0 (읽음 처리) + 읽음 기준 시각 = 현재 최근 메시지 시각
+   */
+  @Transactional
+  @Modifying(flushAutomatically = true)
+  @Query("""
+         update ChatRoom room
+         set room.unreadCountA = case when room.userAId = :userId then 0 else room.unreadCountA end,
+             room.unreadCountB = case when room.userBId = :userId then 0 else room.unreadCountB end,
+             room.lastReadAtA = case when room.userAId = :userId then room.lastMessageAt
+                                     else room.lastReadAtA end,
+             room.lastReadAtB = case when room.userBId = :userId then room.lastMessageAt
+                                     else room.lastReadAtB end
+         where room.id = :roomId
+""")
+  int resetUnread(@Param("roomId") Long roomId, @Param("userId") Long userId);
 
 }
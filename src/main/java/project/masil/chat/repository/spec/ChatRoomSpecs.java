@@ -0,0 +1,49 @@
+package project.masil.chat.repository.spec;
+
+import java.time.LocalDateTime;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import project.masil.chat.entity.ChatRoom;
+
+/**
+ * 내 채팅방 목록 keyset 조회 조건
+ * - A측(userAId)/B측(userBId)을 따로 조회해 각 인덱스(user_x_id, last_message_at, id)를 정렬 순서대로 읽는다
+ * - 정렬: lastMessageAt desc (메시지 없는 방(null)은 맨 뒤), id desc
+ */
+public final class ChatRoomSpecs {
+
+  public static final String SIDE_A = "userAId";
+  public static final String SIDE_B = "userBId";
+
+  /** 목록 정렬 (MySQL 은 DESC 정렬에서 NULL 을 마지막에 둔다) */
+  public static final Sort RECENT_FIRST = Sort.by(Sort.Order.desc("lastMessageAt"),
+      Sort.Order.desc("id"));
+
+  private ChatRoomSpecs() {
+  }
+
+  /** side(userAId/userBId) = userId */
+  public static Specification<ChatRoom> participantOn(String side, Long userId) {
+    return (root, q, cb) -> cb.equal(root.get(side), userId);
+  }
+
+  /**
+   * 커서(lastMessageAt, id) 다음 행
+   * - lastMessageAt 이 null 인 커서는 메시지 없는 방 구간 안에서 id 로만 이어간다
+   */
+  public static Specification<ChatRoom> after(LocalDateTime lastMessageAt, Long roomId) {
+    if (roomId == null) {
+      return null;
+    }
+    if (lastMessageAt == null) {
+      return (root, q, cb) -> cb.and(
+          cb.isNull(root.get("lastMessageAt")),
+          cb.lessThan(root.get("id"), roomId));
+    }
+    return (root, q, cb) -> cb.or(
+        cb.lessThan(root.get("lastMessageAt"), lastMessageAt),
+        cb.and(cb.equal(root.get("lastMessageAt"), lastMessageAt),
+            cb.lessThan(root.get("id"), roomId)),
+        cb.isNull(root.get("lastMessageAt")));
+  }
+}
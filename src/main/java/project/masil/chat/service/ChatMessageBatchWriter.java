@@ -0,0 +1,324 @@
+package project.masil.chat.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import project.masil.chat.converter.ChatConverter;
+import project.masil.chat.dto.request.SendMessageRequest;
+import project.masil.chat.dto.response.ChatMessageResponse;
+import project.masil.chat.dto.response.ChatSendResult;
+import project.masil.chat.entity.ChatRoom;
+import project.masil.chat.exception.ChatErrorCode;
+import project.masil.chat.repository.ChatRoomRepository;
+import project.masil.global.config.props.ChatProps;
+import project.masil.global.exception.CustomException;
+import project.masil.notification.enums.NotificationType;
+import project.masil.notification.event.NotificationEvent;
+import project.masil.notification.service.NotificationPublisher;
+
+/**
+ * WebSocket 메시지 그룹 커밋 저장기 (chat.write.group-commit=true 일 때만 동작).
+ * <p>
+ * - 메시지를 방 ID 기준 샤드 큐에 넣고, 샤드마다 스레드 하나가 순서대로 꺼내 max-batch 건 / max-delay 단위로 저장한다
+ *   (같은 방은 항상 같은 스레드 → 방별 순서 보장)
+ * - 배치 하나 = 트랜잭션 하나: 방 일괄 조회, chat_message JDBC batch insert, 방당 update 1회
+ * - 결과(Future)는 커밋 후에 완료되므로 푸시는 저장이 확정된 메시지만 나간다
+ * - 배치 저장이 실패하면 건별로 기존 단건 트랜잭션({@link ChatService#sendMessageWithRows})으로 다시 저장해 실패를 격리한다
+ * - 한 배치의 메시지는 createdAt 이 같다: 조회는 (createdAt, id) 순서 (id 는 큐 순서대로 발급)
+ * - 종료 중(남은 큐 저장 중)에는 새 메시지를 거절한다. 단건 경로로 우회하면 큐에 남은 메시지보다 먼저 저장될 수 있음
+ * <p>
+ * MySQL 에서 실제로 한 번에 전송되려면 DB_URL 에 rewriteBatchedStatements=true 가 필요하다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageBatchWriter {
+
+  // PhysicalNamingStrategyStandardImpl: 감사 컬럼은 필드명 그대로
+  private static final String INSERT_SQL = """
+      insert into chat_message (room_id, sender_id, content, createdAt, updatedAt)
+      values (?, ?, ?, ?, ?)
+      """;
+
+  private final ChatProps chatProps;
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final ChatRoomRepository roomRepository;
+  private final ChatUnreadCounter unreadCounter;
+  private final ChatConverter converter;
+  private final ChatRoomListCache roomListCache;
+  private final ChatService chatService;
+  private final NotificationPublisher notificationPublisher;
+
+  private final List<BlockingQueue<Pending>> shards = new ArrayList<>();
+  private ExecutorService writers;
+  private volatile boolean running;
+  // 새 메시지를 받는 중 (종료 시작 시 false, 그 뒤에도 큐에 남은 메시지는 저장)
+  private volatile boolean accepting;
+
+  @PostConstruct
+  public void start() {
+    ChatProps.Write props = chatProps.getWrite();
+    if (!props.isGroupCommit()) {
+      return;
+    }
+    AtomicInteger seq = new AtomicInteger();
+    writers = Executors.newFixedThreadPool(props.getShards(), r -> {
+      Thread t = new Thread(r, "chat-write-" + seq.getAndIncrement());
+      t.setDaemon(true);
+      return t;
+    });
+    running = true;
+    accepting = true;
+    for (int i = 0; i < props.getShards(); i++) {
+      BlockingQueue<Pending> queue = new ArrayBlockingQueue<>(props.getQueueCapacity());
+      shards.add(queue);
+      writers.execute(() -> drain(queue));
+    }
+    log.info("[채팅] 그룹 커밋 저장 (shards={}, max-batch={}, max-delay={}ms)", props.getShards(),
+        props.getMaxBatch(), props.getMaxDelay().toMillis());
+  }
+
+  @PreDestroy
+  public void stop() throws InterruptedException {
+    if (writers == null) {
+      return;
+    }
+    // 새 메시지는 받지 않고, 큐에 남은 메시지는 저장한 뒤 종료
+    accepting = false;
+    running = false;
+    writers.shutdown();
+    writers.awaitTermination(10, TimeUnit.SECONDS);
+    // 시간 안에 저장하지 못한 메시지는 실패로 알림
+    for (BlockingQueue<Pending> queue : shards) {
+      Pending left;
+      while ((left = queue.poll()) != null) {
+        left.result().completeExceptionally(new CustomException(ChatErrorCode.MESSAGE_QUEUE_FULL));
+      }
+    }
+  }
+
+  /**
+   * 그룹 커밋 사용 여부 (종료 중에도 true: 단건 경로로 우회하지 않고 submit 에서 거절)
+   */
+  public boolean isEnabled() {
+    return writers != null;
+  }
+
+  /**
+   * 메시지 저장 요청. 본문 검증 실패/대기열 포화는 즉시 CustomException, 방 권한 오류는 Future 로 전달된다.
+   *
+   * @return 커밋 후 완료되는 저장 결과
+   */
+  public CompletableFuture<ChatSendResult> submit(Long roomId, Long senderId,
+      SendMessageRequest request) {
+    Pending pending = new Pending(roomId, senderId, request,
+        ChatServiceImpl.validContent(request), new CompletableFuture<>());
+    if (!accepting) {
+      throw new CustomException(ChatErrorCode.MESSAGE_QUEUE_FULL);
+    }
+    BlockingQueue<Pending> queue = shards.get(Math.floorMod(roomId, shards.size()));
+    try {
+      // 가득 차면 잠시 기다린다 (인바운드 스레드에 대한 배압). 단건 저장으로 우회하면 방별 순서가 깨지므로 거절
+      if (!queue.offer(pending, chatProps.getWrite().getEnqueueTimeout().toMillis(),
+          TimeUnit.MILLISECONDS)) {
+        throw new CustomException(ChatErrorCode.MESSAGE_QUEUE_FULL);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CustomException(ChatErrorCode.MESSAGE_QUEUE_FULL);
+    }
+    // 넣는 사이에 종료가 시작됐으면 저장기가 이미 끝났을 수 있음 → 아직 큐에 있으면 거절
+    if (!accepting && queue.remove(pending)) {
+      throw new CustomException(ChatErrorCode.MESSAGE_QUEUE_FULL);
+    }
+    return pending.result();
+  }
+
+  private void drain(BlockingQueue<Pending> queue) {
+    ChatProps.Write props = chatProps.getWrite();
+    long maxDelayNanos = props.getMaxDelay().toNanos();
+    List<Pending> batch = new ArrayList<>(props.getMaxBatch());
+    while (running || !queue.isEmpty()) {
+      try {
+        Pending first = queue.poll(100, TimeUnit.MILLISECONDS);
+        if (first == null) {
+          continue;
+        }
+        batch.add(first);
+        queue.drainTo(batch, props.getMaxBatch() - batch.size());
+        long deadline = System.nanoTime() + maxDelayNanos;
+        while (batch.size() < props.getMaxBatch()) {
+          long left = deadline - System.nanoTime();
+          Pending next = left > 0 ? queue.poll(left, TimeUnit.NANOSECONDS) : null;
+          if (next == null) {
+            break;
+          }
+          batch.add(next);
+          queue.drainTo(batch, props.getMaxBatch() - batch.size());
+        }
+        write(batch);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } catch (RuntimeException e) {
+        log.error("[채팅] 그룹 커밋 처리 오류: {}", e.getMessage(), e);
+        batch.forEach(p -> p.result().completeExceptionally(e));
+      } finally {
+        batch.clear();
+      }
+    }
+  }
+
+  private void write(List<Pending> batch) {
+    List<Written> written;
+    try {
+      written = transactionTemplate.execute(status -> insertBatch(batch));
+    } catch (RuntimeException e) {
+      log.warn("[채팅] 메시지 배치 {}건 저장 실패, 건별 재시도: {}", batch.size(), e.getMessage());
+      batch.stream().filter(p -> !p.result().isDone()).forEach(this::writeOne);
+      return;
+    }
+
+    // 커밋 이후: 목록 캐시 갱신 + 결과 전달(푸시)
+    for (Written w : written) {
+      ChatSendResult result = w.result();
+      roomListCache.upsert(w.pending().senderId(), result.getSenderRoomRow());
+      roomListCache.upsert(result.getOtherUserId(), result.getOtherRoomRow());
+      w.pending().result().complete(result);
+    }
+  }
+
+  private void writeOne(Pending p) {
+    try {
+      p.result().complete(chatService.sendMessageWithRows(p.roomId(), p.senderId(), p.request()));
+    } catch (RuntimeException e) {
+      p.result().completeExceptionally(e);
+    }
+  }
+
+  // 트랜잭션 안: 방 일괄 조회/권한 확인 → batch insert → 방별 update → 응답 구성
+  private List<Written> insertBatch(List<Pending> batch) {
+    Map<Long, ChatRoom> rooms = roomRepository.findAllById(
+            batch.stream().map(Pending::roomId).collect(Collectors.toSet()))
+        .stream()
+        .collect(Collectors.toMap(ChatRoom::getId, Function.identity()));
+
+    List<Pending> accepted = new ArrayList<>(batch.size());
+    for (Pending p : batch) {
+      ChatRoom room = rooms.get(p.roomId());
+      if (room == null) {
+        p.result().completeExceptionally(new CustomException(ChatErrorCode.ROOM_NOT_FOUND));
+      } else if (!room.hasParticipant(p.senderId())) {
+        p.result().completeExceptionally(
+            new CustomException(ChatErrorCode.FORBIDDEN_ROOM_ACCESS));
+      } else {
+        accepted.add(p);
+      }
+    }
+    if (accepted.isEmpty()) {
+      return List.of();
+    }
+
+    LocalDateTime now = LocalDateTime.now();
+    Timestamp ts = Timestamp.valueOf(now);
+    KeyHolder keys = new GeneratedKeyHolder();
+    jdbcTemplate.batchUpdate(
+        con -> con.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+        new BatchPreparedStatementSetter() {
+          @Override
+          public void setValues(PreparedStatement ps, int i) throws SQLException {
+            Pending p = accepted.get(i);
+            ps.setLong(1, p.roomId());
+            ps.setLong(2, p.senderId());
+            ps.setString(3, p.content());
+            ps.setTimestamp(4, ts);
+            ps.setTimestamp(5, ts);
+          }
+
+          @Override
+          public int getBatchSize() {
+            return accepted.size();
+          }
+        },
+        keys);
+    List<Map<String, Object>> keyList = keys.getKeyList();
+
+    // 방별로 한 번만 update: 최근 메시지는 방의 마지막 메시지, unread 는 보낸 사람별 건수
+    Map<Long, List<Pending>> byRoom = new LinkedHashMap<>();
+    accepted.forEach(p -> byRoom.computeIfAbsent(p.roomId(), k -> new ArrayList<>()).add(p));
+    byRoom.forEach((roomId, messages) -> {
+      Pending last = messages.get(messages.size() - 1);
+      Map<Long, Integer> sentBy = new HashMap<>();
+      messages.forEach(p -> sentBy.merge(p.senderId(), 1, Integer::sum));
+      unreadCounter.onMessages(roomId, last.senderId(), last.content(), now, sentBy);
+    });
+
+    // 메시지 순서대로 엔티티 메모리 값을 맞추며 각 시점의 목록 행 구성 (컬럼은 updatable=false)
+    List<Written> written = new ArrayList<>(accepted.size());
+    List<NotificationEvent> notifications = new ArrayList<>(accepted.size());
+    for (int i = 0; i < accepted.size(); i++) {
+      Pending p = accepted.get(i);
+      ChatRoom room = rooms.get(p.roomId());
+      room.setLastMessage(p.content());
+      room.setLastMessageAt(now);
+      room.increaseUnreadForOther(p.senderId());
+
+      Long otherUserId = room.getUserAId().equals(p.senderId())
+          ? room.getUserBId() : room.getUserAId();
+      notifications.add(NotificationEvent.to(NotificationType.CHAT_MESSAGE, otherUserId,
+          p.senderId(), null, p.roomId()));
+      ChatMessageResponse message = ChatMessageResponse.builder()
+          .messageId(((Number) keyList.get(i).values().iterator().next()).longValue())
+          .roomId(p.roomId())
+          .senderId(p.senderId())
+          .content(p.content())
+          .createdAt(now)
+          .build();
+      written.add(new Written(p, ChatSendResult.builder()
+          .message(message)
+          .otherUserId(otherUserId)
+          .senderRoomRow(converter.toRoomResponse(room, p.senderId()))
+          .otherRoomRow(converter.toRoomResponse(room, otherUserId))
+          .build()));
+    }
+    // 알림은 같은 트랜잭션에서 아웃박스에 한 번에 기록
+    notificationPublisher.publishAll(notifications);
+    return written;
+  }
+
+  private record Pending(Long roomId, Long senderId, SendMessageRequest request, String content,
+                         CompletableFuture<ChatSendResult> result) {
+
+  }
+
+  private record Written(Pending pending, ChatSendResult result) {
+
+  }
+}
@@ -0,0 +1,148 @@
+package project.masil.chat.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+import project.masil.chat.dto.response.ChatPresenceResponse;
+import project.masil.chat.dto.response.ChatTypingResponse;
+import project.masil.chat.entity.ChatRoom;
+import project.masil.chat.exception.ChatErrorCode;
+import project.masil.chat.repository.ChatRoomRepository;
+import project.masil.chat.websocket.ChatPresenceRegistry;
+import project.masil.global.config.props.ChatProps;
+import project.masil.global.exception.CustomException;
+import project.masil.global.util.FixedDelayLoop;
+
+/**
+ * 접속 상태 / 입력 중 표시.
+ * <p>
+ * - 접속 상태: ChatPresenceRegistry 의 변경분을 flush-interval 마다 모아, 접속 중인 대화 상대에게 받는 사람당 한 번
+ *   "/user/queue/presence" 로 보낸다 (목록 폴링 대신 구독)
+ * - 입력 중: (사용자, 방) 당 typing-throttle 에 한 번만 상대방 "/user/queue/typing" 으로 전달, 상대가 이 노드에 없으면 생략
+ */
+@Slf4j
+@Service
+public class ChatPresenceService {
+
+  private static final String PRESENCE_DEST = "/queue/presence";
+  private static final String TYPING_DEST = "/queue/typing";
+  // 대화 상대 조회 시 IN 절 최대 크기
+  private static final int PARTNER_CHUNK = 500;
+
+  private final ChatPresenceRegistry registry;
+  private final ChatRoomRepository roomRepository;
+  private final SimpMessagingTemplate broker;
+  private final ChatProps chatProps;
+
+  // (userId, roomId) -> 최근 전달 여부, typing-throttle 후 만료
+  private final Cache<TypingKey, Boolean> typingSent;
+  private FixedDelayLoop flusher;
+
+  public ChatPresenceService(ChatPresenceRegistry registry, ChatRoomRepository roomRepository,
+      SimpMessagingTemplate broker, ChatProps chatProps) {
+    this.registry = registry;
+    this.roomRepository = roomRepository;
+    this.broker = broker;
+    this.chatProps = chatProps;
+    this.typingSent = Caffeine.newBuilder()
+        .maximumSize(chatProps.getPresence().getTypingMaxEntries())
+        .expireAfterWrite(chatProps.getPresence().getTypingThrottle())
+        .build();
+  }
+
+  @PostConstruct
+  public void start() {
+    flusher = FixedDelayLoop.start("chat-presence-flush",
+        chatProps.getPresence().getFlushInterval(), this::flush);
+  }
+
+  @PreDestroy
+  public void stop() {
+    if (flusher != null) {
+      flusher.close();
+    }
+  }
+
+  /**
+   * 내 대화 상대들의 접속 여부 (화면 진입 시 1회, 이후 변경은 구독으로 받는다)
+   */
+  public ChatPresenceResponse getPartnerPresence(Long userId) {
+    Map<Long, Boolean> online = new HashMap<>();
+    partnersOf(List.of(userId)).getOrDefault(userId, Set.of())
+        .forEach(partner -> online.put(partner, registry.isOnline(partner)));
+    return ChatPresenceResponse.builder().online(online).build();
+  }
+
+  /**
+   * 입력 중 이벤트 (STOMP SEND 권한 검사는 인터셉터에서 완료)
+   */
+  public void typing(Long roomId, Long userId) {
+    if (typingSent.asMap().putIfAbsent(new TypingKey(userId, roomId), Boolean.TRUE) != null) {
+      return;
+    }
+    ChatRoom room = roomRepository.findById(roomId)
+        .orElseThrow(() -> new CustomException(ChatErrorCode.ROOM_NOT_FOUND));
+    Long otherUserId = room.getUserAId().equals(userId) ? room.getUserBId() : room.getUserAId();
+    if (!registry.isOnline(otherUserId)) {
+      return;
+    }
+    broker.convertAndSendToUser(String.valueOf(otherUserId), TYPING_DEST,
+        ChatTypingResponse.builder().roomId(roomId).userId(userId).build());
+  }
+
+  void flush() {
+    List<Long> changed = registry.drainChanged();
+    if (changed.isEmpty()) {
+      return;
+    }
+    // 받는 사람(접속 중인 대화 상대) -> 바뀐 사용자 상태
+    Map<Long, Map<Long, Boolean>> diffs = new HashMap<>();
+    partnersOf(changed).forEach((userId, partners) -> {
+      boolean online = registry.isOnline(userId);
+      for (Long partner : partners) {
+        if (registry.isOnline(partner)) {
+          diffs.computeIfAbsent(partner, k -> new HashMap<>()).put(userId, online);
+        }
+      }
+    });
+    diffs.forEach((recipient, diff) -> broker.convertAndSendToUser(String.valueOf(recipient),
+        PRESENCE_DEST, ChatPresenceResponse.builder().online(diff).build()));
+    log.debug("[채팅] 접속 상태 변경 {}명 → 알림 {}명", changed.size(), diffs.size());
+  }
+
+  // userId -> 대화 상대 ID 집합
+  private Map<Long, Set<Long>> partnersOf(List<Long> userIds) {
+    Map<Long, Set<Long>> partners = new HashMap<>();
+    for (int from = 0; from < userIds.size(); from += PARTNER_CHUNK) {
+      List<Long> chunk = userIds.subList(from, Math.min(userIds.size(), from + PARTNER_CHUNK));
+      Set<Long> wanted = new HashSet<>(chunk);
+      List<Object[]> pairs = new ArrayList<>(roomRepository.findPairsOnSideA(chunk));
+      pairs.addAll(roomRepository.findPairsOnSideB(chunk));
+      for (Object[] pair : pairs) {
+        Long a = (Long) pair[0];
+        Long b = (Long) pair[1];
+        if (wanted.contains(a)) {
+          partners.computeIfAbsent(a, k -> new HashSet<>()).add(b);
+        }
+        if (wanted.contains(b)) {
+          partners.computeIfAbsent(b, k -> new HashSet<>()).add(a);
+        }
+      }
+    }
+    return partners;
+  }
+
+  private record TypingKey(Long userId, Long roomId) {
+
+  }
+}
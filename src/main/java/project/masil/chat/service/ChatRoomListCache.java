@@ -0,0 +1,102 @@
+package project.masil.chat.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import org.springframework.stereotype.Component;
+import project.masil.chat.dto.response.ChatRoomResponse;
+import project.masil.global.config.props.ChatProps;
+
+/**
+ * 사용자별 최근 채팅방 목록(앞부분 head-size 행) 메모리 캐시.
+ * <p>
+ * - 목록 첫 페이지 폴링은 DB 없이 응답
+ * - 메시지 전송 시 양쪽 사용자 행을 맨 앞으로, 읽음 처리 시 내 행의 unread 를 0 으로 갱신
+ * - 캐시에 없는 사용자는 갱신하지 않는다 (다음 조회 때 DB 에서 채움)
+ */
+@Component
+public class ChatRoomListCache {
+
+  /** 목록 정렬: lastMessageAt desc (null 은 마지막), roomId desc */
+  static final Comparator<ChatRoomResponse> RECENT_FIRST = Comparator
+      .comparing(ChatRoomResponse::getLastMessageAt,
+          Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()))
+      .thenComparing(ChatRoomResponse::getRoomId)
+      .reversed();
+
+  private final int headSize;
+  private final Cache<Long, Head> heads;
+
+  public ChatRoomListCache(ChatProps chatProps) {
+    ChatProps.RoomList props = chatProps.getRoomList();
+    this.headSize = props.getHeadSize();
+    this.heads = Caffeine.newBuilder()
+        .maximumSize(props.getMaxUsers())
+        .expireAfterWrite(props.getTtl())
+        .build();
+  }
+
+  public int headSize() {
+    return headSize;
+  }
+
+  /**
+   * 목록 앞부분 (없으면 null)
+   *
+   * @return complete=true 면 rows 가 사용자의 전체 목록
+   */
+  public Head get(Long userId) {
+    return heads.getIfPresent(userId);
+  }
+
+  public void put(Long userId, List<ChatRoomResponse> rows, boolean complete) {
+    List<ChatRoomResponse> head = rows.size() > headSize ? rows.subList(0, headSize) : rows;
+    heads.put(userId, new Head(List.copyOf(head), complete && rows.size() <= headSize));
+  }
+
+  /**
+   * 행 갱신(새 메시지 등): 기존 행을 빼고 정렬 위치에 다시 넣는다
+   */
+  public void upsert(Long userId, ChatRoomResponse row) {
+    heads.asMap().computeIfPresent(userId, (k, head) -> {
+      List<ChatRoomResponse> rows = new ArrayList<>(head.rows());
+      rows.removeIf(r -> r.getRoomId().equals(row.getRoomId()));
+      // 앞부분 밖으로 밀려나는 행이면 넣지 않음 (남은 행은 여전히 올바른 앞부분)
+      if (!head.complete() && !rows.isEmpty()
+          && RECENT_FIRST.compare(row, rows.get(rows.size() - 1)) > 0) {
+        return new Head(List.copyOf(rows), false);
+      }
+      int idx = 0;
+      while (idx < rows.size() && RECENT_FIRST.compare(rows.get(idx), row) < 0) {
+        idx++;
+      }
+      rows.add(idx, row);
+      boolean complete = head.complete();
+      if (rows.size() > headSize) {
+        rows = rows.subList(0, headSize);
+        complete = false;
+      }
+      return new Head(List.copyOf(rows), complete);
+    });
+  }
+
+  /**
+   * 읽음 처리: 내 행의 unread = 0 (정렬 위치는 그대로)
+   */
+  public void markRead(Long userId, Long roomId) {
+    heads.asMap().computeIfPresent(userId, (k, head) -> new Head(head.rows().stream()
+        .map(r -> r.getRoomId().equals(roomId) ? r.toBuilder().myUnreadCount(0).build() : r)
+        .toList(), head.complete()));
+  }
+
+  public void evict(Long userId) {
+    heads.invalidate(userId);
+  }
+
+  public record Head(List<ChatRoomResponse> rows, boolean complete) {
+
+  }
+}
@@ -4,7 +4,10 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import project.masil.chat.dto.request.SendMessageRequest;
 import project.masil.chat.dto.response.ChatMessageResponse;
+import project.masil.chat.dto.response.ChatMessageSliceResponse;
 import project.masil.chat.dto.response.ChatRoomResponse;
+import project.masil.chat.dto.response.ChatRoomSliceResponse;
+import project.masil.chat.dto.response.ChatSendResult;
 import project.masil.chat.dto.response.ChatTargetResponse;
 import project.masil.chat.enums.ChatContextType;
 
@@ -49,6 +52,15 @@ public interface ChatService {
    */
   Page<ChatRoomResponse> getMyRooms(Long currentUserId, Pageable pageable);
 
+  /**
+   * 내 채팅방 목록 조회 (커서 기반, 최근 대화 순)
+   * @param currentUserId
+   * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+   * @param size
+   * @return
+   */
+  ChatRoomSliceResponse getMyRoomsByCursor(Long currentUserId, String cursor, int size);
+
   /**
    * 특정 방 메시지 조회(조회 시 unread = 0)
    * @param roomId
@@ -58,6 +70,21 @@ public interface ChatService {
    */
   Page<ChatMessageResponse> getMessages(Long roomId, Long currentUserId, Pageable pageable);
 
+  /**
+   * 커서 기반 메시지 조회 (OFFSET/COUNT 없음)
+   *  - before/after 모두 없으면 최신 메시지 size 건 (조회 시 unread = 0)
+   *  - before: 해당 메시지 이전(더 오래된) 메시지 size 건
+   *  - after : 해당 메시지 이후(더 최근) 메시지 size 건 (조회 시 unread = 0)
+   * @param roomId
+   * @param currentUserId
+   * @param before
+   * @param after
+   * @param size
+   * @return
+   */
+  ChatMessageSliceResponse getMessagesByCursor(Long roomId, Long currentUserId, Long before,
+      Long after, int size);
+
   /**
    * 메시지 전송 기능
    * @param roomId
@@ -67,6 +94,16 @@ public interface ChatService {
    */
   ChatMessageResponse sendMessage(Long roomId, Long senderId, SendMessageRequest request);
 
+  /**
+   * 메시지 전송 + 푸시에 필요한 값(상대방 ID, 양쪽 관점의 방 목록 행)을 한 번에 반환
+   * - WebSocket 전송 경로용: 방 조회 1회, 트랜잭션 1회
+   * @param roomId
+   * @param senderId
+   * @param request
+   * @return
+   */
+  ChatSendResult sendMessageWithRows(Long roomId, Long senderId, SendMessageRequest request);
+
 
   /**
    * [읽음 처리]
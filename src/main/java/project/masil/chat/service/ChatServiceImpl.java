@@ -1,15 +1,32 @@
 package project.masil.chat.service;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import project.masil.chat.converter.ChatConverter;
 import project.masil.chat.dto.request.SendMessageRequest;
 import project.masil.chat.dto.response.ChatMessageResponse;
+import project.masil.chat.dto.response.ChatMessageSliceResponse;
 import project.masil.chat.dto.response.ChatRoomResponse;
+import project.masil.chat.dto.response.ChatRoomSliceResponse;
+import project.masil.chat.dto.response.ChatSendResult;
 import project.masil.chat.dto.response.ChatTargetResponse;
 import project.masil.chat.entity.ChatMessage;
 import project.masil.chat.entity.ChatRoom;
@@ -17,6 +34,7 @@ import project.masil.chat.enums.ChatContextType;
 import project.masil.chat.exception.ChatErrorCode;
 import project.masil.chat.repository.ChatMessageRepository;
 import project.masil.chat.repository.ChatRoomRepository;
+import project.masil.chat.repository.spec.ChatRoomSpecs;
 import project.masil.community.exception.ClubPostErrorCode;
 import project.masil.community.exception.CommentErrorCode;
 import project.masil.community.exception.PostErrorCode;
@@ -24,7 +42,11 @@ import project.masil.community.service.ClubPostService;
 import project.masil.community.service.CommentService;
 import project.masil.community.service.EventPostService;
 import project.masil.global.exception.CustomException;
+import project.masil.notification.enums.NotificationType;
+import project.masil.notification.event.NotificationEvent;
+import project.masil.notification.service.NotificationPublisher;
 import project.masil.user.entity.User;
+import project.masil.user.exception.UserErrorCode;
 import project.masil.user.repository.UserRepository;
 
 /**
@@ -36,9 +58,21 @@ import project.masil.user.repository.UserRepository;
 @Transactional
 public class ChatServiceImpl implements ChatService{
 
+  private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
+  // 목록 병합 순서: lastMessageAt desc (메시지 없는 방은 마지막), id desc
+  private static final Comparator<ChatRoom> ROOM_RECENT_FIRST = Comparator
+      .comparing(ChatRoom::getLastMessageAt,
+          Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()))
+      .thenComparing(ChatRoom::getId)
+      .reversed();
+
   private final ChatRoomRepository roomRepository;
   private final ChatMessageRepository messageRepository;
   private final ChatConverter converter;
+  private final ChatUnreadCounter unreadCounter;
+  private final ChatRoomListCache roomListCache;
+  private final NotificationPublisher notificationPublisher;
 
   // 컨텍스트 ID 검증을 위한 의존성
   private final EventPostService eventPostService;
@@ -164,7 +198,11 @@ public class ChatServiceImpl implements ChatService{
         contextType, contextId, pair[0], pair[1]
     ).orElseGet(() -> {
       try {
-        // 채팅방 없을때만 생성 시도
+        // 채팅방 없을때만 생성 시도 (새 방이 생기면 두 사용자의 목록 캐시 무효화)
+        afterCommit(() -> {
+          roomListCache.evict(pair[0]);
+          roomListCache.evict(pair[1]);
+        });
         return roomRepository.save(
             ChatRoom.builder()
                 .contextType(contextType)
@@ -204,6 +242,117 @@ public class ChatServiceImpl implements ChatService{
         .map(room -> converter.toRoomResponse(room, currentUserId));
   }
 
+  /**
+   * 내 채팅방 목록 (커서 기반)
+   * - 첫 페이지는 사용자별 최근 목록 캐시에서 응답 (없으면 DB 에서 head-size 만큼 읽어 채움)
+   * - DB: A측/B측을 각각 (user_x_id, last_message_at, id) 인덱스 순서로 LIMIT 조회 후 병합 (OR/filesort/COUNT 없음)
+   * - 상대방 사용자 정보는 한 번에 조회
+   */
+  @Override
+  @Transactional(readOnly = true)
+  public ChatRoomSliceResponse getMyRoomsByCursor(Long currentUserId, String cursor, int size) {
+    int limit = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+
+    if (cursor == null || cursor.isBlank()) {
+      ChatRoomListCache.Head head = roomListCache.get(currentUserId);
+      if (head != null && (head.complete() || head.rows().size() > limit)) {
+        return toRoomSlice(head.rows(), limit);
+      }
+      // 캐시 채우기: 요청 크기와 head-size 중 큰 만큼 읽는다
+      int fetch = Math.max(limit, roomListCache.headSize());
+      List<ChatRoomResponse> rows = loadRoomRows(currentUserId, null, null, fetch + 1);
+      roomListCache.put(currentUserId, rows, rows.size() <= fetch);
+      return toRoomSlice(rows, limit);
+    }
+
+    RoomCursor c = RoomCursor.decode(cursor);
+    return toRoomSlice(loadRoomRows(currentUserId, c.lastMessageAt(), c.roomId(), limit + 1),
+        limit);
+  }
+
+  // A측/B측 keyset 조회 → 정렬 병합 → 상위 n 건 → 응답 행
+  private List<ChatRoomResponse> loadRoomRows(Long userId, LocalDateTime cursorAt,
+      Long cursorId, int n) {
+    List<ChatRoom> sideA = findRoomSide(ChatRoomSpecs.SIDE_A, userId, cursorAt, cursorId, n);
+    List<ChatRoom> sideB = findRoomSide(ChatRoomSpecs.SIDE_B, userId, cursorAt, cursorId, n);
+
+    List<ChatRoom> merged = new ArrayList<>(Math.min(n, sideA.size() + sideB.size()));
+    int i = 0;
+    int j = 0;
+    while (merged.size() < n && (i < sideA.size() || j < sideB.size())) {
+      if (j >= sideB.size()
+          || (i < sideA.size() && ROOM_RECENT_FIRST.compare(sideA.get(i), sideB.get(j)) <= 0)) {
+        merged.add(sideA.get(i++));
+      } else {
+        merged.add(sideB.get(j++));
+      }
+    }
+
+    Map<Long, User> targets = userRepository.findAllById(merged.stream()
+            .map(r -> r.getUserAId().equals(userId) ? r.getUserBId() : r.getUserAId())
+            .collect(Collectors.toSet()))
+        .stream()
+        .collect(Collectors.toMap(User::getId, Function.identity()));
+
+    List<ChatRoomResponse> rows = new ArrayList<>(merged.size());
+    for (ChatRoom room : merged) {
+      Long targetId = room.getUserAId().equals(userId) ? room.getUserBId() : room.getUserAId();
+      User target = targets.get(targetId);
+      if (target == null) {
+        throw new CustomException(UserErrorCode.USER_NOT_FOUND);
+      }
+      rows.add(converter.toRoomResponse(room, userId, target));
+    }
+    return rows;
+  }
+
+  private List<ChatRoom> findRoomSide(String side, Long userId, LocalDateTime cursorAt,
+      Long cursorId, int n) {
+    Specification<ChatRoom> spec = Specification.where(ChatRoomSpecs.participantOn(side, userId))
+        .and(ChatRoomSpecs.after(cursorAt, cursorId));
+    return roomRepository.findBy(spec, q -> q.sortBy(ChatRoomSpecs.RECENT_FIRST).limit(n).all());
+  }
+
+  // rows 는 limit + 1 건까지 (초과분으로 다음 페이지 판단)
+  private static ChatRoomSliceResponse toRoomSlice(List<ChatRoomResponse> rows, int limit) {
+    boolean hasNext = rows.size() > limit;
+    List<ChatRoomResponse> page = hasNext ? rows.subList(0, limit) : rows;
+    String nextCursor = null;
+    if (hasNext) {
+      ChatRoomResponse last = page.get(page.size() - 1);
+      nextCursor = new RoomCursor(last.getLastMessageAt(), last.getRoomId()).encode();
+    }
+    return ChatRoomSliceResponse.builder()
+        .rooms(List.copyOf(page))
+        .nextCursor(nextCursor)
+        .hasNext(hasNext)
+        .build();
+  }
+
+  /**
+   * 목록 커서 (lastMessageAt, roomId) - Base64URL("ISO시각|roomId"), 메시지 없는 방은 시각 자리에 "-"
+   */
+  private record RoomCursor(LocalDateTime lastMessageAt, Long roomId) {
+
+    String encode() {
+      String raw = (lastMessageAt == null ? "-" : lastMessageAt.toString()) + "|" + roomId;
+      return Base64.getUrlEncoder().withoutPadding()
+          .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static RoomCursor decode(String cursor) {
+      try {
+        String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        int sep = raw.indexOf('|');
+        String at = raw.substring(0, sep);
+        return new RoomCursor("-".equals(at) ? null : LocalDateTime.parse(at),
+            Long.valueOf(raw.substring(sep + 1)));
+      } catch (RuntimeException e) {
+        throw new CustomException(ChatErrorCode.INVALID_ROOM_CURSOR);
+      }
+    }
+  }
+
   /**
    * 메시지 조회
    * - 접근 권한(참여자) 검증
@@ -222,12 +371,66 @@ public class ChatServiceImpl implements ChatService{
       throw new CustomException(ChatErrorCode.FORBIDDEN_ROOM_ACCESS);
     }
 
-    room.resetUnreadFor(currentUserId);
+    resetUnread(room, currentUserId);
 
-    return messageRepository.findByRoomIdOrderByCreatedAtAsc(roomId, pageable)
+    return messageRepository.findByRoomIdOrderByCreatedAtAscIdAsc(roomId, pageable)
         .map(converter::toMessageResponse);
   }
 
+  /**
+   * 커서 기반 메시지 조회
+   * - size + 1 건을 읽어 다음 페이지 존재 여부를 판단 (COUNT 쿼리 없음)
+   * - 방의 전체 메시지 수와 무관하게 인덱스 범위 스캔 + LIMIT 비용만 든다
+   */
+  @Override
+  public ChatMessageSliceResponse getMessagesByCursor(Long roomId, Long currentUserId,
+      Long before, Long after, int size) {
+    if (before != null && after != null) {
+      throw new CustomException(ChatErrorCode.CURSOR_CONFLICT);
+    }
+    ChatRoom room = findRoomForParticipant(roomId, currentUserId);
+
+    int limit = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+    Pageable fetch = PageRequest.of(0, limit + 1);
+
+    List<ChatMessage> rows;
+    if (before != null) {
+      ChatMessage cursor = findCursor(roomId, before);
+      rows = messageRepository.findBefore(roomId, cursor.getCreatedAt(), cursor.getId(), fetch);
+    } else if (after != null) {
+      ChatMessage cursor = findCursor(roomId, after);
+      rows = messageRepository.findAfter(roomId, cursor.getCreatedAt(), cursor.getId(), fetch);
+    } else {
+      rows = messageRepository.findLatest(roomId, fetch);
+    }
+
+    boolean hasNext = rows.size() > limit;
+    List<ChatMessage> page = new ArrayList<>(hasNext ? rows.subList(0, limit) : rows);
+    // 최신/이전 조회는 최신순으로 읽었으므로 화면 표시 순서(오름차순)로 뒤집는다
+    boolean descending = after == null;
+    Long nextCursor = page.isEmpty() ? null : page.get(page.size() - 1).getId();
+    if (descending) {
+      Collections.reverse(page);
+    }
+
+    // 이전 메시지(스크롤 업) 조회가 아니면 읽음 처리
+    if (before == null) {
+      resetUnread(room, currentUserId);
+    }
+
+    return ChatMessageSliceResponse.builder()
+        .messages(page.stream().map(converter::toMessageResponse).toList())
+        .nextCursor(nextCursor)
+        .hasNext(hasNext)
+        .build();
+  }
+
+  private ChatMessage findCursor(Long roomId, Long messageId) {
+    return messageRepository.findById(messageId)
+        .filter(m -> m.getRoom().getId().equals(roomId))
+        .orElseThrow(() -> new CustomException(ChatErrorCode.INVALID_MESSAGE_CURSOR));
+  }
+
   /**
    * 메시지 전송(TEXT)
    *
@@ -239,11 +442,12 @@ public class ChatServiceImpl implements ChatService{
    *     - 지연로딩이라 실제 엔티티 조회는 필요할 때만 발생(성능 이점)
    *  3) 저장: messageRepository.save(...) → 커밋/flush 시 INSERT, createdAt은 JPA Auditing으로 자동
    *  4) 방 캐시 갱신:
-   *     - ChatRoom.lastMessage / lastMessageAt 즉시 갱신
+   *     - ChatRoom.lastMessage / lastMessageAt 즉시 갱신 (원자적 update, 더 최신 메시지일 때만)
    *     - 목록 화면에서 “최근 대화”를 빠르게 표시(메시지 테이블 재조회 비용 절감)
    *  5) 상대 unread+1:
    *     - 보낸 사람이 A면 B의 unread++, B면 A의 unread++
-   *     - room.increaseUnreadForOther(senderId) 호출로 ‘상대방’의 안읽음만 증가
+   *     - unread_count = unread_count + 1 원자적 update 로 ‘상대방’의 안읽음만 증가
+   *       (chat.unread.coalesce=true 면 ChatUnreadCounter 가 모아서 반영)
    *
    * @param roomId   채팅방 ID
    * @param senderId 보낸 사용자 ID
@@ -252,19 +456,57 @@ public class ChatServiceImpl implements ChatService{
    */
   @Override
   public ChatMessageResponse sendMessage(Long roomId, Long senderId, SendMessageRequest request) {
-    // 채팅방 존재 확인
+    ChatRoom room = findRoomForParticipant(roomId, senderId);
+    ChatMessage saved = saveMessage(room, senderId, request);
+    // 목록 행을 만들지 않는 경로이므로 두 사용자의 목록 캐시는 무효화
+    afterCommit(() -> {
+      roomListCache.evict(room.getUserAId());
+      roomListCache.evict(room.getUserBId());
+    });
+    return converter.toMessageResponse(saved);
+  }
+
+  /**
+   * 메시지 전송(WebSocket 경로)
+   * - 저장 로직은 sendMessage 와 동일
+   * - 이미 로딩한 방 엔티티로 상대방 ID와 양쪽 관점의 목록 행까지 만든다 (방 재조회/추가 트랜잭션 없음)
+   */
+  @Override
+  public ChatSendResult sendMessageWithRows(Long roomId, Long senderId,
+      SendMessageRequest request) {
+    ChatRoom room = findRoomForParticipant(roomId, senderId);
+    ChatMessage saved = saveMessage(room, senderId, request);
+
+    Long otherUserId = room.getUserAId().equals(senderId) ? room.getUserBId() : room.getUserAId();
+
+    ChatSendResult result = ChatSendResult.builder()
+        .message(converter.toMessageResponse(saved))
+        .otherUserId(otherUserId)
+        .senderRoomRow(converter.toRoomResponse(room, senderId))
+        .otherRoomRow(converter.toRoomResponse(room, otherUserId))
+        .build();
+
+    // 푸시하는 목록 행으로 두 사용자의 최근 목록 캐시도 갱신
+    afterCommit(() -> {
+      roomListCache.upsert(senderId, result.getSenderRoomRow());
+      roomListCache.upsert(otherUserId, result.getOtherRoomRow());
+    });
+    return result;
+  }
+
+  // 채팅방 존재 + 참여자 권한 확인
+  private ChatRoom findRoomForParticipant(Long roomId, Long userId) {
     ChatRoom room = roomRepository.findById(roomId)
         .orElseThrow(() -> new CustomException(ChatErrorCode.ROOM_NOT_FOUND));
-
-    // 접근 권한 확인(해당 방의 참여자가 맞는지)
-    if (!room.hasParticipant(senderId)) {
+    if (!room.hasParticipant(userId)) {
       throw new CustomException(ChatErrorCode.FORBIDDEN_ROOM_ACCESS);
     }
+    return room;
+  }
 
+  private ChatMessage saveMessage(ChatRoom room, Long senderId, SendMessageRequest request) {
     // 1) 메시지 본문 유효성(공백/길이) 검사
-    String content = (request.getContent() == null) ? "": request.getContent().trim();
-    if (content.isEmpty()) throw new CustomException(ChatErrorCode.MESSAGE_EMPTY);
-    if (content.length() > 1000) throw new CustomException(ChatErrorCode.MESSAGE_TOO_LONG);
+    String content = validContent(request);
 
     /**
      * 2) sender 연관 주입: senderID -> User 엔티티 프록시 반환
@@ -284,14 +526,27 @@ public class ChatServiceImpl implements ChatService{
             .content(content)
             .build());
 
-    // 4) 방 캐시 캥신: 목록 화면에서 빠르게 '최근 메시지/시간'을 보여주기 위함
+    // 4) 방 캐시 캥신 + 5) 상대 unread + 1 (보낸 사람이 A면 B가 +1, B면 A가 +1)
+    //    - DB 는 원자적 update 로 반영 (동시 전송 시 증가분 유실 없음)
+    //    - 엔티티는 응답(목록 행) 구성용으로 메모리 값만 맞춘다 (해당 컬럼은 updatable=false)
+    unreadCounter.onMessage(room.getId(), senderId, saved.getContent(), saved.getCreatedAt());
+    // 6) 상대방 알림 (같은 트랜잭션에서 아웃박스 기록, 저장/전달은 비동기, 같은 방 메시지는 합쳐짐)
+    notificationPublisher.publish(NotificationEvent.to(NotificationType.CHAT_MESSAGE,
+        room.getUserAId().equals(senderId) ? room.getUserBId() : room.getUserAId(), senderId,
+        null, room.getId()));
     room.setLastMessage(saved.getContent());
     room.setLastMessageAt(saved.getCreatedAt());
-
-    // 5) 상대 unread + 1: 보낸 사람이 A면 B가 +1, 보낸 사람이 B면 A가 +1
     room.increaseUnreadForOther(senderId);
 
-    return converter.toMessageResponse(saved);
+    return saved;
+  }
+
+  // 메시지 본문 유효성(공백/길이) 검사 후 trim 된 본문 (그룹 커밋 경로도 같은 규칙)
+  static String validContent(SendMessageRequest request) {
+    String content = (request.getContent() == null) ? "": request.getContent().trim();
+    if (content.isEmpty()) throw new CustomException(ChatErrorCode.MESSAGE_EMPTY);
+    if (content.length() > 1000) throw new CustomException(ChatErrorCode.MESSAGE_TOO_LONG);
+    return content;
   }
 
   /**
@@ -301,12 +556,30 @@ public class ChatServiceImpl implements ChatService{
    */
   @Override
   public void markAsRead(Long roomId, Long userId) {
-    var room = roomRepository.findById(roomId)
-        .orElseThrow(() -> new CustomException(ChatErrorCode.ROOM_NOT_FOUND));
-    if (!room.hasParticipant(userId)) {
-      throw new CustomException(ChatErrorCode.FORBIDDEN_ROOM_ACCESS);
-    }
+    ChatRoom room = findRoomForParticipant(roomId, userId);
+    resetUnread(room, userId);
+  }
+
+  // 내 unread = 0 (DB 원자적 update + 응답용 메모리 값)
+  private void resetUnread(ChatRoom room, Long userId) {
+    Long otherUserId = room.getUserAId().equals(userId) ? room.getUserBId() : room.getUserAId();
+    unreadCounter.onRead(room.getId(), userId, otherUserId);
     room.resetUnreadFor(userId);
+    Long roomId = room.getId();
+    afterCommit(() -> roomListCache.markRead(userId, roomId));
+  }
+
+  private static void afterCommit(Runnable task) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      task.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        task.run();
+      }
+    });
   }
 
   /**
@@ -0,0 +1,163 @@
+package project.masil.chat.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import project.masil.chat.repository.ChatRoomRepository;
+import project.masil.global.config.props.ChatProps;
+import project.masil.global.util.FixedDelayLoop;
+
+/**
+ * 채팅방 최근 메시지/안읽음 수 반영.
+ * <p>
+ * - 기본: 메시지 저장 트랜잭션 안에서 원자적 update (unread_count = unread_count + 1)
+ * - chat.unread.coalesce=true: 최근 메시지만 즉시 반영하고, unread 증가분은 커밋 후 메모리에 모아 flush-interval 마다
+ *   방/보낸 사람 단위로 한 번에 반영한다
+ * - 읽음 처리 시 아직 반영되지 않은 상대방 증가분은 버린다 (읽기 전에 도착한 메시지는 이미 읽은 것)
+ * - flush 는 받는 사람의 읽음 기준 시각(lastReadAt)보다 나중 메시지만 더하고, 그 기준 시각이 그대로일 때만 반영한다
+ *   (flush 가 꺼낸 증가분과 읽음이 겹치거나, 다른 노드에서 읽은 경우에도 읽은 메시지가 unread 로 되살아나지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatUnreadCounter {
+
+  // 한 번도 읽지 않음 (읽음 기준 시각 null 비교용)
+  private static final LocalDateTime NEVER_READ = LocalDateTime.of(1970, 1, 1, 0, 0);
+  // 읽음과 겹쳐 반영이 어긋날 때 다시 계산하는 횟수
+  private static final int FLUSH_TRIES = 3;
+
+  private final ChatRoomRepository roomRepository;
+  private final ChatProps chatProps;
+
+  // (roomId, senderId) -> 반영 대기 중인 메시지 시각 (건수 = 상대방 unread 증가분)
+  private final Map<Key, List<LocalDateTime>> pending = new ConcurrentHashMap<>();
+  private FixedDelayLoop flusher;
+
+  @PostConstruct
+  public void start() {
+    if (!chatProps.getUnread().isCoalesce()) {
+      return;
+    }
+    Duration interval = chatProps.getUnread().getFlushInterval();
+    flusher = FixedDelayLoop.start("chat-unread-flush", interval, this::flush);
+    log.info("[채팅] unread 코얼레싱 모드 (flush-interval={}ms)", interval.toMillis());
+  }
+
+  @PreDestroy
+  public void stop() {
+    if (flusher != null) {
+      flusher.close();
+      flush();
+    }
+  }
+
+  /**
+   * 새 메시지 반영: 최근 메시지 캐시 + 상대방 unread + 1
+   */
+  public void onMessage(Long roomId, Long senderId, String content, LocalDateTime at) {
+    onMessages(roomId, senderId, content, at, Map.of(senderId, 1));
+  }
+
+  /**
+   * 한 방의 메시지 여러 건 반영 (그룹 커밋): 최근 메시지는 마지막 메시지로, 상대방 unread 는 보낸 사람별 건수만큼
+   *
+   * @param sentBy 보낸 사람 ID -> 메시지 수 (lastSenderId 포함)
+   */
+  public void onMessages(Long roomId, Long lastSenderId, String content, LocalDateTime at,
+      Map<Long, Integer> sentBy) {
+    boolean coalesce = chatProps.getUnread().isCoalesce();
+    roomRepository.applyMessage(roomId, lastSenderId, content, at,
+        coalesce ? 0 : sentBy.get(lastSenderId));
+    sentBy.forEach((senderId, count) -> {
+      if (coalesce) {
+        // 롤백된 메시지가 집계되지 않도록 커밋 후에 적립
+        afterCommit(() -> pending.merge(new Key(roomId, senderId),
+            new ArrayList<>(Collections.nCopies(count, at)), ChatUnreadCounter::concat));
+      } else if (!senderId.equals(lastSenderId)) {
+        // 같은 배치에 두 사람이 모두 보낸 경우만
+        roomRepository.addUnread(roomId, senderId, count);
+      }
+    });
+  }
+
+  /**
+   * 읽음 처리: userId 본인 unread = 0 (otherUserId 가 보낸 미반영 증가분도 제거)
+   */
+  public void onRead(Long roomId, Long userId, Long otherUserId) {
+    if (chatProps.getUnread().isCoalesce()) {
+      pending.remove(new Key(roomId, otherUserId));
+    }
+    roomRepository.resetUnread(roomId, userId);
+  }
+
+  void flush() {
+    for (Key key : pending.keySet()) {
+      List<LocalDateTime> arrivals = pending.remove(key);
+      if (arrivals == null || arrivals.isEmpty()) {
+        continue;
+      }
+      try {
+        apply(key, arrivals);
+      } catch (Exception e) {
+        log.warn("[채팅] unread flush 실패 roomId={} delta={}: {}", key.roomId(), arrivals.size(),
+            e.getMessage());
+        pending.merge(key, arrivals, ChatUnreadCounter::concat);
+      }
+    }
+  }
+
+  // 읽음 기준 시각 이후 메시지만, 기준 시각이 바뀌지 않았을 때 반영
+  private void apply(Key key, List<LocalDateTime> arrivals) {
+    for (int i = 0; i < FLUSH_TRIES; i++) {
+      LocalDateTime readAt = roomRepository.findReadAtOfReceiver(key.roomId(), key.senderId());
+      int delta = (int) arrivals.stream()
+          .filter(at -> readAt == null || at.isAfter(readAt))
+          .count();
+      if (delta == 0) {
+        return;
+      }
+      if (roomRepository.addUnreadIfReadAt(key.roomId(), key.senderId(), delta,
+          readAt == null ? NEVER_READ : readAt, NEVER_READ) > 0) {
+        return;
+      }
+    }
+    // 방이 삭제됐거나 읽음이 계속 겹침 → 이번 증가분은 버린다 (읽은 쪽이 우선)
+    log.debug("[채팅] unread flush 건너뜀 roomId={} delta={}", key.roomId(), arrivals.size());
+  }
+
+  private static List<LocalDateTime> concat(List<LocalDateTime> a, List<LocalDateTime> b) {
+    List<LocalDateTime> merged = new ArrayList<>(a.size() + b.size());
+    merged.addAll(a);
+    merged.addAll(b);
+    return merged;
+  }
+
+  private static void afterCommit(Runnable task) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      task.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        task.run();
+      }
+    });
+  }
+
+  private record Key(Long roomId, Long senderId) {
+
+  }
+}
@@ -0,0 +1,60 @@
+package project.masil.chat.websocket;
+
+/**
+ * [ChatDestinations]
+ * STOMP 목적지(destination)에서 roomId 를 꺼내는 고정 레이아웃 파서 (정규식 미사용).
+ *
+ *  - 구독: ".../queue/rooms.{roomId}"   예) /user/queue/rooms.10        → 10
+ *  - 전송: ".../rooms/{roomId}/..."     예) /app/chat/rooms/10/messages → 10
+ *
+ * 형식이 맞지 않으면 null (권한 체크 대상 아님)
+ */
+final class ChatDestinations {
+
+  private static final String QUEUE_ROOMS = "/queue/rooms.";
+  private static final String ROOMS = "/rooms/";
+
+  private ChatDestinations() {
+  }
+
+  /** 구독 목적지 ".../queue/rooms.{roomId}" 의 roomId */
+  static Long subscribeRoomId(String destination) {
+    if (destination == null) {
+      return null;
+    }
+    int idx = destination.lastIndexOf(QUEUE_ROOMS);
+    if (idx < 0) {
+      return null;
+    }
+    int start = idx + QUEUE_ROOMS.length();
+    int end = digitsEnd(destination, start);
+    // roomId 뒤에 다른 문자가 있으면 형식 불일치
+    return end > start && end == destination.length()
+        ? Long.parseLong(destination, start, end, 10) : null;
+  }
+
+  /** 전송 목적지 ".../rooms/{roomId}/..." 의 roomId (여러 번 나오면 마지막 것) */
+  static Long sendRoomId(String destination) {
+    if (destination == null) {
+      return null;
+    }
+    int idx = destination.lastIndexOf(ROOMS);
+    while (idx >= 0) {
+      int start = idx + ROOMS.length();
+      int end = digitsEnd(destination, start);
+      if (end > start && end < destination.length() && destination.charAt(end) == '/') {
+        return Long.parseLong(destination, start, end, 10);
+      }
+      idx = idx == 0 ? -1 : destination.lastIndexOf(ROOMS, idx - 1);
+    }
+    return null;
+  }
+
+  private static int digitsEnd(String s, int from) {
+    int i = from;
+    while (i < s.length() && s.charAt(i) >= '0' && s.charAt(i) <= '9') {
+      i++;
+    }
+    return i;
+  }
+}
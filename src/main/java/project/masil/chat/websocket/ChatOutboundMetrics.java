@@ -0,0 +1,130 @@
+package project.masil.chat.websocket;
+
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import project.masil.chat.dto.response.ChatOutboundResponse;
+import project.masil.infrastructure.client.resilience.LatencyTracker;
+
+/**
+ * 서버 -> 클라이언트 전송(clientOutboundChannel) 지표 수집 (Micrometer 없이 직접 보관)
+ * <p>
+ * - 대기열 깊이 / 대기 시간: 채널에 들어온 시각부터 전송 스레드가 잡을 때까지
+ * - 전송 시간: 세션(버퍼)에 쓰는 데 걸린 시간
+ * - 대기열 포화로 버린 프레임 수, 전송 제한 초과로 끊은 세션 수
+ */
+@Slf4j
+@Component
+public class ChatOutboundMetrics implements ExecutorChannelInterceptor {
+
+  private static final String ENQUEUED_AT = "chatOutboundEnqueuedAt";
+  private static final int SAMPLE_SIZE = 1024;
+
+  private final LatencyTracker queueWait = new LatencyTracker(SAMPLE_SIZE);
+  private final LatencyTracker sendTime = new LatencyTracker(SAMPLE_SIZE);
+  private final LongAdder sent = new LongAdder();
+  private final LongAdder failed = new LongAdder();
+  private final LongAdder rejected = new LongAdder();
+  private final LongAdder droppedSessions = new LongAdder();
+  private final ThreadLocal<Long> handleStart = new ThreadLocal<>();
+
+  private volatile ThreadPoolTaskExecutor executor;
+
+  void bind(ThreadPoolTaskExecutor executor) {
+    this.executor = executor;
+  }
+
+  @Override
+  public Message<?> preSend(Message<?> message, MessageChannel channel) {
+    return MessageBuilder.fromMessage(message).setHeader(ENQUEUED_AT, System.nanoTime()).build();
+  }
+
+  @Override
+  public Message<?> beforeHandle(Message<?> message, MessageChannel channel,
+      MessageHandler handler) {
+    long now = System.nanoTime();
+    Long enqueuedAt = message.getHeaders().get(ENQUEUED_AT, Long.class);
+    if (enqueuedAt != null) {
+      queueWait.record(now - enqueuedAt);
+    }
+    handleStart.set(now);
+    return message;
+  }
+
+  @Override
+  public void afterMessageHandled(Message<?> message, MessageChannel channel,
+      MessageHandler handler, Exception ex) {
+    Long start = handleStart.get();
+    handleStart.remove();
+    if (start != null) {
+      sendTime.record(System.nanoTime() - start);
+    }
+    if (ex == null) {
+      sent.increment();
+    } else {
+      failed.increment();
+    }
+  }
+
+  /**
+   * 대기열이 가득 차면 해당 프레임만 버린다 (브로커는 구독자별로 예외를 처리하므로 다른 세션 전송은 계속됨)
+   */
+  RejectedExecutionHandler rejectionHandler() {
+    return (task, pool) -> {
+      rejected.increment();
+      throw new RejectedExecutionException("chat outbound queue full (" + pool.getQueue().size()
+          + ")");
+    };
+  }
+
+  /**
+   * 전송 시간/버퍼 제한을 넘겨 끊긴 세션 집계
+   */
+  WebSocketHandler decorate(WebSocketHandler handler) {
+    return new WebSocketHandlerDecorator(handler) {
+      @Override
+      public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus)
+          throws Exception {
+        if (closeStatus.getCode() == CloseStatus.SESSION_NOT_RELIABLE.getCode()) {
+          droppedSessions.increment();
+          log.warn("[WS] 느린 클라이언트 세션 종료 session={} user={}", session.getId(),
+              session.getPrincipal() == null ? null : session.getPrincipal().getName());
+        }
+        super.afterConnectionClosed(session, closeStatus);
+      }
+    };
+  }
+
+  public ChatOutboundResponse snapshot() {
+    ThreadPoolTaskExecutor pool = executor;
+    return new ChatOutboundResponse(
+        pool == null ? 0 : pool.getActiveCount(),
+        pool == null ? 0 : pool.getPoolSize(),
+        pool == null ? 0 : pool.getQueueSize(),
+        sent.sum(),
+        failed.sum(),
+        rejected.sum(),
+        droppedSessions.sum(),
+        millis(queueWait.percentile(0.5)),
+        millis(queueWait.percentile(0.99)),
+        millis(sendTime.percentile(0.5)),
+        millis(sendTime.percentile(0.99)));
+  }
+
+  private static Double millis(Duration d) {
+    return d == null ? null : d.toNanos() / 1e6;
+  }
+}
@@ -0,0 +1,96 @@
+package project.masil.chat.websocket;
+
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.AbstractSubProtocolEvent;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+/**
+ * [ChatPresenceRegistry]
+ * 이 노드에 STOMP 로 연결된 사용자 목록 (접속 여부).
+ *
+ *  - CONNECT 완료 시 세션 등록, DISCONNECT 시 제거 (DISCONNECT 이벤트는 중복될 수 있어 세션 ID 로 한 번만 처리)
+ *  - 사용자당 세션 수만 보관 (여러 탭/기기), 0 ↔ 1 로 바뀔 때만 "변경됨" 으로 표시
+ *  - 변경된 사용자는 ChatPresenceService 가 주기적으로 모아 상대방에게 한 번에 알린다
+ *
+ * 세션당 (sessionId → userId) 1건, 사용자당 (userId → 세션 수) 1건만 두므로 세션 수십만 개도 메모리 부담이 작다.
+ * RELAY 모드에서도 접속 여부는 노드별이다 (다른 노드에 붙은 사용자는 오프라인으로 보임).
+ */
+@Component
+@Slf4j
+public class ChatPresenceRegistry {
+
+  private final Map<String, Long> sessionUsers = new ConcurrentHashMap<>();
+  private final Map<Long, Integer> userSessions = new ConcurrentHashMap<>();
+  // 마지막 flush 이후 온라인/오프라인이 바뀐 사용자
+  private final Set<Long> changed = ConcurrentHashMap.newKeySet();
+
+  @EventListener
+  public void onConnected(SessionConnectedEvent event) {
+    Long userId = userIdOf(event);
+    if (userId == null || sessionUsers.putIfAbsent(sessionIdOf(event), userId) != null) {
+      return;
+    }
+    if (userSessions.merge(userId, 1, Integer::sum) == 1) {
+      changed.add(userId);
+    }
+  }
+
+  @EventListener
+  public void onDisconnect(SessionDisconnectEvent event) {
+    Long userId = sessionUsers.remove(event.getSessionId());
+    if (userId == null) {
+      return;
+    }
+    // 마지막 세션이면 항목 제거 (null 반환 → remove)
+    if (userSessions.compute(userId, (k, n) -> n == null || n <= 1 ? null : n - 1) == null) {
+      changed.add(userId);
+    }
+  }
+
+  public boolean isOnline(Long userId) {
+    return userSessions.containsKey(userId);
+  }
+
+  public int onlineUsers() {
+    return userSessions.size();
+  }
+
+  public int sessions() {
+    return sessionUsers.size();
+  }
+
+  /**
+   * 변경된 사용자 목록을 꺼내고 비운다
+   */
+  public List<Long> drainChanged() {
+    List<Long> drained = new ArrayList<>(changed.size());
+    for (Long userId : changed) {
+      if (changed.remove(userId)) {
+        drained.add(userId);
+      }
+    }
+    return drained;
+  }
+
+  private static String sessionIdOf(AbstractSubProtocolEvent event) {
+    return SimpMessageHeaderAccessor.getSessionId(event.getMessage().getHeaders());
+  }
+
+  private static Long userIdOf(AbstractSubProtocolEvent event) {
+    Principal user = event.getUser();
+    if (user instanceof WebSocketPrincipal principal) {
+      return principal.getUserId();
+    }
+    return user == null ? null : Long.valueOf(user.getName());
+  }
+}
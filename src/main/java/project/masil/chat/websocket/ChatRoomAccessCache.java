@@ -0,0 +1,65 @@
+package project.masil.chat.websocket;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import project.masil.chat.repository.ChatRoomRepository;
+
+/**
+ * [ChatRoomAccessCache]
+ * STOMP 세션별 "참여 확인된 방" 집합.
+ *
+ *  - 세션에서 처음 확인할 때만 DB 조회, 이후 같은 방의 SUBSCRIBE/SEND 는 메모리 조회
+ *  - 방 참여자(userA/userB)는 바뀌지 않으므로 방이 삭제될 때만 무효화
+ *  - 세션 종료(DISCONNECT) 시 제거
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ChatRoomAccessCache {
+
+  /** 세션당 보관하는 최대 방 수 (넘으면 캐시하지 않고 매번 DB 조회) */
+  private static final int MAX_ROOMS_PER_SESSION = 256;
+
+  private final ChatRoomRepository roomRepository;
+
+  private final Map<String, Set<Long>> authorizedRooms = new ConcurrentHashMap<>();
+
+  /**
+   * 세션 사용자(userId)가 roomId 참여자인지 확인
+   * - 참여자가 아닌 결과는 캐시하지 않음 (이후 참여 가능성 없음 → 곧바로 거절되므로 반복 빈도 낮음)
+   */
+  public boolean isParticipant(String sessionId, Long roomId, Long userId) {
+    Set<Long> rooms = sessionId != null ? authorizedRooms.get(sessionId) : null;
+    if (rooms != null && rooms.contains(roomId)) {
+      return true;
+    }
+    if (!roomRepository.existsParticipant(roomId, userId)) {
+      return false;
+    }
+    if (sessionId != null) {
+      Set<Long> set = authorizedRooms.computeIfAbsent(sessionId,
+          k -> ConcurrentHashMap.newKeySet());
+      if (set.size() < MAX_ROOMS_PER_SESSION) {
+        set.add(roomId);
+      }
+    }
+    return true;
+  }
+
+  /** 방 삭제 시 모든 세션에서 제거 */
+  public void evictRoom(Long roomId) {
+    authorizedRooms.values().forEach(rooms -> rooms.remove(roomId));
+    log.debug("[WS] 방 권한 캐시 무효화 roomId={}", roomId);
+  }
+
+  @EventListener
+  public void onDisconnect(SessionDisconnectEvent event) {
+    authorizedRooms.remove(event.getSessionId());
+  }
+}
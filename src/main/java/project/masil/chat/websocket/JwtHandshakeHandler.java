@@ -10,16 +10,14 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.socket.WebSocketHandler;
 import org.springframework.web.socket.server.support.DefaultHandshakeHandler;
 import org.springframework.web.util.UriComponentsBuilder;
-import project.masil.global.jwt.JwtProvider;
-import project.masil.user.entity.User;
-import project.masil.user.repository.UserRepository;
+import project.masil.global.security.CustomUserDetails;
+import project.masil.global.security.JwtPrincipalResolver;
 
 @Component
 @RequiredArgsConstructor
 public class JwtHandshakeHandler extends DefaultHandshakeHandler {
 
-  private final JwtProvider jwtProvider;
-  private final UserRepository userRepository;
+  private final JwtPrincipalResolver principalResolver;
 
   @Override
   protected Principal determineUser(ServerHttpRequest request,
@@ -49,12 +47,13 @@ public class JwtHandshakeHandler extends DefaultHandshakeHandler {
       return super.determineUser(request, wsHandler, attributes);
     }
 
-    // JWT 검증 및 사용자 조회
-    jwtProvider.validateToken(token);
-    String email = jwtProvider.extractEmail(token);
-    User user = userRepository.findByEmail(email).orElseThrow();
+    // JWT 검증 및 principal 구성 (토큰 클레임/검증 캐시 사용, DB 조회 없음)
+    CustomUserDetails user = principalResolver.resolve(token);
+
+    // CONNECT 에서 다시 토큰을 풀지 않도록 세션 속성에 보관
+    attributes.put(WebSocketUserResolver.SESSION_USER_ID, user.getUserId());
 
     // 세션 Principal = userId (user-queue 라우팅의 key)
-    return new WebSocketPrincipal(user.getId());
+    return new WebSocketPrincipal(user.getUserId());
   }
 }
@@ -1,8 +1,6 @@
 package project.masil.chat.websocket;
 
 import java.security.Principal;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.Message;
@@ -14,7 +12,6 @@ import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.stereotype.Component;
 import project.masil.chat.exception.ChatErrorCode;
-import project.masil.chat.repository.ChatRoomRepository;
 import project.masil.global.exception.CustomException;
 
 /**
@@ -36,25 +33,17 @@ import project.masil.global.exception.CustomException;
 @Slf4j
 public class StompAuthChannelInterceptor implements ChannelInterceptor {
 
-  /** 방 참여자 여부를 검사하기 위해 DB에서 방을 조회 */
-  private final ChatRoomRepository roomRepository;
+  /** 방 참여자 여부 (세션별 캐시, 처음 한 번만 DB 조회) */
+  private final ChatRoomAccessCache roomAccessCache;
 
   /** STOMP 헤더(Authorization 등)에서 userId를 파싱하는 도우미*/
   private final WebSocketUserResolver webSocketUserResolver;
 
-  /**
-   * [구독 경로 정규식]  "/user/queue/rooms.{roomId}"
-   *  - 예) /user/queue/rooms.10  →  roomId=10
-   *  - 개인 큐만 사용하므로 topic 브로드캐스트는 필요 없음.
+  /*
+   * 목적지 경로 해석은 ChatDestinations (정규식 없이 고정 레이아웃 파싱)
+   *  - 구독: "/user/queue/rooms.{roomId}"
+   *  - 전송: "/app/chat/rooms/{roomId}/..."
    */
-  private static final Pattern USER_QUEUE_ROOMS = Pattern.compile(".*/queue/rooms\\.(\\d+)");
-
-  /**
-   * [전송 경로 정규식]  "/app/chat/rooms/{roomId}/..."
-   *  - 예) /app/chat/rooms/10/messages  →  roomId=10
-   *  - 클라이언트가 서버로 메시지를 보낼 때 사용하는 경로 패턴.
-   */
-  private static final Pattern APP_ROOMS_PATH   = Pattern.compile(".*/rooms/(\\d+)/.*");
 
 
   /**
@@ -75,11 +64,11 @@ public class StompAuthChannelInterceptor implements ChannelInterceptor {
     //    - SimpMessageType.CONNECT 와 StompCommand.CONNECT 둘 다 체크하는 이유:
     //      구현체/상황에 따라 타입/커맨드로 구분되는 경우가 있기 때문(안전하게 모두 허용).
     if (accessor.getMessageType() == SimpMessageType.CONNECT || StompCommand.CONNECT.equals(accessor.getCommand())) {
-      Long userId = webSocketUserResolver.resolve(accessor);     // 예: Authorization / X-User-Id 헤더에서 파싱
+      Long userId = webSocketUserResolver.resolve(accessor);     // 핸드셰이크 세션 속성 또는 Authorization 헤더
       accessor.setUser(new WebSocketPrincipal(userId));          // Principal.name = "userId" 로 저장
       // ✅ 세션에도 보관 (SockJS에서 프레임 간 유실 대비)
       if (accessor.getSessionAttributes() != null) {
-        accessor.getSessionAttributes().put("userId", userId);
+        accessor.getSessionAttributes().put(WebSocketUserResolver.SESSION_USER_ID, userId);
       }
       // 헤더 변경사항을 다음 프레임에서도 보존
       accessor.setLeaveMutable(true);
@@ -89,10 +78,8 @@ public class StompAuthChannelInterceptor implements ChannelInterceptor {
     // [2] 이후 프레임: Principal 확보 (없으면 세션에서 복구 시도)
     Principal principal = accessor.getUser();
     if (principal == null) {
-      Object uidObj = accessor.getSessionAttributes() != null
-          ? accessor.getSessionAttributes().get("userId") : null;
-      if (uidObj != null) {
-        Long restored = (uidObj instanceof Long) ? (Long) uidObj : Long.valueOf(uidObj.toString());
+      Long restored = WebSocketUserResolver.sessionUserId(accessor);
+      if (restored != null) {
         accessor.setUser(new WebSocketPrincipal(restored));
         accessor.setLeaveMutable(true);
         return MessageBuilder.createMessage(message.getPayload(), accessor.getMessageHeaders());
@@ -111,8 +98,12 @@ public class StompAuthChannelInterceptor implements ChannelInterceptor {
     //      형식상/보안상 구독 자체를 제한하는 편이 더 안전하다.
     if (StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
       log.info("[INTCPT] SUBSCRIBE user={} dest={}", accessor.getUser(), accessor.getDestination());
-      Long roomId = extract(accessor.getDestination(), USER_QUEUE_ROOMS); // 경로에서 roomId 뽑기
-      if (roomId != null && !isParticipant(roomId, userId)) {
+      // /topic 은 노드 간 내부 브로드캐스트(RELAY 모드) 전용 → 클라이언트 구독 금지
+      if (accessor.getDestination() != null && accessor.getDestination().startsWith("/topic/")) {
+        throw new CustomException(ChatErrorCode.SUBSCRIPTION_FORBIDDEN);
+      }
+      Long roomId = ChatDestinations.subscribeRoomId(accessor.getDestination()); // 경로에서 roomId 뽑기
+      if (roomId != null && !isParticipant(accessor, roomId, userId)) {
         throw new CustomException(ChatErrorCode.SUBSCRIPTION_FORBIDDEN); // 방 참가자 아님 → 구독 금지
       }
     }
@@ -122,8 +113,8 @@ public class StompAuthChannelInterceptor implements ChannelInterceptor {
     //      해당 roomId의 "참여자"만 메시지 전송을 허용한다.
     if (StompCommand.SEND.equals(accessor.getCommand())) {
       log.info("[INTCPT] SEND user={} dest={}", accessor.getUser(), accessor.getDestination());
-      Long roomId = extract(accessor.getDestination(), APP_ROOMS_PATH); // 경로에서 roomId 뽑기
-      if (roomId != null && !isParticipant(roomId, userId)) {
+      Long roomId = ChatDestinations.sendRoomId(accessor.getDestination()); // 경로에서 roomId 뽑기
+      if (roomId != null && !isParticipant(accessor, roomId, userId)) {
         throw new CustomException(ChatErrorCode.FORBIDDEN_ROOM_ACCESS); // 방 참가자 아님 → 전송 금지
       }
     }
@@ -134,26 +125,11 @@ public class StompAuthChannelInterceptor implements ChannelInterceptor {
 
   /**
    * 해당 userId 가 roomId 의 "참여자"인지 검사한다.
-   * - DB에서 방을 찾아 ChatRoom#hasParticipant(userId) 로 판단.
-   * - 방이 없으면(삭제 등) false 로 처리.
-   */
-  private boolean isParticipant(Long roomId, Long userId) {
-    return roomRepository.findById(roomId)
-        .map(r -> r.hasParticipant(userId))
-        .orElse(false);
-  }
-
-  /**
-   * STOMP 목적지(destination)에서 정규식으로 roomId 를 추출한다.
-   * - 예) destination = "/user/queue/rooms.10" , pattern = USER_QUEUE_ROOMS  →  10
-   * - 예) destination = "/app/chat/rooms/10/messages" , pattern = APP_ROOMS_PATH  →  10
-   * - m.matches() 를 사용하는 이유:
-   *   전체 문자열이 패턴과 일치하는지 확인하여 오탐을 줄이기 위함(부분 일치보다 안전).
+   * - 세션에서 이미 확인한 방이면 메모리에서 바로 true.
+   * - 처음이면 DB에서 참여 여부만 조회 (방이 없으면(삭제 등) false).
    */
-  private Long extract(String destination, Pattern pattern) {
-    if (destination == null) return null;
-    Matcher m = pattern.matcher(destination);
-    return m.matches() ? Long.valueOf(m.group(1)) : null; //그룹 1번이 roomId
+  private boolean isParticipant(StompHeaderAccessor accessor, Long roomId, Long userId) {
+    return roomAccessCache.isParticipant(accessor.getSessionId(), roomId, userId);
   }
 
 
@@ -1,12 +1,16 @@
 package project.masil.chat.websocket;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+import project.masil.global.config.props.ChatProps;
 
 /**
  * [WebSocketConfig = 1:1 DM 전용 설정]
@@ -28,14 +32,29 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
  *    - CONNECT: 토큰에서 userId 추출하여 세션 Principal 에 저장
  *    - SUBSCRIBE: '/user/queue/rooms.{roomId}' 구독 요청이면 방 참가자인지 확인
  *    - SEND: '/app/chat/rooms/{roomId}/...' 전송 요청이면 방 참가자인지 확인
+ *
+ * 5) 브로커 모드 (chat.broker.mode)
+ *    - SIMPLE: 인메모리 브로커. 같은 노드에 연결된 사용자에게만 전달 (단일 인스턴스/로컬/테스트)
+ *    - RELAY : 외부 STOMP 브로커 중계. 노드 간 사용자 레지스트리 공유 + 다른 노드 사용자에게 전달
+ *
+ * 6) OUTBOUND 전송 (chat.outbound)
+ *    - 전용 유한 스레드 풀 + 세션별 전송 버퍼/시간 제한, 느린 클라이언트는 끊는다
  */
 @Configuration
+@EnableConfigurationProperties(ChatProps.class)
 @EnableWebSocketMessageBroker // STOMP 메시징 브로커(서버가 클라이언트에게 메시지를 배포하는 역할) 기능 활성화 (@MessageMapping 사용 가능)
 @RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+  /** [RELAY] 다른 노드 세션으로 보낼 user 목적지 브로드캐스트 */
+  static final String UNRESOLVED_USER_DESTINATION = "/topic/unresolved-user-destination";
+  /** [RELAY] 노드 간 사용자 레지스트리 동기화 */
+  static final String USER_REGISTRY_BROADCAST = "/topic/simp-user-registry";
+
   private final StompAuthChannelInterceptor stompAuthChannelInterceptor;
   private final JwtHandshakeHandler jwtHandshakeHandler;
+  private final ChatProps chatProps;
+  private final ChatOutboundMetrics chatOutboundMetrics;
 
   /**
    * [1] STOMP 엔드포인트 등록 (핸드셰이크 입구)
@@ -86,7 +105,28 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     registry.setApplicationDestinationPrefixes("/app/chat");
 
     // 2. 서버 -> 클라 푸시 경로 : 개인 큐만 사용 (브로드캐스트 /topic은 사용하지 않음)
-    registry.enableSimpleBroker("/queue");
+    ChatProps.Broker broker = chatProps.getBroker();
+    if (broker.getMode() == ChatProps.Broker.Mode.RELAY) {
+      // 외부 브로커 중계: 다른 노드에 붙은 사용자에게도 convertAndSendToUser 가 전달된다
+      //  - /topic 은 노드 간 내부 브로드캐스트(사용자 레지스트리, 미해결 user 목적지)에만 사용
+      var relay = registry.enableStompBrokerRelay("/queue", "/topic")
+          .setRelayHost(broker.getRelayHost())
+          .setRelayPort(broker.getRelayPort())
+          .setClientLogin(broker.getClientLogin())
+          .setClientPasscode(broker.getClientPasscode())
+          .setSystemLogin(broker.getSystemLogin())
+          .setSystemPasscode(broker.getSystemPasscode())
+          .setSystemHeartbeatSendInterval(broker.getSystemHeartbeatSendInterval().toMillis())
+          .setSystemHeartbeatReceiveInterval(
+              broker.getSystemHeartbeatReceiveInterval().toMillis())
+          .setUserDestinationBroadcast(UNRESOLVED_USER_DESTINATION)
+          .setUserRegistryBroadcast(USER_REGISTRY_BROADCAST);
+      if (broker.getVirtualHost() != null && !broker.getVirtualHost().isBlank()) {
+        relay.setVirtualHost(broker.getVirtualHost());
+      }
+    } else {
+      registry.enableSimpleBroker("/queue");
+    }
 
     // 3. 사용자 개인 목적지 접두사
     registry.setUserDestinationPrefix("/user");
@@ -107,6 +147,42 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     registration.interceptors(stompAuthChannelInterceptor);
   }
 
+  /**
+   * [4] OUTBOUND 채널 (서버 -> 클라이언트 프레임 전송)
+   *
+   * - 전용 스레드 풀 + 유한 대기열 (chat.outbound.*)
+   * - 대기열이 가득 차면 그 프레임만 버리고 집계 → 브로커/다른 세션은 막히지 않는다
+   * - 대기 시간/전송 시간은 ChatOutboundMetrics 가 수집 (/api/admin/chat/outbound)
+   */
+  @Override
+  public void configureClientOutboundChannel(ChannelRegistration registration) {
+    ChatProps.Outbound outbound = chatProps.getOutbound();
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setThreadNamePrefix("chat-outbound-");
+    executor.setCorePoolSize(outbound.getPoolSize());
+    executor.setMaxPoolSize(outbound.getPoolSize());
+    executor.setQueueCapacity(outbound.getQueueCapacity());
+    executor.setRejectedExecutionHandler(chatOutboundMetrics.rejectionHandler());
+    chatOutboundMetrics.bind(executor);
+    // 초기화는 clientOutboundChannelExecutor 빈으로 등록될 때 수행된다
+    registration.taskExecutor(executor).interceptors(chatOutboundMetrics);
+  }
+
+  /**
+   * [5] 세션별 전송 제한
+   *
+   * - 세션마다 미전송 프레임을 버퍼에 모아 순서대로 보내고, 한 번의 전송이 send-time-limit 를 넘거나
+   *   버퍼가 send-buffer-size-limit 를 넘으면 느린 클라이언트로 보고 세션을 끊는다
+   *   (한 세션이 전송 스레드를 붙잡아 다른 세션을 지연시키지 않도록)
+   */
+  @Override
+  public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+    ChatProps.Outbound outbound = chatProps.getOutbound();
+    registration.setSendTimeLimit((int) outbound.getSendTimeLimit().toMillis())
+        .setSendBufferSizeLimit((int) outbound.getSendBufferSizeLimit().toBytes())
+        .addDecoratorFactory(chatOutboundMetrics::decorate);
+  }
+
 
 
 }
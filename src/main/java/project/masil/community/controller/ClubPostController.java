@@ -43,7 +43,7 @@ public class ClubPostController {
       @PathVariable Long eventId,
       @RequestBody @Valid ClubPostRequest createRequest) {
     ClubPostDetailResponse result = clubPostService.createClubPost(
-        userDetails.getUser().getId(), eventId, createRequest);
+        userDetails.getUserId(), eventId, createRequest);
     return ResponseEntity.ok(BaseResponse.success("소모임 게시글 생성 성공", result));
   }
 
@@ -53,7 +53,7 @@ public class ClubPostController {
       @AuthenticationPrincipal CustomUserDetails userDetails,
       @PathVariable Long eventId,
       @PathVariable Long clubId) {
-    ClubPostDetailResponse result = clubPostService.getClubPostDetail(userDetails.getUser().getId(),
+    ClubPostDetailResponse result = clubPostService.getClubPostDetail(userDetails.getUserId(),
         clubId);
     return ResponseEntity.ok(BaseResponse.success("소모임 게시글 생성 성공", result));
   }
@@ -65,7 +65,7 @@ public class ClubPostController {
       @PathVariable Long eventId,
       @PathVariable Long clubId,
       @RequestBody @Valid ClubPostRequest updateRequest) {
-    ClubPostDetailResponse result = clubPostService.updateClubPost(userDetails.getUser().getId(),
+    ClubPostDetailResponse result = clubPostService.updateClubPost(userDetails.getUserId(),
         clubId, updateRequest);
     return ResponseEntity.ok(BaseResponse.success("소모임 게시글 수정 성공", result));
   }
@@ -76,7 +76,7 @@ public class ClubPostController {
       @AuthenticationPrincipal CustomUserDetails userDetails,
       @PathVariable Long eventId,
       @PathVariable Long clubId) {
-    clubPostService.deleteClubPost(userDetails.getUser().getId(), clubId);
+    clubPostService.deleteClubPost(userDetails.getUserId(), clubId);
     return ResponseEntity.ok(BaseResponse.success("소모임 게시글 삭제 성공", null));
   }
 
@@ -95,7 +95,7 @@ public class ClubPostController {
     Pageable pageable = PageRequest.of(pageIndex, size, sort);
 
     Page<ClubPostSummaryResponse> result = clubPostService.getClubPostListByEventId(
-        userDetails.getUser().getId(),
+        userDetails.getUserId(),
         eventId,
         pageable);
     return ResponseEntity.ok(BaseResponse.success("소모임 게시글 목록 조회 성공", result));
@@ -35,7 +35,7 @@ public class CommentController {
       @PathVariable("eventId") Long eventId,
       @RequestBody @Valid CommentRequest commentRequest) {
     CommentResponse response = commentService.createComment(
-        eventId, userDetails.getUser().getId(), commentRequest.getContent(), PostType.EVENT);
+        eventId, userDetails.getUserId(), commentRequest.getContent(), PostType.EVENT);
     return ResponseEntity.ok(BaseResponse.success("이벤트 게시글의 댓글 생성 성공", response));
   }
 
@@ -56,7 +56,7 @@ public class CommentController {
       @PathVariable("commentId") Long commentId,
       @RequestBody @Valid CommentRequest commentRequest) {
     CommentResponse response = commentService.createChildComment(
-        eventId, commentId, userDetails.getUser().getId(), commentRequest.getContent(),
+        eventId, commentId, userDetails.getUserId(), commentRequest.getContent(),
         PostType.EVENT);
     return ResponseEntity.ok(BaseResponse.success("이벤트 게시글의 대댓글 생성 성공", response));
   }
@@ -79,7 +79,7 @@ public class CommentController {
       @PathVariable("clubId") Long clubId,
       @RequestBody @Valid CommentRequest commentRequest) {
     CommentResponse response = commentService.createComment(
-        clubId, userDetails.getUser().getId(), commentRequest.getContent(), PostType.CLUB);
+        clubId, userDetails.getUserId(), commentRequest.getContent(), PostType.CLUB);
     return ResponseEntity.ok(BaseResponse.success("소모임 게시글의 댓글 생성 성공", response));
   }
 
@@ -100,7 +100,7 @@ public class CommentController {
       @PathVariable("commentId") Long commentId,
       @RequestBody @Valid CommentRequest commentRequest) {
     CommentResponse response = commentService.createChildComment(
-        clubId, commentId, userDetails.getUser().getId(), commentRequest.getContent(),
+        clubId, commentId, userDetails.getUserId(), commentRequest.getContent(),
         PostType.CLUB);
     return ResponseEntity.ok(BaseResponse.success("소모임 게시글의 대댓글 생성 성공", response));
   }
@@ -48,7 +48,7 @@ public class EventPostController {
       @RequestPart(value = "images", required = false) List<MultipartFile> images
       // ← EventErrorCode에서 예외처리
   ) {
-    EventPostResponse response = eventPostService.createEvent(userDetails.getUser().getId(),
+    EventPostResponse response = eventPostService.createEvent(userDetails.getUserId(),
         eventPostRequest, images);
     return ResponseEntity.ok(BaseResponse.success("이벤트 생성 성공", response));
   }
@@ -58,7 +58,7 @@ public class EventPostController {
   public ResponseEntity<BaseResponse<EventPostResponse>> getEvent(@PathVariable Long eventId,
       @AuthenticationPrincipal CustomUserDetails userDetails) {
     EventPostResponse response = eventPostService.getEventPost(eventId,
-        userDetails.getUser().getId());
+        userDetails.getUserId());
     return ResponseEntity.ok(BaseResponse.success("이벤트 단일 조회 성공", response));
   }
 
@@ -82,7 +82,7 @@ public class EventPostController {
     Pageable pageable = PageRequest.of(pageIndex, size); // 정렬은 레포의 ORDER BY가 처리
 
     Page<EventPostResponse> response = eventPostService.getEventAll(regionId, pageable,
-        userDetails.getUser().getId(), sort);
+        userDetails.getUserId(), sort);
     return ResponseEntity.ok(BaseResponse.success("이벤트 리스트 조회 성공", response));
   }
 
@@ -101,7 +101,7 @@ public class EventPostController {
     // 정렬 방향 및 기준 설정
     Pageable pageable = PageRequest.of(pageIndex, size);
     Page<EventPostResponse> eventTypeList = eventPostService.getEventTypeList(regionId, eventType,
-        pageable, userDetails.getUser().getId(), sort);
+        pageable, userDetails.getUserId(), sort);
     return ResponseEntity.ok(BaseResponse.success("이벤트 카테고리별 리스트 조회 성공", eventTypeList));
 
   }
@@ -121,7 +121,7 @@ public class EventPostController {
     Pageable pageable = PageRequest.of(pageIndex, size);
 
     Page<EventPostResponse> todayEvents = eventPostService.getTodayEvents(regionId,
-        userDetails.getUser().getId(), sort, pageable);
+        userDetails.getUserId(), sort, pageable);
     return ResponseEntity.ok(BaseResponse.success("오늘의 이벤트 리스트 조회 성공", todayEvents));
   }
 
@@ -136,7 +136,7 @@ public class EventPostController {
   ) {
     EventPostResponse response = eventPostService.updateEvent(
         eventId,
-        userDetails.getUser().getId(),
+        userDetails.getUserId(),
         eventPostRequest,
         images);
     return ResponseEntity.ok(BaseResponse.success("이벤트 수정 성공", response));
@@ -42,7 +42,7 @@ public class EventPostSearchController {
     return ResponseEntity.ok(
         BaseResponse.success(
             "키워드 검색 결과 조회 성공",
-            eventPostSearchService.search(userDetails.getUser().getId(), query, pageable)
+            eventPostSearchService.search(userDetails.getUserId(), query, pageable)
         )
     );
   }
@@ -55,7 +55,7 @@ public class EventPostSearchController {
     return ResponseEntity.ok(
         BaseResponse.success(
             "AI 검색 결과 조회 성공",
-            eventPostSearchService.searchByAI(userDetails.getUser().getId(), query)
+            eventPostSearchService.searchByAI(userDetails.getUserId(), query)
         )
     );
   }
@@ -74,7 +74,7 @@ public class EventPostSearchController {
     Pageable pageable = PageRequest.of(pageIndex, size);
 
     Page<EventPostResponse> result = recommendationService.recommendByAI(
-        userDetails.getUser().getId(),
+        userDetails.getUserId(),
         eventType,
         today,
         pageable
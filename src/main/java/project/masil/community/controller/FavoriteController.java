@@ -30,7 +30,7 @@ public class FavoriteController {
       @PathVariable Long eventId) {
     return ResponseEntity.ok(
         BaseResponse.success("이벤트 게시글 토글 성공",
-            favoriteService.toggleFavorite(userDetails.getUser().getId(), eventId,
+            favoriteService.toggleFavorite(userDetails.getUserId(), eventId,
                 PostType.EVENT)));
   }
 
@@ -42,7 +42,7 @@ public class FavoriteController {
       @PathVariable Long clubId) {
     return ResponseEntity.ok(
         BaseResponse.success("소모임 게시글 토글 성공",
-            favoriteService.toggleFavorite(userDetails.getUser().getId(), clubId,
+            favoriteService.toggleFavorite(userDetails.getUserId(), clubId,
                 PostType.CLUB)));
   }
 
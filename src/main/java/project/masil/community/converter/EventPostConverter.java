@@ -8,6 +8,7 @@ import project.masil.community.dto.response.EventImageResponse;
 import project.masil.community.dto.response.EventPostResponse;
 import project.masil.community.dto.response.RegionResponse;
 import project.masil.community.entity.EventPost;
+import project.masil.global.image.ImageVariant;
 
 @Component
 public class EventPostConverter {
@@ -24,7 +25,7 @@ public class EventPostConverter {
     return EventPostResponse.builder()
         .eventId(eventPost.getId())
         .username(eventPost.getUser().getUsername())
-        .userImage(eventPost.getUser().getProfileImageUrlOrDefault())
+        .userImage(eventPost.getUser().getProfileThumbnailUrlOrDefault())
         .isBusinessVerified(eventPost.getUser().isBusinessVerified())
         .isAuthor(isAuthor)
         .eventType(eventPost.getEventType())
@@ -37,11 +38,8 @@ public class EventPostConverter {
         .commentCount(eventPost.getCommentCount())
         .images(
             IntStream.range(0, eventPost.getEventImages().size())
-                .mapToObj(i -> EventImageResponse.builder()
-                    .sequence(i + 1) // DB sequence 컬럼이 0부터면 +1
-                    .imageUrl(eventPost.getEventImages().get(i))
-                    .build()
-                )
+                .mapToObj(i -> toImageResponse(i, eventPost.getEventImages().get(i),
+                    i < eventPost.getImageVariantCount()))
                 .toList()
         )
         .createdAt(eventPost.getCreatedAt())
@@ -59,4 +57,15 @@ public class EventPostConverter {
         .build();
   }
 
+  // 변형본이 아직 없으면 모두 원본 URL
+  public static EventImageResponse toImageResponse(int index, String url, boolean hasVariants) {
+    return EventImageResponse.builder()
+        .sequence(index + 1) // DB sequence 컬럼이 0부터면 +1
+        .imageUrl(url)
+        .thumbnailUrl(hasVariants ? ImageVariant.THUMBNAIL.of(url) : url)
+        .cardUrl(hasVariants ? ImageVariant.CARD.of(url) : url)
+        .detailUrl(hasVariants ? ImageVariant.DETAIL.of(url) : url)
+        .build();
+  }
+
 }
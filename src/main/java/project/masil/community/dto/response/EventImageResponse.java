@@ -12,6 +12,15 @@ public class EventImageResponse {
   @Schema(description = "이미지 순서", example = "1")
   private int sequence;
 
-  @Schema(description = "이미지 URL", example = "https://my-event01.jpg")
+  @Schema(description = "원본 이미지 URL", example = "https://my-event01.jpg")
   private String imageUrl;
+
+  @Schema(description = "썸네일 URL (긴 변 240px, 변형본 생성 전에는 원본)", example = "https://my-event01.jpg_thumb.jpg")
+  private String thumbnailUrl;
+
+  @Schema(description = "피드 카드용 URL (긴 변 640px, 변형본 생성 전에는 원본)", example = "https://my-event01.jpg_card.jpg")
+  private String cardUrl;
+
+  @Schema(description = "상세 화면용 URL (긴 변 1280px, 변형본 생성 전에는 원본)", example = "https://my-event01.jpg_detail.jpg")
+  private String detailUrl;
 }
\ No newline at end of file
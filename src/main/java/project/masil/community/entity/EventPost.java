@@ -91,6 +91,13 @@ public class EventPost extends Post {
   @Builder.Default
   private List<String> eventImages = new ArrayList<>();
 
+  // eventImages 앞에서부터 변형본(썸네일/카드/상세)이 만들어진 이미지 수 (이미지는 뒤에 추가만 됨)
+  // EventPostRepository.updateImageVariantCount 로만 변경 (엔티티 flush 가 0 으로 되돌리지 않도록)
+  @Builder.Default
+  @Column(nullable = false, updatable = false)
+  @ColumnDefault("0")
+  private int imageVariantCount = 0;
+
   @Builder.Default
   @OneToMany(mappedBy = "eventPost", fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
   private List<ClubPost> clubPosts = new ArrayList<>();
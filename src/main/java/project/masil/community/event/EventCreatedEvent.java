@@ -1,10 +0,0 @@
-package project.masil.community.event;
-
-public record EventCreatedEvent(
-    Long postId,
-    Long regionId,
-    String title,
-    String content
-) {
-
-}
\ No newline at end of file
@@ -0,0 +1,76 @@
+package project.masil.community.event;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import project.masil.community.repository.EventPostRepository;
+import project.masil.community.service.EventPostUpdater;
+import project.masil.global.image.ImageVariant;
+import project.masil.global.image.ImageVariantGenerator;
+import project.masil.global.outbox.OutboxEventType;
+import project.masil.global.outbox.OutboxHandler;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 이벤트 게시글 이미지 변형본 생성
+ * - 아직 변형본이 없는 이미지(imageVariantCount 이후)만 처리하고, 처리한 만큼 imageVariantCount 를 올린다
+ * - 이미 있는 변형본을 다시 만들어도 같은 키에 덮어쓰므로 재시도해도 안전
+ * - imageTaskExecutor 에서 실행 (동시 처리 수 제한)
+ */
+@Slf4j
+@Component
+public class EventImageOutboxHandler implements OutboxHandler {
+
+  private static final List<ImageVariant> VARIANTS = List.of(ImageVariant.values());
+
+  private final EventPostRepository eventPostRepository;
+  private final EventPostUpdater updater;
+  private final ImageVariantGenerator generator;
+  private final Scheduler imageScheduler;
+
+  public EventImageOutboxHandler(EventPostRepository eventPostRepository,
+      EventPostUpdater updater, ImageVariantGenerator generator,
+      @Qualifier("imageTaskExecutor") Executor imageTaskExecutor) {
+    this.eventPostRepository = eventPostRepository;
+    this.updater = updater;
+    this.generator = generator;
+    this.imageScheduler = Schedulers.fromExecutor(imageTaskExecutor);
+  }
+
+  @Override
+  public Set<OutboxEventType> supports() {
+    return Set.of(OutboxEventType.POST_IMAGE_VARIANTS);
+  }
+
+  @Override
+  public Mono<Void> handle(OutboxEventType type, Long postId) {
+    return Mono.<Void>fromRunnable(() -> generate(postId))
+        .subscribeOn(imageScheduler);
+  }
+
+  private void generate(Long postId) {
+    Optional<Integer> done = eventPostRepository.findImageVariantCount(postId);
+    if (done.isEmpty()) {
+      log.info("[이미지] skip postId={} (삭제됨)", postId);
+      return;
+    }
+    List<String> urls = eventPostRepository.findImageUrls(postId);
+    for (int i = done.get(); i < urls.size(); i++) {
+      try {
+        generator.generate(urls.get(i), VARIANTS);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      // 앞에서부터 하나씩 반영 (중간에 실패하면 다음 재시도는 실패한 이미지부터)
+      updater.updateImageVariantCount(postId, i + 1);
+    }
+  }
+}
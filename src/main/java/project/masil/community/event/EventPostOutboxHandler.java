@@ -0,0 +1,94 @@
+package project.masil.community.event;
+
+import java.util.Optional;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import project.masil.community.entity.EventPost;
+import project.masil.community.repository.EventPostRepository;
+import project.masil.community.service.EventPostUpdater;
+import project.masil.embedding.service.EmbeddingPipelineService;
+import project.masil.global.outbox.OutboxEventType;
+import project.masil.global.outbox.OutboxHandler;
+import project.masil.infrastructure.client.ai.AiClient;
+import project.masil.infrastructure.client.ai.dto.AiSummarizeRequest;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 이벤트 게시글 후처리 (AI 요약, 임베딩 반영)
+ * - 이벤트에는 게시글 ID 만 있으므로 처리 시점의 최신 제목/내용으로 반영한다 (여러 번 실행돼도 결과 동일)
+ * - 그 사이 게시글이 삭제됐으면 요약/upsert 는 건너뛴다 (삭제 이벤트가 따로 처리)
+ * - upsert 후 게시글이 다시 있는지 확인하고, 그 사이 삭제됐으면 바로 remove 한다
+ *   (다른 노드가 remove 를 먼저 끝낸 경우에도 삭제된 게시글이 FAISS 에 되살아나지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EventPostOutboxHandler implements OutboxHandler {
+
+  private final AiClient aiClient;
+  private final EventPostUpdater updater;
+  private final EventPostRepository eventPostRepository;
+  private final EmbeddingPipelineService embeddingPipelineService;
+
+  @Override
+  public Set<OutboxEventType> supports() {
+    return Set.of(OutboxEventType.POST_SUMMARIZE, OutboxEventType.POST_EMBEDDING_UPSERT,
+        OutboxEventType.POST_EMBEDDING_REMOVE);
+  }
+
+  @Override
+  public Mono<Void> handle(OutboxEventType type, Long postId) {
+    return switch (type) {
+      case POST_SUMMARIZE -> load(postId).flatMap(this::summarize);
+      case POST_EMBEDDING_UPSERT -> load(postId).flatMap(post ->
+          embeddingPipelineService.upsertPost(post.getId(), post.getRegion().getId(),
+                  post.getTitle(), post.getContent())
+              .then(removeIfDeleted(postId)));
+      case POST_EMBEDDING_REMOVE -> embeddingPipelineService.removePost(postId);
+      default -> Mono.error(new IllegalArgumentException("지원하지 않는 이벤트: " + type));
+    };
+  }
+
+  private Mono<Void> summarize(EventPost post) {
+    AiSummarizeRequest req = new AiSummarizeRequest(
+        post.getContent(), 5, 10, 0.3, 300
+    );
+    return aiClient.summarize(req)
+        // 실패 응답도 재시도 대상
+        .flatMap(res -> "success".equalsIgnoreCase(res.getStatus()) && res.getData() != null
+            ? Mono.just(res.getData().trim())
+            : Mono.<String>error(new IllegalStateException("요약 실패 status=" + res.getStatus())))
+        // 요약 저장(JPA)은 블로킹이므로 Netty 이벤트 루프 밖에서 실행
+        .publishOn(Schedulers.boundedElastic())
+        .doOnNext(summary -> updater.updateSummary(post.getId(), summary))
+        .then();
+  }
+
+  // upsert 도중 삭제가 커밋됐으면 보상 remove (삭제 쪽 remove 가 먼저 끝났을 수 있음)
+  private Mono<Void> removeIfDeleted(Long postId) {
+    return Mono.fromCallable(() -> eventPostRepository.existsById(postId))
+        .subscribeOn(Schedulers.boundedElastic())
+        .flatMap(exists -> {
+          if (exists) {
+            return Mono.empty();
+          }
+          log.info("[AI] upsert 중 삭제됨, remove postId={}", postId);
+          return embeddingPipelineService.removePost(postId);
+        });
+  }
+
+  // 게시글 조회 (블로킹), 없으면 empty
+  private Mono<EventPost> load(Long postId) {
+    return Mono.fromCallable(() -> {
+          Optional<EventPost> post = eventPostRepository.findById(postId);
+          if (post.isEmpty()) {
+            log.info("[AI] skip postId={} (삭제됨)", postId);
+          }
+          return post.orElse(null);
+        })
+        .subscribeOn(Schedulers.boundedElastic());
+  }
+}
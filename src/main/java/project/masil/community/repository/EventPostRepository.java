@@ -2,6 +2,7 @@ package project.masil.community.repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
@@ -459,4 +460,16 @@ public interface EventPostRepository extends JpaRepository<EventPost, Long>,
   @Modifying(clearAutomatically = true, flushAutomatically = true)
   @Query("update EventPost e set e.summary = :summary, e.updatedAt = CURRENT_TIMESTAMP where e.id = :id")
   int updateSummary(@Param("id") Long id, @Param("summary") String summary);
+
+  // 이미지 URL (순서대로)
+  @Query("SELECT i FROM EventPost e JOIN e.eventImages i WHERE e.id = :id ORDER BY INDEX(i)")
+  List<String> findImageUrls(@Param("id") Long id);
+
+  @Query("SELECT e.imageVariantCount FROM EventPost e WHERE e.id = :id")
+  Optional<Integer> findImageVariantCount(@Param("id") Long id);
+
+  // 변형본 생성 완료 수 (더 작은 값으로 되돌리지 않음)
+  @Modifying(clearAutomatically = true, flushAutomatically = true)
+  @Query("update EventPost e set e.imageVariantCount = :count where e.id = :id and e.imageVariantCount < :count")
+  int updateImageVariantCount(@Param("id") Long id, @Param("count") int count);
 }
@@ -1,6 +1,7 @@
 package project.masil.community.repository;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import org.springframework.data.domain.Page;
@@ -37,4 +38,8 @@ public interface FavoriteRepository extends JpaRepository<Favorite, Long> {
   // => Favorite 테이블에서 "userId가 좋아요한 postId들"만 한 번에 IN 쿼리로 싹 가져옴 (N+1을 막음)
   @Query("select f.post.id from Favorite f where f.user.id = :userId and f.post.id in :postIds")
   Set<Long> findLikedPostIds(@Param("userId") Long userId, @Param("postIds") Collection<Long> postIds);
+
+  // 게시글을 관심목록에 넣은 사용자 ID (알림 fan-out)
+  @Query("select f.user.id from Favorite f where f.post.id = :postId")
+  List<Long> findUserIdsByPostId(@Param("postId") Long postId);
 }
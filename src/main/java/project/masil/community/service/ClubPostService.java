@@ -21,9 +21,11 @@ import project.masil.community.repository.ClubPostRepository;
 import project.masil.community.repository.EventPostRepository;
 import project.masil.community.repository.FavoriteRepository;
 import project.masil.global.exception.CustomException;
+import project.masil.global.security.CurrentUserContext;
+import project.masil.notification.enums.NotificationType;
+import project.masil.notification.event.NotificationEvent;
+import project.masil.notification.service.NotificationPublisher;
 import project.masil.user.entity.User;
-import project.masil.user.exception.UserErrorCode;
-import project.masil.user.repository.UserRepository;
 
 @Service
 @RequiredArgsConstructor
@@ -32,8 +34,9 @@ public class ClubPostService {
 
   private final ClubPostRepository clubPostRepository;
   private final EventPostRepository eventPostRepository;
-  private final UserRepository userRepository;
+  private final CurrentUserContext currentUserContext;
   private final FavoriteRepository favoriteRepository;
+  private final NotificationPublisher notificationPublisher;
 
   @Transactional(readOnly = true)
   public Long getClubLeaderUserId(Long clubId) {
@@ -51,12 +54,12 @@ public class ClubPostService {
    * @param createRequest 소모임 게시글 생성 요청
    * @return 생성된 소모임 게시글 상세 정보
    */
+  @Transactional
   public ClubPostDetailResponse createClubPost(Long userId, Long eventId,
       ClubPostRequest createRequest) {
     log.info("[서비스] 소모임 게시글 생성 시도 - userId: {}, eventId: {}, createRequest: {}", userId, eventId,
         createRequest);
-    User user = userRepository.findById(userId)
-        .orElseThrow(() -> new CustomException(UserErrorCode.USER_NOT_FOUND));
+    User user = currentUserContext.referenceOf(userId);
     EventPost eventPost = eventPostRepository.findById(eventId)
         .orElseThrow(() -> new CustomException(EventErrorCode.EVENT_NOT_FOUND));
 
@@ -71,6 +74,9 @@ public class ClubPostService {
         .build();
 
     ClubPost saved = clubPostRepository.save(clubPost);
+    // 이벤트를 관심 목록에 넣은 사용자들에게 (수신자 조회는 알림 전달기에서)
+    notificationPublisher.publish(NotificationEvent.fanOut(NotificationType.CLUB_POST, userId,
+        saved.getId(), eventId));
     return ClubPostConverter.toClubPostDetailResponse(saved, false,
         userId.equals(eventPost.getUser().getId()));
   }
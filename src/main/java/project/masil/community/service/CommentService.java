@@ -16,11 +16,13 @@ import project.masil.community.repository.CommentRepository;
 import project.masil.community.repository.PostRepository;
 import project.masil.embedding.service.FeedbackService;
 import project.masil.global.exception.CustomException;
+import project.masil.global.security.CurrentUserContext;
 import project.masil.global.response.ListResponse;
+import project.masil.notification.enums.NotificationType;
+import project.masil.notification.event.NotificationEvent;
+import project.masil.notification.service.NotificationPublisher;
 import project.masil.user.entity.User;
 import project.masil.user.entity.UserActionType;
-import project.masil.user.exception.UserErrorCode;
-import project.masil.user.repository.UserRepository;
 
 @Service
 @RequiredArgsConstructor
@@ -28,9 +30,10 @@ import project.masil.user.repository.UserRepository;
 public class CommentService {
 
   private final CommentRepository commentRepository;
-  private final UserRepository userRepository;
+  private final CurrentUserContext currentUserContext;
   private final PostRepository postRepository;
   private final FeedbackService feedbackService;
+  private final NotificationPublisher notificationPublisher;
 
   /**
    * 댓글 작성자 userId를 반환 - 채팅 서비스에서 "댓글 컨텍스트ID로 채팅 시작" 시 대상 사용자 검증 용도 - 존재하지 않으면
@@ -55,6 +58,7 @@ public class CommentService {
    * @param expectedType 게시글의 예상 타입 (예: EVENT, CLUB 등)
    * @return 생성된 댓글 정보
    */
+  @Transactional
   public CommentResponse createComment(Long postId, Long userId, String content,
       PostType expectedType) {
     log.info("[서비스] 댓글 생성 시도 - postId: {}, userId: {}, content: {}", postId, userId, content);
@@ -66,8 +70,7 @@ public class CommentService {
       throw new CustomException(PostErrorCode.INVALID_POST_TYPE);
     }
 
-    User user = userRepository.findById(userId)
-        .orElseThrow(() -> new CustomException(UserErrorCode.USER_NOT_FOUND));
+    User user = currentUserContext.referenceOf(userId);
 
     Comment comment = Comment.builder()
         .post(post)
@@ -76,6 +79,8 @@ public class CommentService {
         .build();
     post.incrementCommentCount();
     Comment saved = commentRepository.save(comment);
+    notificationPublisher.publish(NotificationEvent.to(NotificationType.COMMENT,
+        post.getUser().getId(), userId, postId, postId));
     if (expectedType == PostType.EVENT) {
       // 피드백 서비스는 이벤트 타입에 대해서만 처리
       feedbackService.handle(userId, postId, UserActionType.COMMENT);
@@ -116,6 +121,7 @@ public class CommentService {
    * @param expectedType    게시글의 예상 타입 (예: EVENT, CLUB 등)
    * @return 생성된 대댓글 정보
    */
+  @Transactional
   public CommentResponse createChildComment(Long postId, Long parentCommentId, Long userId,
       String content, PostType expectedType) {
     log.info("[서비스] 대댓글 생성 시도 - eventId: {}, parentCommentId: {}, userId: {}, content: {}",
@@ -128,8 +134,7 @@ public class CommentService {
       throw new CustomException(PostErrorCode.INVALID_POST_TYPE);
     }
 
-    User user = userRepository.findById(userId)
-        .orElseThrow(() -> new CustomException(UserErrorCode.USER_NOT_FOUND));
+    User user = currentUserContext.referenceOf(userId);
 
     Comment parentComment = commentRepository.findById(parentCommentId)
         .orElseThrow(() -> new CustomException(CommentErrorCode.COMMENT_NOT_FOUND));
@@ -143,6 +148,8 @@ public class CommentService {
     post.incrementCommentCount();
 
     Comment savedChildComment = commentRepository.save(childComment);
+    notificationPublisher.publish(NotificationEvent.to(NotificationType.REPLY,
+        parentComment.getUser().getId(), userId, postId, parentCommentId));
 
     // 대댓글은 살짝 애매
     // feedbackService.handle(userId, postId, UserActionType.COMMENT);
@@ -59,14 +59,16 @@ public class EmbeddingBatchService {
           AiSummarizeRequest req = new AiSummarizeRequest(
               eventPost.getContent(), 5, 10, 0.3, 300
           );
-          AiSummarizeResponse res = aiClient.summarize(req);
+          // 관리자 배치는 외부 서버 부하를 고려해 한 건씩 순차 처리 (결과를 기다린 뒤 다음 건 진행)
+          AiSummarizeResponse res = aiClient.summarize(req).block();
           if (res != null && "success".equalsIgnoreCase(res.getStatus()) && res.getData() != null) {
             String summary = res.getData().trim();
             updater.updateSummary(eventPost.getId(), summary);
           }
 
           // regionId가 메타로만 필요할 때
-          embeddingPipelineService.upsertPost(postId, regionIdMeta, ep.getTitle(), ep.getContent());
+          embeddingPipelineService.upsertPost(postId, regionIdMeta, ep.getTitle(), ep.getContent())
+              .block();
 
           // 만약 region을 완전히 제거한 오버로드를 사용 중이라면 ↓ 한 줄로 교체
           // embeddingPipelineService.upsertPost(postId, ep.getTitle(), ep.getContent());
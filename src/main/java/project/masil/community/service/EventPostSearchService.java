@@ -1,13 +1,24 @@
 package project.masil.community.service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -22,20 +33,21 @@ import project.masil.community.dto.response.EventPostResponse;
 import project.masil.community.entity.EventPost;
 import project.masil.community.entity.Region;
 import project.masil.community.enums.EventType;
+import project.masil.community.exception.EventErrorCode;
 import project.masil.community.repository.EventPostRepository;
 import project.masil.community.repository.FavoriteRepository;
 import project.masil.community.repository.spec.EventPostSpecs;
-import project.masil.embedding.service.EmbeddingPipelineService;
+import project.masil.embedding.service.QueryEmbeddingService;
+import project.masil.global.config.props.AiSearchProps;
 import project.masil.global.exception.CustomException;
+import project.masil.global.security.CurrentUserContext;
 import project.masil.global.util.parser.EventTypeParser;
 import project.masil.global.util.parser.KoreanTimeParser;
 import project.masil.global.util.parser.KoreanTimeParser.TimeSpan;
 import project.masil.global.util.parser.RegionParser;
 import project.masil.infrastructure.client.ai.AiRerankService;
-import project.masil.user.entity.User;
-import project.masil.user.exception.UserErrorCode;
-import project.masil.user.repository.UserRepository;
 import project.masil.user.service.SearchLogService;
+import reactor.core.publisher.Mono;
 
 @Service
 @RequiredArgsConstructor
@@ -47,13 +59,17 @@ public class EventPostSearchService {
   private final EventTypeParser eventTypeParser;
   private final RegionParser regionParser;
 
-  private final EmbeddingPipelineService embeddingPipelineService;
+  private final QueryEmbeddingService queryEmbeddingService;
   private final AiRerankService aiRerankService;
 
   private final EventPostConverter converter;
   private final FavoriteRepository favoriteRepository;
   private final SearchLogService searchLogService;
-  private final UserRepository userRepository;
+  private final CurrentUserContext currentUserContext;
+
+  @Qualifier("searchTaskExecutor")
+  private final Executor searchTaskExecutor;
+  private final AiSearchProps aiSearchProps;
 
   @Transactional
   public Page<EventPostResponse> search(Long userId, String keyword, Pageable pageable) {
@@ -61,9 +77,7 @@ public class EventPostSearchService {
     // 검색 로그 기록
     searchLogService.log(userId, keyword);
 
-    User user = userRepository.findById(userId)
-        .orElseThrow(() -> new CustomException(UserErrorCode.USER_NOT_FOUND));
-    Long regionId = user.getRegion().getId();
+    Long regionId = currentUserContext.regionIdOf(userId);
     if (regionId == null) {
       return Page.empty(pageable);
     }
@@ -120,12 +134,16 @@ public class EventPostSearchService {
         .toList();
   }
 
+  /**
+   * 자연어 쿼리 기반 AI 검색.
+   * <p>
+   * 쿼리 임베딩(OpenAI, 논블로킹)은 DB 후보 조회와 무관하므로 두 단계를 동시에 시작하고, 각 단계에 마감 시간을 둔다.
+   * 후보가 없거나 후보 조회가 실패하면 임베딩 결과는 기다리지 않고 버린다. 재랭킹 이후에는 엔티티 로딩과 좋아요 여부 조회를
+   * 겹쳐서 실행한다.
+   */
   public List<EventPostResponse> searchByAI(Long userId, String query) {
 
-    User user = userRepository.findById(userId)
-        .orElseThrow(() -> new CustomException(UserErrorCode.USER_NOT_FOUND));
-
-    Region region = user.getRegion();
+    Region region = currentUserContext.regionOf(userId);
     String sido = region.getSido();
     String sigungu = region.getSigungu();
 
@@ -136,20 +154,38 @@ public class EventPostSearchService {
     // 2) 이벤트 종류 추출
     EventType category = eventTypeParser.parseTop1(query);
 
-    // 3) 필수 슬롯 이용하여 DB에서 후보 ID 뽑기
-    List<Long> candidateIds = findEventPostIds(str.start(), str.end(), sido,
-        sigungu, category, 100);
+    // 3) 쿼리 텍스트 임베딩(논블로킹) + 4) 필수 슬롯 이용한 DB 후보 ID 조회를 동시에 시작
+    CompletableFuture<List<Float>> embeddingFuture = queryEmbeddingService.embed(query)
+        .orTimeout(aiSearchProps.getEmbeddingTimeout().toMillis(), TimeUnit.MILLISECONDS);
+    CompletableFuture<List<Long>> candidateFuture = fork(
+        () -> findEventPostIds(str.start(), str.end(), sido, sigungu, category, 100),
+        aiSearchProps.getCandidateTimeout());
+
+    List<Long> candidateIds;
+    try {
+      candidateIds = await(candidateFuture);
+    } catch (RuntimeException e) {
+      embeddingFuture.cancel(true);
+      throw e;
+    }
 
     log.info("후보 id 널 확인 : {}", candidateIds.isEmpty());
     if (candidateIds.isEmpty()) {
+      // 임베딩 로딩은 캐시에 채워지도록 그대로 두고, 이 요청에서는 결과만 버린다
+      embeddingFuture.cancel(true);
       return List.of();
     }
 
-    // 4) 쿼리 텍스트 임베딩 구하기
-    List<Float> q = embeddingPipelineService.requestEmbedding(query);
+    List<Float> q = await(embeddingFuture);
 
     // 5) 파이썬 서버에서 코사인 유사도 재랭킹 (topK=10)
-    List<Long> rankedIds = aiRerankService.searchByAI(candidateIds, q, 10);
+    List<Long> rankedIds = await(aiRerankService.searchByAI(candidateIds, q, 10)
+        // 재랭킹 서버 장애/지연 시 후보 순서(시작일 최신순) 상위 10건으로 대체
+        .onErrorResume(e -> {
+          log.warn("[AI 검색] 재랭킹 실패, 후보 순서로 대체: {}", e.toString());
+          return Mono.just(candidateIds.subList(0, Math.min(10, candidateIds.size())));
+        })
+        .toFuture());
 
     if (rankedIds.isEmpty()) {
       return List.of();
@@ -158,13 +194,17 @@ public class EventPostSearchService {
       log.debug("랭크된 ID: {}", id);
     }
 
-    // 6) 순서 보존 로딩 + 응답 변환
+    // 6) 좋아요 여부(배치 조회)는 별도 스레드에서, 순서 보존 로딩은 요청 스레드에서 진행
+    //    (연관 엔티티 지연 로딩이 필요하므로 엔티티는 요청 스레드의 영속성 컨텍스트에서 로딩)
+    CompletableFuture<Set<Long>> likedFuture = fork(
+        () -> favoriteRepository.findLikedPostIds(userId, rankedIds),
+        aiSearchProps.getCandidateTimeout());
     List<EventPost> posts = loadInOrder(rankedIds);
+    Set<Long> likedIds = await(likedFuture);
 
     return posts.stream()
         .map(post -> {
-          boolean isLiked = favoriteRepository.existsByUserIdAndPostId(
-              userId, post.getId());
+          boolean isLiked = likedIds.contains(post.getId());
           boolean isMine = post.getUser().getId().equals(userId);
           return converter.toResponse(
               post,
@@ -175,6 +215,32 @@ public class EventPostSearchService {
         .toList();
   }
 
+  private <T> CompletableFuture<T> fork(Supplier<T> stage, Duration deadline) {
+    try {
+      return CompletableFuture.supplyAsync(stage, searchTaskExecutor)
+          .orTimeout(deadline.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (RejectedExecutionException e) {
+      log.warn("[AI 검색] 작업 풀 포화로 요청 거절");
+      throw new CustomException(EventErrorCode.AI_SEARCH_UNAVAILABLE);
+    }
+  }
+
+  private static <T> T await(CompletableFuture<T> future) {
+    try {
+      return future.join();
+    } catch (CompletionException | CancellationException e) {
+      Throwable cause = e.getCause() != null ? e.getCause() : e;
+      if (cause instanceof TimeoutException) {
+        log.warn("[AI 검색] 단계 마감 시간 초과");
+        throw new CustomException(EventErrorCode.AI_SEARCH_TIMEOUT);
+      }
+      if (cause instanceof RuntimeException re) {
+        throw re;
+      }
+      throw new CustomException(EventErrorCode.AI_SEARCH_UNAVAILABLE);
+    }
+  }
+
   public List<EventPost> loadInOrder(List<Long> orderedIds) {
     if (orderedIds.isEmpty()) {
       return List.of();
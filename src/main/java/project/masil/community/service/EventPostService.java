@@ -8,17 +8,13 @@ import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
-import java.util.UUID;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.support.TransactionSynchronization;
-import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 import project.masil.community.converter.EventPostConverter;
 import project.masil.community.converter.RegionConverter;
@@ -29,36 +25,35 @@ import project.masil.community.entity.Region;
 import project.masil.community.enums.EventSort;
 import project.masil.community.enums.EventType;
 import project.masil.community.enums.PostType;
-import project.masil.community.event.EventCreatedEvent;
 import project.masil.community.exception.EventErrorCode;
 import project.masil.community.exception.PostErrorCode;
 import project.masil.community.exception.RegionErrorCode;
 import project.masil.community.repository.EventPostRepository;
 import project.masil.community.repository.FavoriteRepository;
 import project.masil.community.repository.RegionRepository;
-import project.masil.embedding.service.EmbeddingPipelineService;
 import project.masil.embedding.service.FeedbackService;
 import project.masil.global.config.S3.AmazonS3Manager;
-import project.masil.global.config.S3.Uuid;
-import project.masil.global.config.S3.UuidRepository;
+import project.masil.global.config.S3.S3ImageUploader;
+import project.masil.global.config.S3.S3ImageUploader.UploadedImage;
 import project.masil.global.exception.CustomException;
+import project.masil.global.image.ImageObjectService;
+import project.masil.global.outbox.OutboxEventType;
+import project.masil.global.outbox.OutboxPublisher;
+import project.masil.global.security.CurrentUserContext;
 import project.masil.infrastructure.client.ai.AiClient;
 import project.masil.user.entity.User;
 import project.masil.user.entity.UserActionType;
-import project.masil.user.exception.UserErrorCode;
-import project.masil.user.repository.UserRepository;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class EventPostService {
 
-  private final ApplicationEventPublisher publisher;
+  private final OutboxPublisher outboxPublisher;
 
   private final EventPostRepository eventPostRepository;
   private final RegionRepository regionRepository;
-  private final UserRepository userRepository;
-  private final EmbeddingPipelineService embeddingPipelineService;
+  private final CurrentUserContext currentUserContext;
 
 
   private final EventPostConverter converter;
@@ -67,8 +62,10 @@ public class EventPostService {
 
 
   //s3
-  private final UuidRepository uuidRepository;
   private final AmazonS3Manager s3Manager;
+  private final S3ImageUploader imageUploader;
+  private final ImageObjectService imageObjectService;
+  private final TransactionTemplate tx;
   private final FavoriteRepository favoriteRepository;
 
   private final AiClient aiClient;
@@ -100,14 +97,15 @@ public class EventPostService {
   }
 
   /**
-   * 이벤트 생성 - 이미지 필수 검증 - 지역/유저 유효성 검증 - 이미지 업로드 (S3) - AI 요약 생성 (실패 시 무시)
+   * 이벤트 생성 - 이미지 필수 검증 - 이미지 병렬 업로드 (S3, 트랜잭션 밖) - 지역/유저 유효성 검증 및 저장 (짧은 트랜잭션)
+   * - AI 요약/임베딩은 아웃박스로 (실패 시 재시도)
+   * - 같은 내용의 이미지는 다시 올리지 않는다. 저장이 실패하면 올린 이미지는 참조 수 0 으로 남아 GC 가 정리
    *
    * @param userId
    * @param request
    * @param images
    * @return
    */
-  @Transactional
   public EventPostResponse createEvent(Long userId, EventPostRequest request,
       List<MultipartFile> images) {
 
@@ -121,27 +119,24 @@ public class EventPostService {
       throw new CustomException(EventErrorCode.EMPTY_IMAGE);
     }
 
-    User user = userRepository.findById(userId)
-        .orElseThrow(() -> new CustomException(UserErrorCode.USER_NOT_FOUND));
-
     // 종료 >= 시작 검증
     if (request.getEndAt().isBefore(request.getStartAt())) {
       throw new IllegalArgumentException("종료 일시는 시작 일시보다 같거나 이후여야 합니다.");
     }
 
+    // 이미지 업로드 (DB 커넥션을 잡기 전에 병렬로, 하나라도 실패하면 예외)
+    List<UploadedImage> uploaded = imageUploader.uploadAll(images, s3Manager::generateEvent);
+    return tx.execute(status -> saveEvent(userId, request, UploadedImage.urls(uploaded)));
+  }
+
+  private EventPostResponse saveEvent(Long userId, EventPostRequest request,
+      List<String> imageUrls) {
+    User user = currentUserContext.referenceOf(userId);
+
     //지역 검증
     Region region = regionRepository.findById(request.getRegionId())
         .orElseThrow(() -> new CustomException(RegionErrorCode.REGION_NOT_FOUND));
 
-    // 이미지 업로드 (실패 시 예외 전파 -> 트랜잭션 롤백)
-    List<String> imageUrls = images.stream()
-        .map(image -> {
-          String uuid = UUID.randomUUID().toString();
-          Uuid savedUuid = uuidRepository.save(Uuid.builder().uuid(uuid).build());
-          return s3Manager.uploadFile(s3Manager.generateEvent(savedUuid), image);
-        })
-        .collect(Collectors.toList());
-
     EventPost eventPost = EventPost.builder()
         .postType(PostType.EVENT)
         .user(user)
@@ -161,17 +156,17 @@ public class EventPostService {
         .build();
 
     EventPost savedEventPost = eventPostRepository.save(eventPost);
+    imageObjectService.retain(imageUrls);
+
+    // 이미지 변형본(썸네일/카드/상세)은 커밋 후 비동기 생성
+    outboxPublisher.append(OutboxEventType.POST_IMAGE_VARIANTS, savedEventPost.getId());
 
     int bodyLen = effectiveLen(savedEventPost.getContent());
 
-    // (비동기) AI 요약 생성 및 파이썬 서버 임베딩 upsert
+    // (아웃박스) AI 요약 생성 및 파이썬 서버 임베딩 upsert - 게시글과 같은 트랜잭션에 기록
     if (bodyLen >= LEN_THRESHOLD) {
-      publisher.publishEvent(new EventCreatedEvent(
-          savedEventPost.getId(),
-          region.getId(),
-          savedEventPost.getTitle(),
-          savedEventPost.getContent()
-      ));
+      outboxPublisher.append(OutboxEventType.POST_SUMMARIZE, savedEventPost.getId());
+      outboxPublisher.append(OutboxEventType.POST_EMBEDDING_UPSERT, savedEventPost.getId());
     } else {
       log.info("[AI] (create) skip postId={} (bodyLen={} < {})",
           savedEventPost.getId(), bodyLen, LEN_THRESHOLD);
@@ -324,9 +319,24 @@ public class EventPostService {
    * @param images
    * @return
    */
-  @Transactional
   public EventPostResponse updateEvent(Long eventPostId, Long userId, EventPostRequest request,
       List<MultipartFile> images) {
+    // 종료 >= 시작 검증
+    if (request.getEndAt().isBefore(request.getStartAt())) {
+      throw new IllegalArgumentException("종료 일시는 시작 일시보다 같거나 이후여야 합니다.");
+    }
+
+    // 이미지: null/빈 리스트면 유지, 있으면 추가만 (작성자 확인 후 트랜잭션 밖에서 병렬 업로드)
+    if (images == null || images.isEmpty()) {
+      return tx.execute(status -> applyUpdate(eventPostId, userId, request, List.of()));
+    }
+    findOwnedEvent(eventPostId, userId);
+    List<UploadedImage> uploaded = imageUploader.uploadAll(images, s3Manager::generateEvent);
+    return tx.execute(status -> applyUpdate(eventPostId, userId, request,
+        UploadedImage.urls(uploaded)));
+  }
+
+  private EventPost findOwnedEvent(Long eventPostId, Long userId) {
     EventPost eventPost = eventPostRepository.findById(eventPostId)
         .orElseThrow(() -> new CustomException(EventErrorCode.EVENT_NOT_FOUND));
 
@@ -334,11 +344,12 @@ public class EventPostService {
     if (!eventPost.getUser().getId().equals(userId)) {
       throw new CustomException(EventErrorCode.EVENT_FORBIDDEN); //403 에러
     }
+    return eventPost;
+  }
 
-    // 종료 >= 시작 검증
-    if (request.getEndAt().isBefore(request.getStartAt())) {
-      throw new IllegalArgumentException("종료 일시는 시작 일시보다 같거나 이후여야 합니다.");
-    }
+  private EventPostResponse applyUpdate(Long eventPostId, Long userId, EventPostRequest request,
+      List<String> newUrls) {
+    EventPost eventPost = findOwnedEvent(eventPostId, userId);
 
     //지역 검증
     Region region = regionRepository.findById(request.getRegionId())
@@ -360,16 +371,10 @@ public class EventPostService {
         request.getEndAt()
     );
 
-    // 이미지: null/빈 리스트면 유지, 있으면 추가만
-    if (images != null && !images.isEmpty()) {
-      List<String> newUrls = images.stream()
-          .map(image -> {
-            String uuid = UUID.randomUUID().toString();
-            Uuid savedUuid = uuidRepository.save(Uuid.builder().uuid(uuid).build());
-            return s3Manager.uploadFile(s3Manager.generateEvent(savedUuid), image);
-          })
-          .toList();
+    if (!newUrls.isEmpty()) {
       eventPost.addImages(newUrls);
+      imageObjectService.retain(newUrls);
+      outboxPublisher.append(OutboxEventType.POST_IMAGE_VARIANTS, eventPost.getId());
     }
 
     // 임베딩 개싱 필요 여부 판단
@@ -377,24 +382,11 @@ public class EventPostService {
         || !Objects.equals(oldContent, eventPost.getContent())
         || !Objects.equals(oldRegionId, region.getId());
 
-    int bodyLen = effectiveLen(eventPost.getContent());
-
-    long postId = eventPost.getId();
-    long regionId = region.getId();
-    String title = eventPost.getTitle();
-    String content = eventPost.getContent();
-
-    // 커밋 후 단일 이벤트 발행(요약+임베딩은 리스너에서 처리)
+    // 같은 트랜잭션에 아웃박스 기록 (요약+임베딩은 커밋 후 OutboxDispatcher 가 최신 내용으로 처리)
     if (changed) {
-      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-        @Override
-        public void afterCommit() {
-          publisher.publishEvent(
-              new EventCreatedEvent(postId, regionId, title, content));
-          log.info("[AI] (update) published EventPostChangedEvent postId={} changed={}", postId,
-              true);
-        }
-      });
+      outboxPublisher.append(OutboxEventType.POST_SUMMARIZE, eventPost.getId());
+      outboxPublisher.append(OutboxEventType.POST_EMBEDDING_UPSERT, eventPost.getId());
+      log.info("[AI] (update) outbox appended postId={}", eventPost.getId());
     }
 
     boolean isLiked = favoriteRepository.existsByUserIdAndPostId(userId, eventPost.getId());
@@ -407,21 +399,12 @@ public class EventPostService {
     EventPost eventPost = eventPostRepository.findById(eventPostId)
         .orElseThrow(() -> new CustomException(EventErrorCode.EVENT_NOT_FOUND));
 
-    // 1) 우선 도메인 삭제 (DB 트랜잭션 안)
+    // 1) 우선 도메인 삭제 (DB 트랜잭션 안), 이미지 참조 해제 (다른 게시글이 안 쓰면 GC 대상)
+    imageObjectService.release(eventPost.getEventImages());
     eventPostRepository.delete(eventPost);
 
-    // 2) 커밋 이후에 외부(FAISS) 반영
-    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-      @Override
-      public void afterCommit() {
-        try {
-          embeddingPipelineService.removePost(eventPostId);
-        } catch (Exception e) {
-          // 외부 연동 실패
-          log.error("FAISS remove 연동 실패 postId={}", eventPostId, e);
-        }
-      }
-    });
+    // 2) 외부(FAISS) 반영은 아웃박스로 (커밋되면 실패해도 재시도)
+    outboxPublisher.append(OutboxEventType.POST_EMBEDDING_REMOVE, eventPostId);
 
     return true;
   }
@@ -16,4 +16,9 @@ public class EventPostUpdater {
   public void updateSummary(Long postId, String summary) {
     eventPostRepository.updateSummary(postId, summary);
   }
-}
\ No newline at end of file
+
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public void updateImageVariantCount(Long postId, int count) {
+    eventPostRepository.updateImageVariantCount(postId, count);
+  }
+}
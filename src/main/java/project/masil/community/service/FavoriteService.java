@@ -13,19 +13,22 @@ import project.masil.community.repository.FavoriteRepository;
 import project.masil.community.repository.PostRepository;
 import project.masil.embedding.service.FeedbackService;
 import project.masil.global.exception.CustomException;
+import project.masil.global.security.CurrentUserContext;
+import project.masil.notification.enums.NotificationType;
+import project.masil.notification.event.NotificationEvent;
+import project.masil.notification.service.NotificationPublisher;
 import project.masil.user.entity.User;
 import project.masil.user.entity.UserActionType;
-import project.masil.user.exception.UserErrorCode;
-import project.masil.user.repository.UserRepository;
 
 @Service
 @RequiredArgsConstructor
 public class FavoriteService {
 
-  private final UserRepository userRepository;
+  private final CurrentUserContext currentUserContext;
   private final PostRepository postRepository;
   private final FavoriteRepository favoriteRepository;
   private final FeedbackService feedbackService;
+  private final NotificationPublisher notificationPublisher;
 
 
   /**
@@ -38,8 +41,7 @@ public class FavoriteService {
    */
   @Transactional
   public FavoriteResponse toggleFavorite(Long userId, Long postId, PostType expectedType) {
-    User user = userRepository.findById(userId)
-        .orElseThrow(() -> new CustomException(UserErrorCode.USER_NOT_FOUND));
+    User user = currentUserContext.referenceOf(userId);
     Post post = postRepository.findById(postId)
         .orElseThrow(() -> new CustomException(PostErrorCode.POST_NOT_FOUND));
 
@@ -66,6 +68,8 @@ public class FavoriteService {
       favoriteRepository.save(favorite);
       if (expectedType == PostType.EVENT) {
         feedbackService.handle(userId, postId, UserActionType.FAVORITE_ADD);
+        notificationPublisher.publish(NotificationEvent.to(NotificationType.FAVORITE,
+            post.getUser().getId(), userId, postId, postId));
       }
 
       post.incrementFavoriteCount();
@@ -9,6 +9,7 @@ import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -23,18 +24,17 @@ import project.masil.community.repository.EventPostRepository;
 import project.masil.community.repository.FavoriteRepository;
 import project.masil.community.repository.PostEmbeddingRepository;
 import project.masil.embedding.service.UserEmbeddingService;
-import project.masil.global.exception.CustomException;
+import project.masil.global.security.CurrentUserContext;
 import project.masil.infrastructure.client.ai.AiRerankService;
-import project.masil.user.entity.User;
-import project.masil.user.exception.UserErrorCode;
-import project.masil.user.repository.UserRepository;
+import reactor.core.publisher.Mono;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 @Transactional(readOnly = true)
 public class RecommendationService {
 
-  private final UserRepository userRepository;
+  private final CurrentUserContext currentUserContext;
   private final PostEmbeddingRepository postEmbeddingRepository;
   private final UserEmbeddingService userEmbeddingService;
   private final AiRerankService aiRerankService;
@@ -59,9 +59,7 @@ public class RecommendationService {
   ) {
     long seed = hourlySeed();
     // 0) 유효성
-    User user = userRepository.findById(userId)
-        .orElseThrow(() -> new CustomException(UserErrorCode.USER_NOT_FOUND));
-    Long regionId = user.getRegion().getId();
+    Long regionId = currentUserContext.regionIdOf(userId);
 
     // 광고 추가
     List<Long> adIds;
@@ -116,16 +114,26 @@ public class RecommendationService {
     List<EventPost> adPosts = eventPostSearchService.loadInOrder(adIds);
     List<EventPostResponse> adResponses = toResponses(userId, adPosts);
 
-    // --- 이후 AI 추천 (기존 로직 그대로) ---
+    // --- 이후 AI 추천 ---
+    List<Long> rankedTopIds = null;
+    if (userVec != null) {
+      int needTop = (int) Math.min((long) (pageable.getPageNumber() + 1) * pageable.getPageSize(),
+          candidateIds.size());
+      rankedTopIds = aiRerankService.recommendByAI(candidateIds, userVec, needTop)
+          // AI 서버 장애/지연(서킷 OPEN, 타임아웃 등) 시 최신순 추천으로 대체
+          .onErrorResume(e -> {
+            log.warn("AI 추천 실패, 최신순으로 대체 userId={}: {}", userId, e.toString());
+            return Mono.empty();
+          })
+          .block();
+    }
+
     List<EventPostResponse> aiResponses;
-    if (userVec == null) {
+    if (rankedTopIds == null) {
       List<EventPost> rows = eventPostRepository.findRecentByIdsPage(candidateIds, 0,
           pageable.getPageSize());
       aiResponses = toResponses(userId, rows);
     } else {
-      int needTop = (int) Math.min((long) (pageable.getPageNumber() + 1) * pageable.getPageSize(),
-          candidateIds.size());
-      List<Long> rankedTopIds = aiRerankService.recommendByAI(candidateIds, userVec, needTop);
       List<EventPost> posts = eventPostSearchService.loadInOrder(rankedTopIds);
       aiResponses = toResponses(userId, posts);
     }
@@ -0,0 +1,38 @@
+package project.masil.embedding.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+import project.masil.global.common.BaseTimeEntity;
+
+/**
+ * 검색 쿼리 임베딩 영속 캐시 (int8 양자화)
+ */
+@Entity
+@Getter
+@Setter
+@Table(name = "query_embedding")
+public class QueryEmbedding extends BaseTimeEntity {
+
+  @Id
+  @Column(length = 64)
+  private String queryHash; // sha-256(모델 + 정규화 쿼리) hex
+
+  @Column(nullable = false, length = 100)
+  private String model;
+
+  @Column(nullable = false, length = 500)
+  private String query;
+
+  @Lob
+  @Column(columnDefinition = "BLOB", nullable = false)
+  private byte[] embedding; // int8[1536] 양자화 바이트
+
+  @Column(nullable = false)
+  private float scale; // 원래 값 = int8 * scale
+
+}
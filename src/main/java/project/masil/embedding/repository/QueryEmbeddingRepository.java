@@ -0,0 +1,10 @@
+package project.masil.embedding.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import project.masil.embedding.entity.QueryEmbedding;
+
+@Repository
+public interface QueryEmbeddingRepository extends JpaRepository<QueryEmbedding, String> {
+
+}
@@ -6,7 +6,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.reactive.function.client.WebClient;
 import project.masil.community.entity.PostEmbedding;
 import project.masil.community.repository.PostEmbeddingRepository;
@@ -18,6 +17,8 @@ import project.masil.infrastructure.client.ai.dto.FaissUpsertRequest;
 import project.masil.infrastructure.client.ai.dto.FaissUpsertResponse;
 import project.masil.infrastructure.client.openAi.dto.OpenAIEmbeddingRequest;
 import project.masil.infrastructure.client.openAi.dto.OpenAIEmbeddingResponse;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 @Service
 @Slf4j
@@ -27,15 +28,15 @@ public class EmbeddingPipelineService {
 
   @Qualifier("openaiWebClient")
   private final WebClient openai;              // OpenAI 호출
-  @Qualifier("aiWebClient")
-  private final WebClient ai;                  // 파이썬 FAISS 서버
+  @Qualifier("aiBatchWebClient")
+  private final WebClient ai;                  // 파이썬 FAISS 서버 (백그라운드 전용 풀)
   private final OpenAIProps props;
   private final PostEmbeddingRepository postEmbeddingRepository;
 
   @Autowired
   public EmbeddingPipelineService(
       @Qualifier("openaiWebClient") WebClient openai,
-      @Qualifier("aiWebClient") WebClient ai,
+      @Qualifier("aiBatchWebClient") WebClient ai,
       OpenAIProps props,
       PostEmbeddingRepository postEmbeddingRepository
   ) {
@@ -48,95 +49,107 @@ public class EmbeddingPipelineService {
 
   /**
    * 게시글 저장/수정 시 호출: 임베딩 → DB → FAISS upsert
+   * <p>
+   * 구독 시 실행된다. DB 저장(블로킹 JPA)은 boundedElastic 스케줄러에서 수행한다.
    */
-  @Transactional
-  public void upsertPost(long postId, long regionId, String title, String body) {
+  public Mono<Void> upsertPost(long postId, long regionId, String title, String body) {
     String input = title + " \n\n###\n\n " + body;
 
     // 1) OpenAI 임베딩
-    List<Float> vec = requestEmbedding(input);
+    return requestEmbedding(input)
+        // 2) DB에 임베딩 값 저장 (LONGBLOB)
+        .flatMap(vec -> Mono
+            .fromCallable(() -> savePostEmbedding(postId, regionId, vec))
+            .subscribeOn(Schedulers.boundedElastic()))
+        // 3) 파이썬 FAISS upsert
+        .flatMap(vec -> ai.post()
+            .uri("/api/faiss/upsert")
+            .bodyValue(new FaissUpsertRequest(postId, vec))
+            .retrieve()
+            .bodyToMono(new ParameterizedTypeReference<CommonResponse<FaissUpsertResponse>>() {
+            })
+            .switchIfEmpty(Mono.error(
+                () -> new IllegalStateException("FAISS upsert 실패: 응답 없음"))))
+        .doOnNext(res -> {
+          if (!"success".equalsIgnoreCase(res.getStatus())) {
+            throw new IllegalStateException("FAISS upsert 실패: " + res.getMessage());
+          }
+          // 성공 시 데이터 활용 가능
+          int upserted = res.getData().getUpserted();
+          int total = res.getData().getNtotal();
+          log.info("FAISS upsert 성공: upserted={}, ntotal={}", upserted, total);
+        })
+        .then();
+  }
 
-    // 2) DB에 임베딩 값 저장 (LONGBLOB)
+  private List<Float> savePostEmbedding(long postId, long regionId, List<Float> vec) {
     PostEmbedding pe = postEmbeddingRepository.findById(postId).orElseGet(PostEmbedding::new);
     pe.setPostId(postId);
     pe.setEmbedding(EmbeddingCodec.toBytes(vec));
     pe.setRegionId(regionId);
     postEmbeddingRepository.save(pe);
-
-    // 3) 파이썬 FAISS upsert
-    FaissUpsertRequest upsert = new FaissUpsertRequest(postId, vec);
-    CommonResponse<FaissUpsertResponse> res = ai.post()
-        .uri("/api/faiss/upsert")
-        .bodyValue(upsert)
-        .retrieve()
-        .bodyToMono(new ParameterizedTypeReference<CommonResponse<FaissUpsertResponse>>() {
-        })
-        .block();
-
-    if (res == null || !"success".equalsIgnoreCase(res.getStatus())) {
-      throw new IllegalStateException("FAISS upsert 실패: "
-          + (res != null ? res.getMessage() : "응답 없음"));
-    }
-
-    // 성공 시 데이터 활용 가능
-    int upserted = res.getData().getUpserted();
-    int total = res.getData().getNtotal();
-    log.info("FAISS upsert 성공: upserted={}, ntotal={}", upserted, total);
-
+    return vec;
   }
 
-  public void removePost(long postId) {
+  /**
+   * 게시글 삭제 시 호출: DB 임베딩 삭제 → FAISS remove
+   */
+  public Mono<Void> removePost(long postId) {
     // 1) DB 임베딩 삭제(있을 때만)
-    try {
-      if (postEmbeddingRepository.existsById(postId)) {
-        postEmbeddingRepository.deleteById(postId);
-      }
-    } catch (Exception e) {
-      // 여기서 실패하더라도 FAISS remove는 시도 (로그만 남김)
-      log.warn("PostEmbedding DB 삭제 실패 postId={}: {}", postId, e.getMessage(), e);
-    }
+    Mono<Void> deleteRow = Mono.<Void>fromRunnable(() -> {
+          if (postEmbeddingRepository.existsById(postId)) {
+            postEmbeddingRepository.deleteById(postId);
+          }
+        })
+        .subscribeOn(Schedulers.boundedElastic())
+        // 여기서 실패하더라도 FAISS remove는 시도 (로그만 남김)
+        .onErrorResume(e -> {
+          log.warn("PostEmbedding DB 삭제 실패 postId={}: {}", postId, e.getMessage(), e);
+          return Mono.empty();
+        });
 
     // 2) 파이썬 FAISS remove 호출
-    CommonResponse<FaissRemoveResponse> res = ai.delete()
-        .uri("/api/faiss/remove/{postId}", postId)
-        .retrieve()
-        .bodyToMono(new ParameterizedTypeReference<CommonResponse<FaissRemoveResponse>>() {
+    return deleteRow
+        .then(ai.delete()
+            .uri("/api/faiss/remove/{postId}", postId)
+            .retrieve()
+            .bodyToMono(new ParameterizedTypeReference<CommonResponse<FaissRemoveResponse>>() {
+            })
+            .switchIfEmpty(Mono.error(
+                () -> new IllegalStateException("FAISS remove 실패: 응답 없음"))))
+        .doOnNext(res -> {
+          if (!"success".equalsIgnoreCase(res.getStatus())) {
+            throw new IllegalStateException("FAISS remove 실패: " + res.getMessage());
+          }
+          FaissRemoveResponse data = res.getData();
+          log.info("FAISS remove 성공: removed={}, ntotal={}",
+              data != null ? data.getRemoved() : null,
+              data != null ? data.getNtotal() : null);
         })
-        .block();
-
-    if (res == null || !"success".equalsIgnoreCase(res.getStatus())) {
-      throw new IllegalStateException(
-          "FAISS remove 실패: " + (res != null ? res.getMessage() : "응답 없음"));
-    }
-
-    FaissRemoveResponse data = res.getData();
-    log.info("FAISS remove 성공: removed={}, ntotal={}",
-        data != null ? data.getRemoved() : null,
-        data != null ? data.getNtotal() : null);
+        .then();
   }
 
   // ----- 내부: OpenAI 임베딩 -----
-  public List<Float> requestEmbedding(String text) {
+  public Mono<List<Float>> requestEmbedding(String text) {
     OpenAIEmbeddingRequest req = new OpenAIEmbeddingRequest(props.getEmbeddingModel(), text);
 
-    OpenAIEmbeddingResponse res = openai.post().uri("/v1/embeddings")
+    return openai.post().uri("/v1/embeddings")
         .bodyValue(req)
         .retrieve()
         .bodyToMono(OpenAIEmbeddingResponse.class)
-        .block();
-
-    if (res == null || res.getData() == null || res.getData().isEmpty()) {
-      throw new IllegalStateException("OpenAI embedding response empty");
-    }
-
-    System.out.println("OpenAI embedding response: " + res.toString());
-
-    List<Float> vec = res.getData().get(0).getEmbedding();
-    if (vec == null || vec.size() != EXPECTED_DIM) {
-      throw new IllegalStateException(
-          "Unexpected embedding dim: " + (vec == null ? -1 : vec.size()));
-    }
-
-    return vec;
+        .map(res -> {
+          if (res.getData() == null || res.getData().isEmpty()) {
+            throw new IllegalStateException("OpenAI embedding response empty");
+          }
+          List<Float> vec = res.getData().get(0).getEmbedding();
+          if (vec == null || vec.size() != EXPECTED_DIM) {
+            throw new IllegalStateException(
+                "Unexpected embedding dim: " + (vec == null ? -1 : vec.size()));
+          }
+          log.debug("OpenAI embedding 수신: dim={}", vec.size());
+          return vec;
+        })
+        .switchIfEmpty(Mono.error(
+            () -> new IllegalStateException("OpenAI embedding response empty")));
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,170 @@
+package project.masil.embedding.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import project.masil.embedding.entity.QueryEmbedding;
+import project.masil.embedding.repository.QueryEmbeddingRepository;
+import project.masil.global.config.props.OpenAIProps;
+import project.masil.global.config.props.QueryEmbeddingCacheProps;
+import project.masil.global.util.EmbeddingCodec;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 검색 쿼리 임베딩 캐시.
+ * <p>
+ * - 1차: 메모리(Caffeine). 벡터 바이트 기준 용량 제한, TTL, 빈도 기반(W-TinyLFU) 제거
+ * - 2차: query_embedding 테이블(int8 양자화). openai.query-cache.persistent=true 일 때만 사용
+ * - 같은 쿼리가 동시에 들어오면 OpenAI 호출은 한 번만 하고 나머지는 그 결과를 기다린다
+ */
+@Service
+@Slf4j
+public class QueryEmbeddingService {
+
+  private static final int MAX_PERSIST_QUERY_LENGTH = 500;
+  private static final int ENTRY_OVERHEAD_BYTES = 64;
+
+  private final EmbeddingPipelineService embeddingPipelineService;
+  private final QueryEmbeddingRepository queryEmbeddingRepository;
+  private final OpenAIProps openAIProps;
+  private final QueryEmbeddingCacheProps cacheProps;
+
+  private final AsyncCache<String, float[]> cache;
+
+  public QueryEmbeddingService(
+      EmbeddingPipelineService embeddingPipelineService,
+      QueryEmbeddingRepository queryEmbeddingRepository,
+      OpenAIProps openAIProps,
+      QueryEmbeddingCacheProps cacheProps
+  ) {
+    this.embeddingPipelineService = embeddingPipelineService;
+    this.queryEmbeddingRepository = queryEmbeddingRepository;
+    this.openAIProps = openAIProps;
+    this.cacheProps = cacheProps;
+    this.cache = Caffeine.newBuilder()
+        .maximumWeight(cacheProps.getMaxSize().toBytes())
+        .weigher((String key, float[] vec) ->
+            vec.length * Float.BYTES + key.length() * Character.BYTES + ENTRY_OVERHEAD_BYTES)
+        .expireAfterWrite(cacheProps.getTtl())
+        .buildAsync();
+  }
+
+  /**
+   * 정규화된 쿼리 기준으로 캐시된 임베딩을 반환하고, 없으면 OpenAI 를 호출한다.
+   * <p>
+   * 반환된 future 에 타임아웃/취소를 걸어도 캐시에 공유된 로딩에는 영향이 없다.
+   */
+  public CompletableFuture<List<Float>> embed(String query) {
+    String key = openAIProps.getEmbeddingModel() + '\n' + normalize(query);
+    return cache.get(key, (k, executor) -> load(k, query))
+        .thenApply(QueryEmbeddingService::toList);
+  }
+
+  private CompletableFuture<float[]> load(String key, String rawQuery) {
+    String hash = cacheProps.isPersistent() ? sha256(key) : null;
+
+    Mono<float[]> fetch = Mono.defer(() -> embeddingPipelineService.requestEmbedding(rawQuery))
+        .map(fetched -> {
+          float[] vec = new float[fetched.size()];
+          for (int i = 0; i < vec.length; i++) {
+            vec[i] = fetched.get(i);
+          }
+          if (hash != null) {
+            // 영속 캐시 저장(JPA)은 응답 경로 밖에서
+            Schedulers.boundedElastic().schedule(() -> persist(hash, key, vec));
+          }
+          return vec;
+        });
+    if (hash == null) {
+      return fetch.toFuture();
+    }
+    // 영속 캐시 조회(JPA)도 블로킹이므로 호출 스레드(요청/Netty) 밖에서
+    return Mono.fromCallable(() -> findPersisted(hash))
+        .subscribeOn(Schedulers.boundedElastic())
+        .switchIfEmpty(fetch)
+        .toFuture();
+  }
+
+  // 없거나 만료됐거나 조회 실패면 null
+  private float[] findPersisted(String hash) {
+    try {
+      return queryEmbeddingRepository.findById(hash)
+          .filter(row -> row.getUpdatedAt() != null && row.getUpdatedAt()
+              .isAfter(LocalDateTime.now().minus(cacheProps.getTtl())))
+          .map(row -> EmbeddingCodec.fromInt8(row.getEmbedding(), row.getScale()))
+          .orElse(null);
+    } catch (Exception e) {
+      log.warn("[쿼리 임베딩] 영속 캐시 조회 실패: {}", e.getMessage());
+      return null;
+    }
+  }
+
+  private void persist(String hash, String key, float[] vec) {
+    String normalized = key.substring(key.indexOf('\n') + 1);
+    if (normalized.length() > MAX_PERSIST_QUERY_LENGTH) {
+      return;
+    }
+    try {
+      QueryEmbedding row = queryEmbeddingRepository.findById(hash).orElseGet(QueryEmbedding::new);
+      float scale = EmbeddingCodec.int8Scale(vec);
+      row.setQueryHash(hash);
+      row.setModel(openAIProps.getEmbeddingModel());
+      row.setQuery(normalized);
+      row.setEmbedding(EmbeddingCodec.toInt8(vec, scale));
+      row.setScale(scale);
+      queryEmbeddingRepository.save(row);
+    } catch (Exception e) {
+      // 영속 캐시 저장 실패는 검색 결과에 영향 없음
+      log.warn("[쿼리 임베딩] 영속 캐시 저장 실패: {}", e.getMessage());
+    }
+  }
+
+  // 유니코드 정규화(NFKC) + 공백 정리 + 소문자
+  static String normalize(String query) {
+    String s = Normalizer.normalize(query == null ? "" : query, Normalizer.Form.NFKC);
+    StringBuilder sb = new StringBuilder(s.length());
+    boolean space = false;
+    for (int i = 0; i < s.length(); i++) {
+      char c = s.charAt(i);
+      if (Character.isWhitespace(c)) {
+        space = sb.length() > 0;
+        continue;
+      }
+      if (space) {
+        sb.append(' ');
+        space = false;
+      }
+      sb.append(c);
+    }
+    return sb.toString().toLowerCase(Locale.ROOT);
+  }
+
+  private static List<Float> toList(float[] vec) {
+    List<Float> out = new ArrayList<>(vec.length);
+    for (float f : vec) {
+      out.add(f);
+    }
+    return out;
+  }
+
+  private static String sha256(String s) {
+    try {
+      MessageDigest md = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(md.digest(s.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -1,23 +1,102 @@
 package project.masil.global.config;
 
 import java.util.concurrent.Executor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import project.masil.global.config.props.AiSearchProps;
+import project.masil.global.config.props.AsyncProps;
+import project.masil.global.config.props.NotificationProps;
+import project.masil.global.config.props.OutboxProps;
 
+/**
+ * 비동기 실행기 설정.
+ * <p>
+ * spring.threads.virtual.enabled=true 이면 Tomcat 요청 처리와 함께 아래 실행기도 가상 스레드로 전환되고, 풀 크기 대신
+ * async.* 의 동시 실행/대기 한도로 제한된다.
+ */
 @Configuration
-@EnableAsync
+@EnableConfigurationProperties({AiSearchProps.class, AsyncProps.class, NotificationProps.class,
+    OutboxProps.class})
+@RequiredArgsConstructor
 public class AsyncConfig {
 
-  @Bean(name = "appTaskExecutor")
-  public Executor appTaskExecutor() {
+  private final AsyncProps asyncProps;
+
+  /**
+   * 요청 스레드가 결과를 기다리는 검색 단계(DB 후보 조회, 임베딩 등)를 동시에 실행하기 위한 풀.
+   * 요청마다 마감 시간이 있으므로 큐를 짧게 두고, 넘치면 바로 거절한다.
+   */
+  @Bean(name = "searchTaskExecutor")
+  @ConditionalOnThreading(Threading.PLATFORM)
+  public Executor searchTaskExecutor() {
     ThreadPoolTaskExecutor ex = new ThreadPoolTaskExecutor();
-    ex.setCorePoolSize(4);
-    ex.setMaxPoolSize(8);
-    ex.setQueueCapacity(1000);
-    ex.setThreadNamePrefix("async-");
+    ex.setCorePoolSize(8);
+    ex.setMaxPoolSize(16);
+    ex.setQueueCapacity(100);
+    ex.setThreadNamePrefix("search-");
     ex.initialize();
     return ex;
   }
-}
\ No newline at end of file
+
+  @Bean(name = "searchTaskExecutor")
+  @ConditionalOnThreading(Threading.VIRTUAL)
+  public Executor virtualSearchTaskExecutor() {
+    AsyncProps.Limit limit = asyncProps.getSearch();
+    return new BoundedVirtualThreadExecutor("search-vt-", limit.getMaxConcurrency(),
+        limit.getMaxWaiting());
+  }
+
+  /**
+   * 게시글 이미지 S3 병렬 업로드 풀 (트랜잭션 시작 전, 요청 스레드가 완료를 기다린다).
+   * 전체 동시 업로드 수를 제한하고, 넘치면 바로 거절한다.
+   */
+  @Bean(name = "uploadTaskExecutor")
+  @ConditionalOnThreading(Threading.PLATFORM)
+  public Executor uploadTaskExecutor() {
+    AsyncProps.Limit limit = asyncProps.getUpload();
+    ThreadPoolTaskExecutor ex = new ThreadPoolTaskExecutor();
+    ex.setCorePoolSize(limit.getMaxConcurrency());
+    ex.setMaxPoolSize(limit.getMaxConcurrency());
+    ex.setQueueCapacity(limit.getMaxWaiting());
+    ex.setThreadNamePrefix("upload-");
+    ex.initialize();
+    return ex;
+  }
+
+  @Bean(name = "uploadTaskExecutor")
+  @ConditionalOnThreading(Threading.VIRTUAL)
+  public Executor virtualUploadTaskExecutor() {
+    AsyncProps.Limit limit = asyncProps.getUpload();
+    return new BoundedVirtualThreadExecutor("upload-vt-", limit.getMaxConcurrency(),
+        limit.getMaxWaiting());
+  }
+
+  /**
+   * 이미지 변형본 생성 풀. CPU/메모리를 많이 쓰므로 동시 실행 수를 작게 둔다.
+   */
+  @Bean(name = "imageTaskExecutor")
+  @ConditionalOnThreading(Threading.PLATFORM)
+  public Executor imageTaskExecutor() {
+    AsyncProps.Limit limit = asyncProps.getImage();
+    ThreadPoolTaskExecutor ex = new ThreadPoolTaskExecutor();
+    ex.setCorePoolSize(limit.getMaxConcurrency());
+    ex.setMaxPoolSize(limit.getMaxConcurrency());
+    ex.setQueueCapacity(limit.getMaxWaiting());
+    ex.setThreadNamePrefix("image-");
+    ex.initialize();
+    return ex;
+  }
+
+  @Bean(name = "imageTaskExecutor")
+  @ConditionalOnThreading(Threading.VIRTUAL)
+  public Executor virtualImageTaskExecutor() {
+    AsyncProps.Limit limit = asyncProps.getImage();
+    return new BoundedVirtualThreadExecutor("image-vt-", limit.getMaxConcurrency(),
+        limit.getMaxWaiting());
+  }
+}
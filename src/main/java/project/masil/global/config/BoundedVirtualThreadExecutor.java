@@ -0,0 +1,69 @@
+package project.masil.global.config;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskExecutor;
+
+/**
+ * 작업마다 가상 스레드를 하나씩 띄우고, 동시에 실행되는 작업 수만 세마포어로 제한하는 실행기.
+ * <p>
+ * 스레드 풀 크기 대신 maxConcurrency(동시 실행 수)와 maxWaiting(허가 대기 수)로 부하를 제어한다. 대기 중인 작업은 파킹된 가상
+ * 스레드이므로 비용이 거의 없고, 대기 수가 한도를 넘으면 {@link RejectedExecutionException} 으로 즉시 거절한다.
+ */
+@Slf4j
+public class BoundedVirtualThreadExecutor implements TaskExecutor {
+
+  private final String name;
+  private final int maxConcurrency;
+  private final int maxWaiting;
+  private final Semaphore permits;
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final ThreadFactory threadFactory;
+
+  public BoundedVirtualThreadExecutor(String threadNamePrefix, int maxConcurrency,
+      int maxWaiting) {
+    this.name = threadNamePrefix;
+    this.maxConcurrency = maxConcurrency;
+    this.maxWaiting = maxWaiting;
+    this.permits = new Semaphore(maxConcurrency);
+    this.threadFactory = Thread.ofVirtual().name(threadNamePrefix, 0).factory();
+  }
+
+  @Override
+  public void execute(Runnable task) {
+    if (inFlight.incrementAndGet() > maxConcurrency + maxWaiting) {
+      inFlight.decrementAndGet();
+      log.warn("[VT] {} 대기 한도 초과로 작업 거절 (maxConcurrency={}, maxWaiting={})",
+          name, maxConcurrency, maxWaiting);
+      throw new RejectedExecutionException(name + " saturated");
+    }
+    threadFactory.newThread(() -> run(task)).start();
+  }
+
+  private void run(Runnable task) {
+    try {
+      permits.acquire();
+    } catch (InterruptedException e) {
+      inFlight.decrementAndGet();
+      Thread.currentThread().interrupt();
+      return;
+    }
+    try {
+      task.run();
+    } finally {
+      permits.release();
+      inFlight.decrementAndGet();
+    }
+  }
+
+  public int getActiveCount() {
+    return maxConcurrency - permits.availablePermits();
+  }
+
+  public int getWaitingCount() {
+    return Math.max(0, inFlight.get() - getActiveCount());
+  }
+}
@@ -0,0 +1,15 @@
+package project.masil.global.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import project.masil.global.config.props.AuthTokenCacheProps;
+import project.masil.global.config.props.QueryEmbeddingCacheProps;
+
+/**
+ * 로컬 캐시(Caffeine) 설정값 등록
+ */
+@Configuration
+@EnableConfigurationProperties({QueryEmbeddingCacheProps.class, AuthTokenCacheProps.class})
+public class CacheConfig {
+
+}
@@ -4,15 +4,20 @@ import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder.EndpointConfiguration;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
 import jakarta.annotation.PostConstruct;
 import lombok.Getter;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+import project.masil.global.config.props.S3UploadProps;
 
 @Configuration
+@EnableConfigurationProperties(S3UploadProps.class)
 @Getter
 public class AmazonConfig {
 
@@ -36,6 +41,10 @@ public class AmazonConfig {
   @Value("${cloud.aws.s3.path.event}")
   private String eventPath;
 
+  // 로컬 S3 호환 서버(MinIO, LocalStack 등) 주소. 비어 있으면 AWS 기본 엔드포인트
+  @Value("${cloud.aws.s3.endpoint:}")
+  private String endpoint;
+
 
 
   @PostConstruct
@@ -47,10 +56,16 @@ public class AmazonConfig {
   public AmazonS3 amazonS3() {
     AWSCredentials awsCredentials = new BasicAWSCredentials(accessKey, secretKey);
 
-    return AmazonS3ClientBuilder.standard()
-        .withRegion(region)
-        .withCredentials(new AWSStaticCredentialsProvider(awsCredentials))
-        .build();
+    AmazonS3ClientBuilder builder = AmazonS3ClientBuilder.standard()
+        .withCredentials(new AWSStaticCredentialsProvider(awsCredentials));
+    if (StringUtils.hasText(endpoint)) {
+      // S3 호환 서버는 버킷 서브도메인을 쓰지 않으므로 path-style
+      return builder
+          .withEndpointConfiguration(new EndpointConfiguration(endpoint, region))
+          .withPathStyleAccessEnabled(true)
+          .build();
+    }
+    return builder.withRegion(region).build();
   }
 
   @Bean
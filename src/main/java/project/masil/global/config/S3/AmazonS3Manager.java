@@ -1,44 +1,204 @@
 package project.masil.global.config.S3;
 
+import com.amazonaws.SdkClientException;
 import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
 import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
+import project.masil.global.config.props.S3UploadProps;
+import project.masil.global.exception.CustomException;
+import project.masil.global.exception.ImageErrorCode;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class AmazonS3Manager{
 
+  private static final int HASH_BUFFER_SIZE = 64 * 1024;
+  // DeleteObjects 요청당 최대 키 수
+  private static final int MAX_DELETE_KEYS = 1000;
+
   private final AmazonS3 amazonS3;
 
   private final AmazonConfig amazonConfig;
 
-  private final UuidRepository uuidRepository;
+  private final S3UploadProps uploadProps;
 
+  /**
+   * 파일 업로드 후 URL 반환
+   * - part-size 단위로 읽어 올린다 (파일 전체를 힙에 올리지 않음, 조각 버퍼는 SDK 재시도에도 재사용)
+   * - 한 조각에 들어가면 PutObject, 아니면 멀티파트 업로드 (실패 시 abort 로 조각 정리)
+   * - 읽기/전송 실패는 IMAGE_5001 로 던진다
+   */
   public String uploadFile(String keyName, MultipartFile file){
+    long size = file.getSize();
+    // S3UploadProps.setPartSize 에서 5MB~64MB 로 제한
+    int partSize = Math.toIntExact(uploadProps.getPartSize().toBytes());
+    byte[] buffer = new byte[(int) Math.max(1, Math.min(size, partSize))];
+    try (InputStream in = file.getInputStream()) {
+      int read = in.readNBytes(buffer, 0, buffer.length);
+      if (read < partSize) {
+        // 한 조각 (파일 끝까지 읽음)
+        amazonS3.putObject(new PutObjectRequest(amazonConfig.getBucket(), keyName,
+            new ByteArrayInputStream(buffer, 0, read), metadata(file, read)));
+      } else {
+        uploadMultipart(keyName, file, in, buffer, read);
+      }
+    } catch (IOException | SdkClientException e) {
+      log.warn("[S3] 업로드 실패 key={} size={}: {}", keyName, size, e.getMessage());
+      throw new CustomException(ImageErrorCode.UPLOAD_FAILED);
+    }
+
+    return amazonS3.getUrl(amazonConfig.getBucket(), keyName).toString();
+  }
+
+  // buffer 에는 첫 조각(read 바이트)이 이미 들어 있음
+  private void uploadMultipart(String keyName, MultipartFile file, InputStream in, byte[] buffer,
+      int read) throws IOException {
+    String bucket = amazonConfig.getBucket();
+    String uploadId = amazonS3.initiateMultipartUpload(
+        new InitiateMultipartUploadRequest(bucket, keyName, metadata(file, -1))).getUploadId();
+    try {
+      List<PartETag> parts = new ArrayList<>();
+      int partNumber = 1;
+      while (read > 0) {
+        parts.add(amazonS3.uploadPart(new UploadPartRequest()
+            .withBucketName(bucket)
+            .withKey(keyName)
+            .withUploadId(uploadId)
+            .withPartNumber(partNumber++)
+            .withInputStream(new ByteArrayInputStream(buffer, 0, read))
+            .withPartSize(read)).getPartETag());
+        read = in.readNBytes(buffer, 0, buffer.length);
+      }
+      amazonS3.completeMultipartUpload(
+          new CompleteMultipartUploadRequest(bucket, keyName, uploadId, parts));
+    } catch (IOException | RuntimeException e) {
+      abortQuietly(keyName, uploadId);
+      throw e;
+    }
+  }
+
+  private void abortQuietly(String keyName, String uploadId) {
+    try {
+      amazonS3.abortMultipartUpload(
+          new AbortMultipartUploadRequest(amazonConfig.getBucket(), keyName, uploadId));
+    } catch (RuntimeException e) {
+      log.warn("[S3] 멀티파트 업로드 abort 실패 key={}: {}", keyName, e.getMessage());
+    }
+  }
+
+  private static ObjectMetadata metadata(MultipartFile file, long contentLength) {
     ObjectMetadata metadata = new ObjectMetadata();
     metadata.setContentType(file.getContentType());
-    metadata.setContentLength(file.getSize());
-    try {
-      amazonS3.putObject(new PutObjectRequest(amazonConfig.getBucket(), keyName, file.getInputStream(), metadata));
-    }catch (IOException e){
-      log.error("error at AmazonS3Manager uploadFile : {}", (Object) e.getStackTrace());
+    if (contentLength >= 0) {
+      metadata.setContentLength(contentLength);
+    }
+    return metadata;
+  }
+
+  /**
+   * 작은 객체(이미지 변형본 등) 업로드
+   */
+  public void uploadBytes(String keyName, byte[] data, String contentType) {
+    ObjectMetadata metadata = new ObjectMetadata();
+    metadata.setContentType(contentType);
+    metadata.setContentLength(data.length);
+    amazonS3.putObject(new PutObjectRequest(amazonConfig.getBucket(), keyName,
+        new ByteArrayInputStream(data), metadata));
+  }
+
+  /**
+   * 객체 읽기 (호출 측에서 close)
+   */
+  public S3Object getObject(String keyName) {
+    return amazonS3.getObject(amazonConfig.getBucket(), keyName);
+  }
+
+  public void copyObject(String sourceKey, String targetKey) {
+    amazonS3.copyObject(amazonConfig.getBucket(), sourceKey, amazonConfig.getBucket(), targetKey);
+  }
+
+  /**
+   * uploadFile 이 돌려준 URL -> 객체 키
+   */
+  public String keyOf(String url) {
+    String prefix = amazonS3.getUrl(amazonConfig.getBucket(), "").toString();
+    if (url == null || !url.startsWith(prefix)) {
+      throw new IllegalArgumentException("이 버킷의 URL 이 아님: " + url);
     }
+    return url.substring(prefix.length());
+  }
+
+  public boolean isBucketUrl(String url) {
+    return url != null
+        && url.startsWith(amazonS3.getUrl(amazonConfig.getBucket(), "").toString());
+  }
 
+  public String urlOf(String keyName) {
     return amazonS3.getUrl(amazonConfig.getBucket(), keyName).toString();
   }
 
-  public String generateProfile(Uuid uuid) {
-    return amazonConfig.getProfilePath() + '/' + uuid.getUuid();
+  public boolean exists(String keyName) {
+    return amazonS3.doesObjectExist(amazonConfig.getBucket(), keyName);
+  }
+
+  /**
+   * 파일 내용의 SHA-256 (hex). 임시 파일에서 스트리밍으로 읽으며 계산한다
+   */
+  public String contentHash(MultipartFile file) {
+    try (InputStream in = file.getInputStream()) {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      byte[] buffer = new byte[HASH_BUFFER_SIZE];
+      int read;
+      while ((read = in.read(buffer)) != -1) {
+        digest.update(buffer, 0, read);
+      }
+      return HexFormat.of().formatHex(digest.digest());
+    } catch (IOException | NoSuchAlgorithmException e) {
+      log.warn("[S3] 파일 해시 계산 실패: {}", e.getMessage());
+      throw new CustomException(ImageErrorCode.UPLOAD_FAILED);
+    }
+  }
+
+  /**
+   * 객체 일괄 삭제 (없는 키여도 성공). DeleteObjects 한도(1000개) 단위로 나눠 요청한다
+   */
+  public void deleteFiles(List<String> keyNames) {
+    for (int from = 0; from < keyNames.size(); from += MAX_DELETE_KEYS) {
+      List<String> chunk = keyNames.subList(from,
+          Math.min(keyNames.size(), from + MAX_DELETE_KEYS));
+      amazonS3.deleteObjects(new DeleteObjectsRequest(amazonConfig.getBucket())
+          .withKeys(chunk.toArray(String[]::new))
+          .withQuiet(true));
+    }
+  }
+
+  // 키는 내용 해시 (같은 내용이면 같은 키)
+  public String generateProfile(String contentHash) {
+    return amazonConfig.getProfilePath() + '/' + contentHash;
   }
 
-  public String generateEvent(Uuid uuid) {
-    return amazonConfig.getEventPath() + '/' + uuid.getUuid();
+  public String generateEvent(String contentHash) {
+    return amazonConfig.getEventPath() + '/' + contentHash;
   }
 
-}
\ No newline at end of file
+}
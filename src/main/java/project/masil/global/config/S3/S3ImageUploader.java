@@ -0,0 +1,117 @@
+package project.masil.global.config.S3;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.UnaryOperator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+import project.masil.global.exception.CustomException;
+import project.masil.global.exception.ImageErrorCode;
+import project.masil.global.image.ImageObjectService;
+
+/**
+ * 여러 이미지를 S3 에 병렬로 올린다 (DB 트랜잭션을 열기 전에 호출).
+ * <p>
+ * - 파일마다 uploadTaskExecutor 에서 동시에 처리, 전체 동시 업로드 수는 실행기 한도로 제한
+ * - 객체 키는 내용 해시: 이미 같은 내용이 있으면 업로드를 건너뛴다
+ * - 하나라도 실패하면 예외. 이미 올라간 객체는 지우지 않고 참조 수 0 으로 남겨 GC 에 맡긴다
+ *   (같은 내용을 다른 게시글이 참조하고 있을 수 있음). 저장 트랜잭션이 실패한 경우도 같다
+ */
+@Slf4j
+@Component
+public class S3ImageUploader {
+
+  private final AmazonS3Manager s3Manager;
+  private final ImageObjectService imageObjectService;
+  private final Executor uploadTaskExecutor;
+
+  public S3ImageUploader(AmazonS3Manager s3Manager, ImageObjectService imageObjectService,
+      @Qualifier("uploadTaskExecutor") Executor uploadTaskExecutor) {
+    this.s3Manager = s3Manager;
+    this.imageObjectService = imageObjectService;
+    this.uploadTaskExecutor = uploadTaskExecutor;
+  }
+
+  /**
+   * 업로드 결과 (요청 순서 유지)
+   */
+  public record UploadedImage(String key, String url) {
+
+    public static List<String> urls(List<UploadedImage> images) {
+      return images.stream().map(UploadedImage::url).toList();
+    }
+  }
+
+  /**
+   * @param files     업로드할 파일 (비어 있지 않음)
+   * @param keyOfHash 내용 해시 -> 객체 키 (예: s3Manager::generateEvent)
+   */
+  public List<UploadedImage> uploadAll(List<MultipartFile> files,
+      UnaryOperator<String> keyOfHash) {
+    if (files.size() == 1) {
+      // 한 장이면 요청 스레드에서 바로 (스레드 전환 비용 없음)
+      try {
+        return List.of(upload(files.get(0), keyOfHash));
+      } catch (CustomException e) {
+        // UPLOAD_BUSY 등 이미 분류된 오류는 그대로
+        throw e;
+      } catch (RuntimeException e) {
+        log.warn("[S3] 이미지 업로드 실패: {}", e.getMessage());
+        throw new CustomException(ImageErrorCode.UPLOAD_FAILED);
+      }
+    }
+
+    List<CompletableFuture<UploadedImage>> futures = new ArrayList<>(files.size());
+    boolean rejected = false;
+    for (MultipartFile file : files) {
+      try {
+        futures.add(CompletableFuture.supplyAsync(() -> upload(file, keyOfHash),
+            uploadTaskExecutor));
+      } catch (RejectedExecutionException e) {
+        rejected = true;
+        break;
+      }
+    }
+
+    // 시작한 업로드는 끝까지 기다린다
+    List<UploadedImage> uploaded = new ArrayList<>(futures.size());
+    Throwable failure = null;
+    for (CompletableFuture<UploadedImage> future : futures) {
+      try {
+        uploaded.add(future.join());
+      } catch (CompletionException e) {
+        failure = failure == null ? e.getCause() : failure;
+      }
+    }
+
+    if (rejected) {
+      throw new CustomException(ImageErrorCode.UPLOAD_BUSY);
+    }
+    if (failure instanceof CustomException e) {
+      throw e;
+    }
+    if (failure != null) {
+      log.warn("[S3] 이미지 업로드 실패 ({}/{}건 성공): {}", uploaded.size(), files.size(),
+          failure.getMessage());
+      throw new CustomException(ImageErrorCode.UPLOAD_FAILED);
+    }
+    return uploaded;
+  }
+
+  private UploadedImage upload(MultipartFile file, UnaryOperator<String> keyOfHash) {
+    String key = keyOfHash.apply(s3Manager.contentHash(file));
+    // 표시 먼저 (그 사이 GC 가 지우지 않도록), 그다음 존재 확인
+    imageObjectService.touch(key);
+    if (s3Manager.exists(key)) {
+      log.debug("[S3] 같은 내용 존재, 업로드 생략 key={}", key);
+      return new UploadedImage(key, s3Manager.urlOf(key));
+    }
+    return new UploadedImage(key, s3Manager.uploadFile(key, file));
+  }
+}
@@ -1,9 +0,0 @@
-package project.masil.global.config.S3;
-
-import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.stereotype.Repository;
-
-@Repository
-public interface UuidRepository extends JpaRepository<Uuid, Long> {
-
-}
@@ -0,0 +1,47 @@
+package project.masil.global.config;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * ddl-auto=update 가 반영하지 않는 기존 테이블 변경 (NOT NULL 해제 등)
+ * - 기동 시 information_schema 로 확인하고 필요할 때만 실행 (이미 반영됐으면 아무것도 하지 않음)
+ * - 실패해도 기동은 계속, 경고 로그의 SQL 을 수동으로 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SchemaPatchRunner implements ApplicationRunner {
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Override
+  public void run(ApplicationArguments args) {
+    // 채팅 알림(CHAT_MESSAGE)은 게시글이 없음
+    dropNotNull("notifications", "post_id", "BIGINT");
+  }
+
+  private void dropNotNull(String table, String column, String type) {
+    String ddl = "alter table " + table + " modify " + column + " " + type + " null";
+    try {
+      List<String> nullable = jdbcTemplate.queryForList("""
+          select IS_NULLABLE
+          from information_schema.COLUMNS
+          where TABLE_SCHEMA = database() and TABLE_NAME = ? and COLUMN_NAME = ?
+          """, String.class, table, column);
+      if (!nullable.equals(List.of("NO"))) {
+        return;
+      }
+      jdbcTemplate.execute(ddl);
+      log.info("[스키마] {}.{} NULL 허용으로 변경", table, column);
+    } catch (DataAccessException e) {
+      log.warn("[스키마] 변경 실패, 수동 실행 필요: {} ({})", ddl, e.getMessage());
+    }
+  }
+}
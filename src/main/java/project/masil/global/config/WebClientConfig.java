@@ -20,21 +20,58 @@ import org.springframework.web.util.UriComponentsBuilder;
 import project.masil.global.config.props.AiServerProps;
 import project.masil.global.config.props.OpenAIProps;
 import project.masil.global.config.props.OpenDataProps;
+import project.masil.global.config.props.OutboundProps;
+import project.masil.infrastructure.client.OutboundPoolMetrics;
+import project.masil.infrastructure.client.resilience.Bulkhead;
+import project.masil.infrastructure.client.resilience.ResilienceFilter;
 import reactor.core.publisher.Mono;
+import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 @Configuration
-@EnableConfigurationProperties({OpenDataProps.class, AiServerProps.class, OpenAIProps.class})
+@EnableConfigurationProperties({OpenDataProps.class, AiServerProps.class, OpenAIProps.class,
+    OutboundProps.class})
 @RequiredArgsConstructor
 public class WebClientConfig {
 
   private final OpenDataProps props;
   private final AiServerProps aiProps;
   private final OpenAIProps openaiProps;
+  private final OutboundProps outboundProps;
 
+  /**
+   * 공통 설정(헤더, 로깅 필터)만 가진 빌더. 커넥터(커넥션 풀)는 다운스트림별로 따로 붙인다.
+   */
   @Bean
   public WebClient.Builder webClientBuilder() {
-    var httpClient = HttpClient.create()
+    return WebClient.builder()
+        .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+        .filter(logRequest())
+        .filter(logResponse());
+  }
+
+  @Bean
+  public OutboundPoolMetrics outboundPoolMetrics() {
+    return new OutboundPoolMetrics();
+  }
+
+  // 다운스트림 전용 ConnectionProvider + HttpClient (한 연동의 풀 고갈이 다른 연동을 막지 않도록)
+  private ReactorClientHttpConnector connector(String name, OutboundProps.Pool pool) {
+    ConnectionProvider provider = ConnectionProvider.builder(name)
+        .maxConnections(pool.getMaxConnections())
+        .pendingAcquireMaxCount(pool.getPendingAcquireMaxCount())
+        .pendingAcquireTimeout(pool.getPendingAcquireTimeout())
+        .maxIdleTime(pool.getMaxIdleTime())
+        .maxLifeTime(pool.getMaxLifeTime())
+        .evictInBackground(pool.getEvictInterval())
+        .metrics(true, this::outboundPoolMetrics)
+        .build();
+
+    var httpClient = HttpClient.create(provider)
+        .protocol(pool.isH2c()
+            ? new HttpProtocol[]{HttpProtocol.H2C, HttpProtocol.HTTP11}
+            : new HttpProtocol[]{HttpProtocol.HTTP11})
         .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 5000)
         .responseTimeout(Duration.ofSeconds(10))
         .doOnConnected(conn -> {
@@ -42,17 +79,36 @@ public class WebClientConfig {
           conn.addHandlerLast(new WriteTimeoutHandler(10, TimeUnit.SECONDS));
         });
 
-    return WebClient.builder()
-        .clientConnector(new ReactorClientHttpConnector(httpClient))
-        .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-        .filter(logRequest())
-        .filter(logResponse());
+    return new ReactorClientHttpConnector(httpClient);
+  }
+
+  // 다운스트림별 동시 호출 제한 (한 연동의 지연이 다른 연동/요청으로 번지지 않도록)
+  @Bean(name = "opendataBulkhead")
+  public Bulkhead opendataBulkhead() {
+    return new Bulkhead("opendata", outboundProps.getOpendata().getMaxConcurrentCalls());
+  }
+
+  @Bean(name = "aiBulkhead")
+  public Bulkhead aiBulkhead() {
+    return new Bulkhead("ai", outboundProps.getAi().getMaxConcurrentCalls());
+  }
+
+  @Bean(name = "aiBatchBulkhead")
+  public Bulkhead aiBatchBulkhead() {
+    return new Bulkhead("ai-batch", outboundProps.getAiBatch().getMaxConcurrentCalls());
+  }
+
+  @Bean(name = "openaiBulkhead")
+  public Bulkhead openaiBulkhead() {
+    return new Bulkhead("openai", outboundProps.getOpenai().getMaxConcurrentCalls());
   }
 
   @Bean(name = "opendataWebClient")
   public WebClient opendataClient(WebClient.Builder builder) {
     return builder.clone()
+        .clientConnector(connector("opendata", outboundProps.getOpendata().getPool()))
         .baseUrl(props.getBaseUrl())
+        .filter(opendataBulkhead().asFilter())
         // 모든 요청에 serviceKey를 쿼리스트링으로 자동 추가
         .filter(appendServiceKeyQuery(props.getApiKey()))
         .build();
@@ -61,7 +117,26 @@ public class WebClientConfig {
   @Bean(name = "aiWebClient")
   public WebClient aiClient(WebClient.Builder builder) {
     return builder.clone()
+        .clientConnector(connector("ai", outboundProps.getAi().getPool()))
+        .baseUrl(aiProps.getBaseUrl())
+        // 서킷 브레이커/적응형 타임아웃/헤징 → 벌크헤드 순 (헤지 요청도 벌크헤드 허가를 따로 받음)
+        .filter(new ResilienceFilter("ai", outboundProps.getAi()))
+        .filter(aiBulkhead().asFilter())
+        .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+        .build();
+  }
+
+  /**
+   * 같은 파이썬 AI 서버지만 백그라운드 작업(요약, FAISS upsert/remove) 전용. 풀/벌크헤드/브레이커를 분리해 몰리는 upsert 가 검색/추천
+   * 재랭킹 커넥션을 뺏지 않도록 한다.
+   */
+  @Bean(name = "aiBatchWebClient")
+  public WebClient aiBatchClient(WebClient.Builder builder) {
+    return builder.clone()
+        .clientConnector(connector("ai-batch", outboundProps.getAiBatch().getPool()))
         .baseUrl(aiProps.getBaseUrl())
+        .filter(new ResilienceFilter("ai-batch", outboundProps.getAiBatch()))
+        .filter(aiBatchBulkhead().asFilter())
         .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
         .build();
   }
@@ -70,7 +145,10 @@ public class WebClientConfig {
   @Bean(name = "openaiWebClient")
   public WebClient openaiClient(WebClient.Builder builder) {
     return builder.clone()
+        .clientConnector(connector("openai", outboundProps.getOpenai().getPool()))
         .baseUrl(openaiProps.getBaseUrl())
+        .filter(new ResilienceFilter("openai", outboundProps.getOpenai()))
+        .filter(openaiBulkhead().asFilter())
         .defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + openaiProps.getApiKey())
         .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
         .build();
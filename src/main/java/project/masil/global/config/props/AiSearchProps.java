@@ -0,0 +1,26 @@
+package project.masil.global.config.props;
+
+import java.time.Duration;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * AI 검색 파이프라인 단계별 마감 시간
+ */
+@Getter
+@ConfigurationProperties(prefix = "ai.search")
+public class AiSearchProps {
+
+  // DB 후보 ID 조회
+  private final Duration candidateTimeout;
+  // 쿼리 임베딩(OpenAI) 호출
+  private final Duration embeddingTimeout;
+
+  public AiSearchProps(
+      @DefaultValue("3s") Duration candidateTimeout,
+      @DefaultValue("8s") Duration embeddingTimeout) {
+    this.candidateTimeout = candidateTimeout;
+    this.embeddingTimeout = embeddingTimeout;
+  }
+}
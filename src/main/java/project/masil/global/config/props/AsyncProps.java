@@ -0,0 +1,42 @@
+package project.masil.global.config.props;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 가상 스레드 모드(spring.threads.virtual.enabled=true)에서의 비동기 실행기 동시성 제한
+ */
+@ConfigurationProperties(prefix = "async")
+@Getter
+@Setter
+public class AsyncProps {
+
+  // AI 검색 단계 병렬 실행기
+  private Limit search = new Limit(64, 100);
+  // 이미지 S3 병렬 업로드 실행기
+  private Limit upload = new Limit(16, 200);
+  // 이미지 변형본 생성(디코딩/리사이즈/인코딩, CPU 사용) 실행기
+  private Limit image = new Limit(2, 100);
+  // 이 시간 이상 캐리어 스레드에 고정(pinning)된 가상 스레드를 경고 로그로 남김
+  private Duration pinnedThreshold = Duration.ofMillis(20);
+
+  @Getter
+  @Setter
+  public static class Limit {
+
+    // 동시에 실행되는 작업 수
+    private int maxConcurrency;
+    // 실행 허가를 기다릴 수 있는 작업 수 (초과 시 거절)
+    private int maxWaiting;
+
+    public Limit() {
+    }
+
+    public Limit(int maxConcurrency, int maxWaiting) {
+      this.maxConcurrency = maxConcurrency;
+      this.maxWaiting = maxWaiting;
+    }
+  }
+}
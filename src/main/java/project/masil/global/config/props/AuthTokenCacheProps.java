@@ -0,0 +1,23 @@
+package project.masil.global.config.props;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 검증된 액세스 토큰 -> principal 캐시 설정
+ */
+@ConfigurationProperties(prefix = "auth.token-cache")
+@Getter
+@Setter
+public class AuthTokenCacheProps {
+
+  // 최대 토큰 수
+  private long maxSize = 10_000;
+  // 캐시 유효 기간 (토큰 만료가 더 빠르면 만료 시각까지만)
+  private Duration ttl = Duration.ofMinutes(5);
+  // 사용자별 principalVersion 을 DB 에서 다시 읽는 주기 (다른 노드의 변경/탈퇴가 반영되는 최대 지연)
+  private Duration versionTtl = Duration.ofSeconds(10);
+
+}
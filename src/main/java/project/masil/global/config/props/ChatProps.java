@@ -0,0 +1,124 @@
+package project.masil.global.config.props;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 채팅 설정
+ */
+@ConfigurationProperties(prefix = "chat")
+@Getter
+@Setter
+public class ChatProps {
+
+  private Unread unread = new Unread();
+  private Broker broker = new Broker();
+  private RoomList roomList = new RoomList();
+  private Write write = new Write();
+  private Outbound outbound = new Outbound();
+  private Presence presence = new Presence();
+
+  @Getter
+  @Setter
+  public static class Unread {
+
+    // true 면 unread 증가분을 메모리에 모아 flush-interval 마다 한 번에 반영 (메시지가 몰리는 방의 행 경합 완화)
+    private boolean coalesce = false;
+    private Duration flushInterval = Duration.ofMillis(200);
+  }
+
+  /**
+   * WebSocket 메시지 저장 (그룹 커밋)
+   * - group-commit=true 면 방별 순서대로 큐에 모아 max-batch 건 또는 max-delay 마다 한 트랜잭션으로 저장
+   *   (JDBC batch insert + 방당 update 1회), 커밋 후 푸시
+   */
+  @Getter
+  @Setter
+  public static class Write {
+
+    private boolean groupCommit = false;
+    private int maxBatch = 128;
+    // 첫 메시지 이후 배치를 더 모으는 최대 시간
+    private Duration maxDelay = Duration.ofMillis(5);
+    // 저장 스레드 수 (방 ID 로 나눠 같은 방은 항상 같은 스레드 → 방별 순서 보장)
+    private int shards = 4;
+    // 스레드별 대기열 크기, 가득 차면 enqueue-timeout 만큼 기다린 뒤 거절
+    private int queueCapacity = 10_000;
+    private Duration enqueueTimeout = Duration.ofMillis(500);
+  }
+
+  /**
+   * 서버 -> 클라이언트 전송 (clientOutboundChannel)
+   * - 전용 스레드 풀 + 유한 대기열: 가득 차면 해당 프레임만 버리고 집계 (브로커/다른 세션은 막지 않음)
+   * - 세션별 전송 버퍼/시간 제한: 넘으면 느린 클라이언트로 보고 세션 종료
+   */
+  @Getter
+  @Setter
+  public static class Outbound {
+
+    private int poolSize = 8;
+    private int queueCapacity = 10_000;
+    // 한 프레임 전송이 이 시간 이상 걸리면 세션 종료
+    private Duration sendTimeLimit = Duration.ofSeconds(10);
+    // 세션별로 쌓아둘 수 있는 미전송 데이터 크기
+    private DataSize sendBufferSizeLimit = DataSize.ofKilobytes(512);
+  }
+
+  /**
+   * 접속 상태 / 입력 중 표시
+   * - 접속 상태 변경은 flush-interval 마다 모아서 대화 상대에게 한 번에 알림
+   * - 입력 중 이벤트는 (사용자, 방) 당 typing-throttle 에 한 번만 전달
+   */
+  @Getter
+  @Setter
+  public static class Presence {
+
+    private Duration flushInterval = Duration.ofSeconds(1);
+    private Duration typingThrottle = Duration.ofSeconds(2);
+    private long typingMaxEntries = 100_000;
+  }
+
+  /**
+   * 사용자별 최근 채팅방 목록(앞부분) 메모리 캐시
+   * - 메시지 전송/읽음 처리 시 해당 행을 갱신, 다른 노드에서 일어난 변경은 ttl 이후 반영
+   */
+  @Getter
+  @Setter
+  public static class RoomList {
+
+    // 사용자당 캐시하는 목록 앞부분 행 수
+    private int headSize = 50;
+    private Duration ttl = Duration.ofSeconds(30);
+    private long maxUsers = 10_000;
+  }
+
+  /**
+   * STOMP 브로커
+   * - SIMPLE: 인메모리 브로커 (단일 노드, 로컬/테스트용 대체품)
+   * - RELAY : 외부 STOMP 브로커(RabbitMQ STOMP 플러그인, ActiveMQ 등)로 중계. 노드 간 사용자 레지스트리/메시지 공유
+   */
+  @Getter
+  @Setter
+  public static class Broker {
+
+    private Mode mode = Mode.SIMPLE;
+    private String relayHost = "localhost";
+    private int relayPort = 61613;
+    // 클라이언트 세션별 브로커 연결에 쓰는 계정
+    private String clientLogin = "guest";
+    private String clientPasscode = "guest";
+    // 서버 공용(시스템) 연결 계정 - convertAndSendToUser 등 서버 발신 메시지용
+    private String systemLogin = "guest";
+    private String systemPasscode = "guest";
+    private String virtualHost;
+    private Duration systemHeartbeatSendInterval = Duration.ofSeconds(10);
+    private Duration systemHeartbeatReceiveInterval = Duration.ofSeconds(10);
+
+    public enum Mode {
+      SIMPLE, RELAY
+    }
+  }
+}
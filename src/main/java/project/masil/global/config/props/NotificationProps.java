@@ -0,0 +1,24 @@
+package project.masil.global.config.props;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 알림 저장/전달 설정
+ */
+@ConfigurationProperties(prefix = "notification")
+@Getter
+@Setter
+public class NotificationProps {
+
+  // 이 주기마다 아웃박스에서 모아서 저장/전달 (같은 배치 안의 같은 대상 알림은 한 건으로 합침)
+  private Duration flushInterval = Duration.ofMillis(500);
+  // 한 번에 가져가는 알림 이벤트(아웃박스 행) 수
+  private int maxBatch = 1000;
+  // fan-out 수신자 조회/저장 단위
+  private int fanOutChunk = 1000;
+  // 가져간 행을 다른 노드가 가져가지 않는 시간 (한 배치 저장/전달 시간보다 길게)
+  private Duration lease = Duration.ofMinutes(1);
+}
@@ -0,0 +1,108 @@
+package project.masil.global.config.props;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 외부 연동(다운스트림)별 호출 제한/복원력 설정
+ */
+@ConfigurationProperties(prefix = "outbound")
+@Getter
+@Setter
+public class OutboundProps {
+
+  private Downstream openai = new Downstream(32);
+  // 파이썬 AI 서버 - 요청 경로(검색/추천 재랭킹)
+  private Downstream ai = new Downstream(16);
+  // 파이썬 AI 서버 - 백그라운드(요약, FAISS upsert/remove). 커넥션 풀을 따로 써서 요청 경로를 막지 않음
+  private Downstream aiBatch = new Downstream(8);
+  private Downstream opendata = new Downstream(4);
+
+  @Getter
+  @Setter
+  public static class Downstream {
+
+    // 동시 호출 최대 수 (초과 시 즉시 실패)
+    private int maxConcurrentCalls;
+    private Pool pool = new Pool();
+    private Breaker breaker = new Breaker();
+    private Timeout timeout = new Timeout();
+    private Hedge hedge = new Hedge();
+
+    public Downstream() {
+    }
+
+    public Downstream(int maxConcurrentCalls) {
+      this.maxConcurrentCalls = maxConcurrentCalls;
+    }
+  }
+
+  /**
+   * 다운스트림 전용 커넥션 풀 (Reactor Netty ConnectionProvider)
+   */
+  @Getter
+  @Setter
+  public static class Pool {
+
+    private int maxConnections = 32;
+    // 커넥션을 기다릴 수 있는 요청 수 (초과 시 즉시 실패)
+    private int pendingAcquireMaxCount = 64;
+    private Duration pendingAcquireTimeout = Duration.ofSeconds(2);
+    private Duration maxIdleTime = Duration.ofSeconds(30);
+    private Duration maxLifeTime = Duration.ofMinutes(5);
+    // 유휴/수명 초과 커넥션 백그라운드 정리 주기
+    private Duration evictInterval = Duration.ofSeconds(30);
+    // HTTP/2 cleartext (서버가 지원할 때만, HTTP/1.1 업그레이드 방식)
+    private boolean h2c = false;
+  }
+
+  /**
+   * 엔드포인트(경로)별 서킷 브레이커
+   */
+  @Getter
+  @Setter
+  public static class Breaker {
+
+    // 실패율 계산에 쓰는 최근 호출 수
+    private int windowSize = 20;
+    // 이 건수 이상 쌓인 뒤부터 실패율 판단
+    private int minimumCalls = 10;
+    // 실패율(%) 임계치
+    private int failureRateThreshold = 50;
+    // OPEN 유지 시간
+    private Duration openDuration = Duration.ofSeconds(30);
+    // HALF_OPEN 시험 호출 수
+    private int halfOpenCalls = 2;
+  }
+
+  /**
+   * 응답 시간 백분위 기반 적응형 타임아웃: clamp(p(percentile) * multiplier, min, max)
+   */
+  @Getter
+  @Setter
+  public static class Timeout {
+
+    private Duration min = Duration.ofMillis(500);
+    // 표본이 부족할 때도 이 값 사용
+    private Duration max = Duration.ofSeconds(10);
+    private double percentile = 0.99;
+    private double multiplier = 2.0;
+    private int minSamples = 20;
+    private int sampleSize = 256;
+  }
+
+  /**
+   * 멱등 조회 경로에 대한 헤지 요청: 첫 요청이 p(delayPercentile) 안에 끝나지 않으면 같은 요청을 한 번 더 보내고 먼저 온 응답을 쓴다
+   */
+  @Getter
+  @Setter
+  public static class Hedge {
+
+    private List<String> paths = new ArrayList<>();
+    private double delayPercentile = 0.95;
+  }
+}
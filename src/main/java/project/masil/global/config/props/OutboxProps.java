@@ -0,0 +1,64 @@
+package project.masil.global.config.props;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import project.masil.global.outbox.OutboxLane;
+
+/**
+ * 트랜잭셔널 아웃박스 폴링 설정 (배치/시간 한도는 구역별)
+ */
+@ConfigurationProperties(prefix = "outbox")
+@Getter
+@Setter
+public class OutboxProps {
+
+  private Duration pollInterval = Duration.ofSeconds(1);
+  private int maxAttempts = 10;
+  // 재시도 간격: backoff-base * 2^(attempts-1), 최대 backoff-max
+  private Duration backoffBase = Duration.ofSeconds(5);
+  private Duration backoffMax = Duration.ofMinutes(30);
+  // 요약/임베딩
+  private Lane post = new Lane(50, 4, Duration.ofSeconds(60), Duration.ofSeconds(90),
+      Duration.ofMinutes(2));
+  // 이미지 변형본 (imageTaskExecutor 동시 실행 수에 맞춤)
+  private Lane image = new Lane(4, 2, Duration.ofMinutes(3), Duration.ofMinutes(5),
+      Duration.ofMinutes(6));
+
+  public Lane lane(OutboxLane lane) {
+    return switch (lane) {
+      case POST -> post;
+      case IMAGE -> image;
+      // NotificationProps 사용
+      case NOTIFICATION -> throw new IllegalArgumentException("알림 구역은 notification.* 설정 사용");
+    };
+  }
+
+  @Getter
+  @Setter
+  public static class Lane {
+
+    // 한 번에 가져가는 행 수
+    private int batchSize;
+    // 배치 안에서 동시에 처리하는 대상(게시글/사용자) 수
+    private int concurrency;
+    private Duration handlerTimeout;
+    // 배치 전체 처리 한도 (lease 보다 짧게, 넘기면 남은 행은 돌려놓음)
+    private Duration batchTimeout;
+    // 처리 중인 행을 다른 노드가 가져가지 않는 시간 (batch-timeout 보다 길게)
+    private Duration lease;
+
+    public Lane() {
+    }
+
+    public Lane(int batchSize, int concurrency, Duration handlerTimeout, Duration batchTimeout,
+        Duration lease) {
+      this.batchSize = batchSize;
+      this.concurrency = concurrency;
+      this.handlerTimeout = handlerTimeout;
+      this.batchTimeout = batchTimeout;
+      this.lease = lease;
+    }
+  }
+}
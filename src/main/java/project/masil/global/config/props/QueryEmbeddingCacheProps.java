@@ -0,0 +1,24 @@
+package project.masil.global.config.props;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 검색 쿼리 임베딩 캐시 설정
+ */
+@ConfigurationProperties(prefix = "openai.query-cache")
+@Getter
+@Setter
+public class QueryEmbeddingCacheProps {
+
+  // 메모리 캐시 최대 크기 (벡터 바이트 기준)
+  private DataSize maxSize = DataSize.ofMegabytes(32);
+  // 캐시 유효 기간
+  private Duration ttl = Duration.ofDays(7);
+  // query_embedding 테이블(양자화 벡터) 사용 여부
+  private boolean persistent = false;
+
+}
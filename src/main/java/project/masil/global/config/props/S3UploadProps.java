@@ -0,0 +1,40 @@
+package project.masil.global.config.props;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * S3 업로드 설정
+ */
+@ConfigurationProperties(prefix = "cloud.aws.s3.upload")
+@Getter
+@Setter
+public class S3UploadProps {
+
+  // S3 멀티파트 최소 조각 크기 (마지막 조각 제외)
+  public static final DataSize MIN_PART_SIZE = DataSize.ofMegabytes(5);
+  // 조각 버퍼는 업로드마다 힙에 잡히므로 크게 두지 않는다 (int 배열 한도보다 훨씬 작게)
+  public static final DataSize MAX_PART_SIZE = DataSize.ofMegabytes(64);
+
+  // 조각 크기: 이 크기 이하 파일은 PutObject 한 번, 넘으면 이 단위로 멀티파트 업로드 (S3 최소 5MB)
+  // 업로드 하나가 힙에 들고 있는 버퍼 상한이기도 하다 (동시 업로드 수 x part-size)
+  private DataSize partSize = DataSize.ofMegabytes(8);
+
+  // 참조가 0 이 된 이미지를 지우기 전 유예 시간 (업로드 후 저장 트랜잭션이 끝나기를 기다리는 시간보다 충분히 길게)
+  private Duration orphanGrace = Duration.ofHours(1);
+  // 참조 없는 이미지 정리 주기 / 한 번에 지우는 수
+  private Duration gcInterval = Duration.ofMinutes(10);
+  private int gcBatchSize = 100;
+
+  // 범위 밖이면 바인딩 실패로 기동 중단
+  public void setPartSize(DataSize partSize) {
+    if (partSize == null || partSize.toBytes() < MIN_PART_SIZE.toBytes()
+        || partSize.toBytes() > MAX_PART_SIZE.toBytes()) {
+      throw new IllegalArgumentException("part-size 는 5MB 이상 64MB 이하여야 합니다: " + partSize);
+    }
+    this.partSize = partSize;
+  }
+}
@@ -10,7 +10,11 @@ import project.masil.global.exception.model.BaseErrorCode;
 public enum GlobalErrorCode implements BaseErrorCode {
   INVALID_INPUT_VALUE("GLOBAL001", "유효하지 않은 입력입니다.", HttpStatus.BAD_REQUEST),
   RESOURCE_NOT_FOUND("GLOBAL002", "요청한 리소스를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
-  INTERNAL_SERVER_ERROR("GLOBAL003", "서버 내부 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
+  INTERNAL_SERVER_ERROR("GLOBAL003", "서버 내부 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
+  EXTERNAL_SERVICE_BUSY("GLOBAL004", "외부 서비스 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.",
+      HttpStatus.SERVICE_UNAVAILABLE),
+  EXTERNAL_SERVICE_UNAVAILABLE("GLOBAL005", "외부 서비스가 일시적으로 응답하지 않습니다. 잠시 후 다시 시도해주세요.",
+      HttpStatus.SERVICE_UNAVAILABLE);
 
   private final String code;
   private final String message;
@@ -0,0 +1,20 @@
+package project.masil.global.exception;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import project.masil.global.exception.model.BaseErrorCode;
+
+@Getter
+@AllArgsConstructor
+public enum ImageErrorCode implements BaseErrorCode {
+  UPLOAD_FAILED("IMAGE_5001", "이미지 업로드에 실패했습니다. 잠시 후 다시 시도해주세요.",
+      HttpStatus.BAD_GATEWAY),
+  UPLOAD_BUSY("IMAGE_5031", "이미지 업로드 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.",
+      HttpStatus.SERVICE_UNAVAILABLE);
+
+  private final String code;
+  private final String message;
+  private final HttpStatus status;
+
+}
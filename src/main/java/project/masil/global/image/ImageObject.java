@@ -0,0 +1,35 @@
+package project.masil.global.image;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import project.masil.global.common.BaseTimeEntity;
+
+/**
+ * 내용 주소(SHA-256) 로 저장된 S3 이미지 객체와 참조 수.
+ * - 같은 내용은 같은 키 → 한 번만 저장
+ * - 게시글/프로필이 참조하면 +1, 참조가 사라지면 -1
+ * - refCount 0 으로 유예 시간이 지나면 ImageObjectService 가 객체(+변형본)와 행을 지운다
+ */
+@Entity
+@Table(name = "image_objects",
+    indexes = {
+        @Index(name = "idx_image_objects_ref_updated", columnList = "refCount, updatedAt")
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ImageObject extends BaseTimeEntity {
+
+  @Id
+  @Column(length = 255)
+  private String objectKey;
+
+  @Column(nullable = false)
+  private int refCount;
+}
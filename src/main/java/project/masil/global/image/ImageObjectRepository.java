@@ -0,0 +1,75 @@
+package project.masil.global.image;
+
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface ImageObjectRepository extends JpaRepository<ImageObject, String> {
+
+  /**
+   * 업로드 직전 표시: 없으면 refCount 0 으로 만들고, 있으면 updatedAt 만 갱신
+   * (삭제 중인 행(refCount -1)은 그대로 둔다 → 호출 쪽이 {@link #existsDeleting} 으로 확인하고 삭제가 끝나기를 기다림)
+   */
+  @Transactional
+  @Modifying
+  @Query(value = """
+      insert into image_objects (objectKey, refCount, createdAt, updatedAt)
+      values (:key, 0, now(6), now(6))
+      on duplicate key update updatedAt = if(refCount < 0, updatedAt, now(6))
+      """, nativeQuery = true)
+  int touch(@Param("key") String key);
+
+  @Query("select count(o) > 0 from ImageObject o where o.objectKey = :key and o.refCount < 0")
+  boolean existsDeleting(@Param("key") String key);
+
+  @Modifying
+  @Query(value = """
+      insert into image_objects (objectKey, refCount, createdAt, updatedAt)
+      values (:key, 1, now(6), now(6))
+      on duplicate key update refCount = greatest(refCount, 0) + 1, updatedAt = now(6)
+      """, nativeQuery = true)
+  int increment(@Param("key") String key);
+
+  @Modifying
+  @Query(value = """
+      update image_objects
+      set refCount = refCount - 1, updatedAt = now(6)
+      where objectKey = :key and refCount > 0
+      """, nativeQuery = true)
+  int decrement(@Param("key") String key);
+
+  /**
+   * 참조가 없고 유예 시간이 지난 객체 (호출 트랜잭션 안에서 행 잠금)
+   * - 시각 비교는 모두 DB 시계(now(6)) 기준 (updatedAt 을 쓰는 쿼리와 같은 시계)
+   * - 삭제 중(-1)으로 남은 행(S3 삭제 실패/중단)도 유예 시간 뒤 다시 대상
+   */
+  @Query(value = """
+      select *
+      from image_objects
+      where refCount <= 0 and updatedAt < now(6) - interval :graceSeconds second
+      order by updatedAt
+      limit :limit
+      for update skip locked
+      """, nativeQuery = true)
+  List<ImageObject> lockOrphans(@Param("graceSeconds") long graceSeconds,
+      @Param("limit") int limit);
+
+  /**
+   * 삭제 중 표시 (refCount -1), 이후 touch 는 삭제가 끝날 때까지 기다린다
+   */
+  @Modifying
+  @Query(value = """
+      update image_objects
+      set refCount = -1, updatedAt = now(6)
+      where objectKey in (:keys)
+      """, nativeQuery = true)
+  int markDeleting(@Param("keys") Collection<String> keys);
+
+  @Modifying
+  @Query("delete from ImageObject o where o.objectKey in :keys and o.refCount < 0")
+  int deleteDeleting(@Param("keys") Collection<String> keys);
+}
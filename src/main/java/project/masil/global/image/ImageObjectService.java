@@ -0,0 +1,131 @@
+package project.masil.global.image;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import project.masil.global.config.S3.AmazonS3Manager;
+import project.masil.global.config.props.S3UploadProps;
+import project.masil.global.exception.CustomException;
+import project.masil.global.exception.ImageErrorCode;
+import project.masil.global.util.FixedDelayLoop;
+
+/**
+ * 내용 주소 이미지의 참조 수 관리 + 참조 없는 객체 정리.
+ * <p>
+ * - 업로드 단계(트랜잭션 밖): {@link #touch} 로 행을 만들거나 갱신한 뒤 S3 존재 여부 확인 → 없을 때만 업로드
+ * - 저장 트랜잭션: {@link #retain} / {@link #release} 로 참조 수 증감 (도메인 변경과 함께 커밋/롤백)
+ * - gc-interval 마다: refCount 0 이고 orphan-grace 동안 갱신이 없던 행을 "삭제 중"(-1)으로 표시하고 커밋
+ *   → 잠금 없이 S3 객체와 변형본 삭제 → 행 삭제. 그 사이 touch 는 행이 사라질 때까지 기다렸다가 새 행을 만들고
+ *   다시 업로드하므로, 지워지는 객체를 참조하지 않는다
+ * - 시각 비교는 DB 시계만 사용 (JVM 시계와 어긋나도 유예 시간이 틀어지지 않음)
+ * - 저장이 실패한 업로드는 지우지 않는다: refCount 0 으로 남아 유예 시간 뒤 GC 가 정리 (같은 내용을 다른 요청이 쓰고 있을 수 있음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageObjectService {
+
+  // 삭제 중인 키를 touch 할 때 기다리는 간격/횟수 (S3 DeleteObjects 한 번 정도)
+  private static final long DELETING_WAIT_MILLIS = 200;
+  private static final int DELETING_WAIT_TRIES = 25;
+
+  private final ImageObjectRepository imageObjectRepository;
+  private final AmazonS3Manager s3Manager;
+  private final TransactionTemplate tx;
+  private final S3UploadProps props;
+
+  private FixedDelayLoop collector;
+
+  @PostConstruct
+  public void start() {
+    collector = FixedDelayLoop.start("image-gc", props.getGcInterval(), this::collect,
+        props.getGcBatchSize());
+  }
+
+  @PreDestroy
+  public void stop() {
+    if (collector != null) {
+      collector.close();
+    }
+  }
+
+  /**
+   * 업로드 직전 표시 (자체 트랜잭션). GC 가 삭제 중인 키면 삭제가 끝날 때까지 기다린다
+   */
+  public void touch(String key) {
+    for (int i = 0; ; i++) {
+      imageObjectRepository.touch(key);
+      if (!imageObjectRepository.existsDeleting(key)) {
+        return;
+      }
+      if (i >= DELETING_WAIT_TRIES) {
+        throw new CustomException(ImageErrorCode.UPLOAD_BUSY);
+      }
+      try {
+        Thread.sleep(DELETING_WAIT_MILLIS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new CustomException(ImageErrorCode.UPLOAD_BUSY);
+      }
+    }
+  }
+
+  /**
+   * 이미지 참조 추가 (이 버킷의 URL 만 집계)
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void retain(Collection<String> urls) {
+    keysOf(urls).forEach(imageObjectRepository::increment);
+  }
+
+  /**
+   * 이미지 참조 해제 (0 이 되면 유예 시간 뒤 GC 대상)
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void release(Collection<String> urls) {
+    keysOf(urls).forEach(imageObjectRepository::decrement);
+  }
+
+  private List<String> keysOf(Collection<String> urls) {
+    return urls.stream().filter(s3Manager::isBucketUrl).map(s3Manager::keyOf).toList();
+  }
+
+  // 지운 객체 수
+  int collect() {
+    // 1) 대상 잠금 + 삭제 중 표시 (짧은 트랜잭션, S3 호출 전에 커밋)
+    List<String> keys = tx.execute(status -> {
+      List<String> orphans = imageObjectRepository.lockOrphans(
+              props.getOrphanGrace().toSeconds(), props.getGcBatchSize())
+          .stream().map(ImageObject::getObjectKey).toList();
+      if (!orphans.isEmpty()) {
+        imageObjectRepository.markDeleting(orphans);
+      }
+      return orphans;
+    });
+    if (keys == null || keys.isEmpty()) {
+      return 0;
+    }
+
+    // 2) S3 삭제 (잠금 없음). 실패하면 행은 삭제 중으로 남고 유예 시간 뒤 다시 시도
+    List<String> objects = new ArrayList<>(keys);
+    for (String key : keys) {
+      for (ImageVariant variant : ImageVariant.values()) {
+        objects.add(variant.of(key));
+      }
+    }
+    s3Manager.deleteFiles(objects);
+
+    // 3) 행 삭제
+    tx.executeWithoutResult(status -> imageObjectRepository.deleteDeleting(keys));
+    log.info("[이미지] 참조 없는 이미지 {}개 정리", keys.size());
+    return keys.size();
+  }
+}
@@ -0,0 +1,33 @@
+package project.masil.global.image;
+
+/**
+ * 이미지 크기별 변형본. 원본 키 옆에 "{원본키}_{suffix}.jpg" 로 저장한다
+ */
+public enum ImageVariant {
+  // 목록 카드의 작은 썸네일, 프로필
+  THUMBNAIL("thumb", 240),
+  // 피드 카드
+  CARD("card", 640),
+  // 상세 화면
+  DETAIL("detail", 1280);
+
+  private final String suffix;
+  // 긴 변 최대 길이 (원본이 더 작으면 확대하지 않음)
+  private final int maxEdge;
+
+  ImageVariant(String suffix, int maxEdge) {
+    this.suffix = suffix;
+    this.maxEdge = maxEdge;
+  }
+
+  public int maxEdge() {
+    return maxEdge;
+  }
+
+  /**
+   * 원본 키(또는 URL)로부터 변형본 키(또는 URL)
+   */
+  public String of(String original) {
+    return original + '_' + suffix + ".jpg";
+  }
+}
@@ -0,0 +1,253 @@
+package project.masil.global.image;
+
+import com.amazonaws.services.s3.model.S3Object;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Iterator;
+import java.util.List;
+import javax.imageio.IIOException;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.w3c.dom.NodeList;
+import project.masil.global.config.S3.AmazonS3Manager;
+
+/**
+ * S3 원본 이미지 → 크기별 JPEG 변형본 생성 (JDK ImageIO 만 사용, 블로킹)
+ * <p>
+ * - 헤더로 크기를 먼저 읽고, 긴 변이 가장 큰 변형본의 1~2배가 되도록 서브샘플링해서 디코딩
+ *   (원본이 그보다 작을 때만 원본 해상도로 디코딩)
+ * - JPEG 의 EXIF Orientation 을 읽어 축소 전에 회전/반전 (휴대폰 사진이 눕지 않도록)
+ * - 큰 변형본부터 만들고 다음 변형본은 직전 결과에서 줄인다 (축소 비율을 작게 유지해 품질 확보)
+ * - ImageIO 가 읽지 못하는 형식(HEIC, WebP, CMYK JPEG 등)이나 지나치게 큰 이미지는 원본을 변형본 키로 복사만 한다
+ *   (변형본 URL 은 항상 존재)
+ * - 원본 키가 내용 해시이므로 변형본이 이미 있으면 다시 만들지 않는다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageVariantGenerator {
+
+  private static final float JPEG_QUALITY = 0.82f;
+  // 이 이상이면 디코딩하지 않음 (압축 폭탄 방지)
+  private static final long MAX_PIXELS = 100_000_000L;
+  private static final String JPEG_METADATA = "javax_imageio_jpeg_image_1.0";
+  // APP1 (EXIF), Orientation 태그
+  private static final int APP1 = 0xE1;
+  private static final int TAG_ORIENTATION = 0x0112;
+  // 큰 것부터
+  private static final List<ImageVariant> ORDER = List.of(ImageVariant.DETAIL, ImageVariant.CARD,
+      ImageVariant.THUMBNAIL);
+
+  private final AmazonS3Manager s3Manager;
+
+  /**
+   * @param originalUrl uploadFile 이 돌려준 원본 URL
+   * @param variants    만들 변형본
+   */
+  public void generate(String originalUrl, List<ImageVariant> variants) throws IOException {
+    String key = s3Manager.keyOf(originalUrl);
+    // 같은 내용(같은 키)으로 이미 만들어 둔 변형본이 있으면 재사용
+    if (variants.stream().allMatch(variant -> s3Manager.exists(variant.of(key)))) {
+      return;
+    }
+    BufferedImage source = decode(key, maxEdgeOf(variants));
+    if (source == null) {
+      for (ImageVariant variant : variants) {
+        s3Manager.copyObject(key, variant.of(key));
+      }
+      return;
+    }
+    BufferedImage current = source;
+    for (ImageVariant variant : ORDER) {
+      if (!variants.contains(variant)) {
+        continue;
+      }
+      current = scale(current, variant.maxEdge());
+      s3Manager.uploadBytes(variant.of(key), encodeJpeg(current), "image/jpeg");
+    }
+  }
+
+  // 지원하지 않는 형식/너무 큰 이미지면 null
+  private BufferedImage decode(String key, int largestEdge) throws IOException {
+    try (S3Object object = s3Manager.getObject(key);
+        ImageInputStream in = ImageIO.createImageInputStream(object.getObjectContent())) {
+      Iterator<ImageReader> readers = in == null ? null : ImageIO.getImageReaders(in);
+      if (readers == null || !readers.hasNext()) {
+        log.info("[이미지] 지원하지 않는 형식, 원본 복사 key={}", key);
+        return null;
+      }
+      ImageReader reader = readers.next();
+      try {
+        // 메타데이터(EXIF)도 읽는다
+        reader.setInput(in, true, false);
+        int width = reader.getWidth(0);
+        int height = reader.getHeight(0);
+        if ((long) width * height > MAX_PIXELS) {
+          log.info("[이미지] 너무 큼 {}x{}, 원본 복사 key={}", width, height, key);
+          return null;
+        }
+        ImageReadParam param = reader.getDefaultReadParam();
+        // 건너뛰는 간격: 결과 긴 변 = ceil(원본 / step) 이 largestEdge 이상, 2 * largestEdge 미만
+        int step = Math.max(1, Math.max(width, height) / largestEdge);
+        param.setSourceSubsampling(step, step, 0, 0);
+        BufferedImage image = reader.read(0, param);
+        return orient(image, orientationOf(reader));
+      } catch (IIOException e) {
+        // 스트림 읽기 실패는 재시도, 디코딩할 수 없는 내용(CMYK/YCCK JPEG 등)은 복사
+        if (e.getCause() instanceof IOException && !(e.getCause() instanceof IIOException)) {
+          throw e;
+        }
+        log.info("[이미지] 디코딩 불가({}), 원본 복사 key={}", e.getMessage(), key);
+        return null;
+      } finally {
+        reader.dispose();
+      }
+    }
+  }
+
+  // EXIF Orientation (1~8), JPEG 가 아니거나 없으면 1
+  private static int orientationOf(ImageReader reader) {
+    IIOMetadata metadata;
+    try {
+      metadata = reader.getImageMetadata(0);
+    } catch (IOException e) {
+      // 마커 순서가 표준과 다른 파일 등: 방향 보정만 생략
+      return 1;
+    }
+    if (metadata == null || !JPEG_METADATA.equals(metadata.getNativeMetadataFormatName())) {
+      return 1;
+    }
+    IIOMetadataNode root = (IIOMetadataNode) metadata.getAsTree(JPEG_METADATA);
+    NodeList markers = root.getElementsByTagName("unknown");
+    for (int i = 0; i < markers.getLength(); i++) {
+      IIOMetadataNode marker = (IIOMetadataNode) markers.item(i);
+      if (Integer.parseInt(marker.getAttribute("MarkerTag")) == APP1
+          && marker.getUserObject() instanceof byte[] data) {
+        int orientation = exifOrientation(data);
+        if (orientation > 0) {
+          return orientation;
+        }
+      }
+    }
+    return 1;
+  }
+
+  // "Exif\0\0" + TIFF 헤더 + IFD0 에서 Orientation 찾기, 없거나 형식이 다르면 0
+  private static int exifOrientation(byte[] data) {
+    if (data.length < 14 || data[0] != 'E' || data[1] != 'x' || data[2] != 'i'
+        || data[3] != 'f') {
+      return 0;
+    }
+    ByteBuffer tiff = ByteBuffer.wrap(data, 6, data.length - 6).slice();
+    if (tiff.get(0) == 'I' && tiff.get(1) == 'I') {
+      tiff.order(ByteOrder.LITTLE_ENDIAN);
+    } else if (tiff.get(0) != 'M' || tiff.get(1) != 'M') {
+      return 0;
+    }
+    long ifd = Integer.toUnsignedLong(tiff.getInt(4));
+    if (ifd + 2 > tiff.limit()) {
+      return 0;
+    }
+    int entries = Short.toUnsignedInt(tiff.getShort((int) ifd));
+    for (int i = 0; i < entries; i++) {
+      int entry = (int) ifd + 2 + i * 12;
+      if (entry + 12 > tiff.limit()) {
+        return 0;
+      }
+      if (Short.toUnsignedInt(tiff.getShort(entry)) == TAG_ORIENTATION) {
+        // SHORT 하나는 값 칸 앞 2바이트
+        int value = Short.toUnsignedInt(tiff.getShort(entry + 8));
+        return value >= 1 && value <= 8 ? value : 0;
+      }
+    }
+    return 0;
+  }
+
+  // 표시 방향으로 회전/반전 (5~8 은 가로세로가 바뀜)
+  private static BufferedImage orient(BufferedImage src, int orientation) {
+    int w = src.getWidth();
+    int h = src.getHeight();
+    // AffineTransform(m00, m10, m01, m11, m02, m12): x' = m00*x + m01*y + m02, y' = m10*x + m11*y + m12
+    AffineTransform t = switch (orientation) {
+      case 2 -> new AffineTransform(-1, 0, 0, 1, w, 0);
+      case 3 -> new AffineTransform(-1, 0, 0, -1, w, h);
+      case 4 -> new AffineTransform(1, 0, 0, -1, 0, h);
+      case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);
+      case 6 -> new AffineTransform(0, 1, -1, 0, h, 0);
+      case 7 -> new AffineTransform(0, -1, -1, 0, h, w);
+      case 8 -> new AffineTransform(0, -1, 1, 0, 0, w);
+      default -> null;
+    };
+    if (t == null) {
+      return src;
+    }
+    boolean swap = orientation >= 5;
+    BufferedImage out = new BufferedImage(swap ? h : w, swap ? w : h,
+        src.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+    Graphics2D g = out.createGraphics();
+    try {
+      g.drawImage(src, t, null);
+    } finally {
+      g.dispose();
+    }
+    return out;
+  }
+
+  private static int maxEdgeOf(List<ImageVariant> variants) {
+    return variants.stream().mapToInt(ImageVariant::maxEdge).max().orElse(1);
+  }
+
+  // 긴 변을 maxEdge 이하로 (확대하지 않음), 투명 배경은 흰색
+  private static BufferedImage scale(BufferedImage src, int maxEdge) {
+    double ratio = Math.min(1.0, (double) maxEdge / Math.max(src.getWidth(), src.getHeight()));
+    int width = Math.max(1, (int) Math.round(src.getWidth() * ratio));
+    int height = Math.max(1, (int) Math.round(src.getHeight() * ratio));
+    BufferedImage out = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+    Graphics2D g = out.createGraphics();
+    try {
+      g.setColor(Color.WHITE);
+      g.fillRect(0, 0, width, height);
+      g.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+          RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+      g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+      g.drawImage(src, 0, 0, width, height, null);
+    } finally {
+      g.dispose();
+    }
+    return out;
+  }
+
+  private static byte[] encodeJpeg(BufferedImage image) throws IOException {
+    ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ImageOutputStream out = ImageIO.createImageOutputStream(bytes)) {
+      ImageWriteParam param = writer.getDefaultWriteParam();
+      param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+      param.setCompressionQuality(JPEG_QUALITY);
+      param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+      writer.setOutput(out);
+      writer.write(null, new IIOImage(image, null, null), param);
+    } finally {
+      writer.dispose();
+    }
+    return bytes.toByteArray();
+  }
+}
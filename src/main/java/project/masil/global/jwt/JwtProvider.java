@@ -4,6 +4,7 @@ import org.springframework.beans.factory.annotation.Value;
 import project.masil.auth.exception.AuthErrorCode;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
@@ -14,6 +15,7 @@ import java.util.Date;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import project.masil.global.exception.CustomException;
+import project.masil.user.entity.User;
 
 /**
  * JWT(Json Web Token)를 생성하고 검증하고 파싱하는 핵심 유틸리티 컴포넌트
@@ -23,7 +25,16 @@ import project.masil.global.exception.CustomException;
 @Component
 public class JwtProvider {
 
+  // 액세스 토큰 클레임 (인증 시 DB 조회 없이 principal 구성)
+  public static final String CLAIM_USER_ID = "uid";
+  public static final String CLAIM_REGION_ID = "rid";
+  public static final String CLAIM_ROLE = "role";
+  // 발급 시점의 User.principalVersion (다르면 클레임을 믿지 않음)
+  public static final String CLAIM_VERSION = "ver";
+
   private final Key key;
+  // 파서는 스레드 안전하므로 한 번만 생성해 재사용
+  private final JwtParser parser;
   private final long accessTokenExpireTime;
   private final long refreshTokenExpireTime;
 
@@ -33,21 +44,30 @@ public class JwtProvider {
       @Value("${spring.jwt.refresh-token-expire-time}") long refreshTokenExpireTime) {
     byte[] keyBytes = java.util.Base64.getDecoder().decode(secretKey);
     this.key = Keys.hmacShaKeyFor(keyBytes);
+    this.parser = Jwts.parserBuilder().setSigningKey(key).build();
     this.accessTokenExpireTime = accessTokenExpireTime;
     this.refreshTokenExpireTime = refreshTokenExpireTime;
   }
 
-  public String createAccessToken(String email) {
+  public String createAccessToken(User user) {
     Date now = new Date();
     return Jwts.builder()
-        .setSubject(email)
-        .setId(String.valueOf(email))
+        .setSubject(user.getEmail())
+        .setId(String.valueOf(user.getEmail()))
+        .claim(CLAIM_USER_ID, user.getId())
+        .claim(CLAIM_REGION_ID, user.getRegion() != null ? user.getRegion().getId() : null)
+        .claim(CLAIM_ROLE, user.getRole().name())
+        .claim(CLAIM_VERSION, user.getPrincipalVersion())
         .setIssuedAt(now)
         .setExpiration(new Date(now.getTime() + accessTokenExpireTime))
         .signWith(key, SignatureAlgorithm.HS256)
         .compact();
   }
 
+  public long getAccessTokenExpireTime() {
+    return accessTokenExpireTime;
+  }
+
   public long getExpiration(String accessToken) {
     Claims claims = parseClaims(accessToken);
 
@@ -56,10 +76,6 @@ public class JwtProvider {
     return expiration.getTime() - now;
   }
 
-  private Key getSigningKey() {
-    return key;
-  }
-
   public String createRefreshToken(String username, String tokenId) {
     Date now = new Date();
     return Jwts.builder()
@@ -72,9 +88,16 @@ public class JwtProvider {
   }
 
   public boolean validateToken(String token) {
+    parse(token);
+    return true;
+  }
+
+  /**
+   * 서명/만료를 검증하고 클레임을 반환한다. 한 요청에서 한 번만 호출해 결과를 재사용한다.
+   */
+  public Claims parse(String token) {
     try {
-      parseClaims(token);
-      return true;
+      return parseClaims(token);
     } catch (ExpiredJwtException e) {
       throw new CustomException(AuthErrorCode.JWT_TOKEN_EXPIRED);
     } catch (UnsupportedJwtException e) {
@@ -101,10 +124,6 @@ public class JwtProvider {
   }
 
   private Claims parseClaims(String token) {
-    return Jwts.parserBuilder()
-        .setSigningKey(getSigningKey())
-        .build()
-        .parseClaimsJws(token)
-        .getBody();
+    return parser.parseClaimsJws(token).getBody();
   }
 }
\ No newline at end of file
@@ -7,6 +7,7 @@ import org.aspectj.lang.annotation.Aspect;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
 
 @Aspect
 @Component
@@ -37,6 +38,11 @@ public class ServiceTimingAspect {
         + "." + pjp.getSignature().getName();
     try {
       Object result = pjp.proceed();
+      // Mono 반환 메서드는 실제 완료(성공/에러/취소) 시점까지 측정
+      if (result instanceof Mono<?> mono) {
+        return mono.doFinally(signal -> log.info("[SERVICE] {} tookMs={}ms signal={}",
+            classMethod, (System.nanoTime() - start) / 1_000_000, signal));
+      }
       long tookMs = (System.nanoTime() - start) / 1_000_000;
       log.info("[SERVICE] {} tookMs={}ms", classMethod, tookMs);
       return result;
@@ -0,0 +1,71 @@
+package project.masil.global.log;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.stream.Collectors;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+import project.masil.global.config.props.AsyncProps;
+
+/**
+ * 가상 스레드 고정(pinning) 진단.
+ * <p>
+ * synchronized 블록 안이나 네이티브 호출 중에 블로킹되면 가상 스레드가 캐리어 스레드를 놓지 못한다(JDBC 드라이버, S3 SDK 등).
+ * JFR jdk.VirtualThreadPinned 이벤트를 구독해 async.pinned-threshold 이상 고정된 경우 호출 위치를 경고 로그로 남긴다.
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@RequiredArgsConstructor
+public class VirtualThreadPinningMonitor {
+
+  private static final int MAX_FRAMES = 8;
+
+  private final AsyncProps asyncProps;
+  private RecordingStream stream;
+
+  @PostConstruct
+  public void start() {
+    stream = new RecordingStream();
+    stream.enable("jdk.VirtualThreadPinned")
+        .withThreshold(asyncProps.getPinnedThreshold())
+        .withStackTrace();
+    stream.onEvent("jdk.VirtualThreadPinned", this::report);
+    stream.startAsync();
+    log.info("[VT] pinning 모니터 시작 (threshold={})", asyncProps.getPinnedThreshold());
+  }
+
+  @PreDestroy
+  public void stop() {
+    if (stream != null) {
+      stream.close();
+    }
+  }
+
+  private void report(RecordedEvent event) {
+    log.warn("[VT] 가상 스레드 고정 {}ms thread={}\n{}",
+        event.getDuration().toMillis(),
+        event.getThread() != null ? event.getThread().getJavaName() : "?",
+        frames(event.getStackTrace()));
+  }
+
+  private static String frames(RecordedStackTrace stackTrace) {
+    if (stackTrace == null) {
+      return "  (스택 없음)";
+    }
+    List<RecordedFrame> frames = stackTrace.getFrames();
+    return frames.stream()
+        .limit(MAX_FRAMES)
+        .map(f -> "  at " + f.getMethod().getType().getName() + "." + f.getMethod().getName()
+            + ":" + f.getLineNumber())
+        .collect(Collectors.joining("\n"));
+  }
+}
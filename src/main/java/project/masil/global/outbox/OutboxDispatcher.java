@@ -0,0 +1,176 @@
+package project.masil.global.outbox;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import project.masil.global.config.props.OutboxProps;
+import project.masil.global.outbox.OutboxStore.Claim;
+import project.masil.global.util.FixedDelayLoop;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 아웃박스 폴링 처리기.
+ * <p>
+ * - 구역({@link OutboxLane})마다 폴링 스레드가 따로: 오래 걸리는 이미지 변형본이 요약/임베딩 처리를 막지 않는다
+ * - poll-interval 마다: 처리 시각이 된 행을 가져간다 ({@link OutboxStore#claim}, 처리 도중 노드가 죽으면 lease 후 다시 처리)
+ * - 같은 대상(게시글/사용자)의 행은 한 묶음으로 id 순서대로 차례차례 처리, 서로 다른 대상은 concurrency 만큼 동시에
+ *   (묶음 안에서 같은 종류가 여러 번 있으면 마지막 위치에서 한 번만 실행, 처리기는 최신 상태를 읽는다)
+ * - 묶음 안에서 실패하면 그 행은 재시도 예약, 뒤의 행은 시도 횟수를 늘리지 않고 실패한 행의 재시도 시각까지 돌려놓는다
+ * - batch-timeout 안에 끝나지 않은 행도 돌려놓는다 (lease 가 끝나기 전에 결과를 반영)
+ * - 가득 찬 배치를 가져왔으면 쉬지 않고 다음 배치
+ */
+@Slf4j
+@Component
+public class OutboxDispatcher {
+
+  private final OutboxStore store;
+  private final OutboxProps props;
+  private final Map<OutboxEventType, OutboxHandler> handlers = new EnumMap<>(OutboxEventType.class);
+
+  private final Map<OutboxLane, FixedDelayLoop> pollers = new EnumMap<>(OutboxLane.class);
+
+  public OutboxDispatcher(OutboxStore store, OutboxProps props, List<OutboxHandler> handlers) {
+    this.store = store;
+    this.props = props;
+    for (OutboxHandler handler : handlers) {
+      handler.supports().forEach(type -> this.handlers.put(type, handler));
+    }
+  }
+
+  @PostConstruct
+  public void start() {
+    for (OutboxLane lane : OutboxLane.values()) {
+      if (typesOf(lane).isEmpty()) {
+        continue;
+      }
+      pollers.put(lane, FixedDelayLoop.start("outbox-poll-" + lane.name().toLowerCase(),
+          props.getPollInterval(), () -> poll(lane), props.lane(lane).getBatchSize()));
+    }
+  }
+
+  @PreDestroy
+  public void stop() {
+    pollers.values().forEach(FixedDelayLoop::close);
+  }
+
+  // 가져간 행 수
+  int poll(OutboxLane lane) {
+    OutboxProps.Lane limits = props.lane(lane);
+    // 1) 가져가기 + 임대 (짧은 트랜잭션)
+    Claim claim = store.claim(typesOf(lane), limits.getBatchSize(), limits.getLease());
+    if (claim.isEmpty()) {
+      return 0;
+    }
+
+    // 2) 대상 단위로 묶어 처리 (트랜잭션 밖, 가져온 행은 id 순서)
+    Map<Target, List<OutboxEvent>> groups = new LinkedHashMap<>();
+    for (OutboxEvent e : claim.rows()) {
+      groups.computeIfAbsent(new Target(e.getEventType().getAggregate(), e.getAggregateId()),
+          k -> new ArrayList<>()).add(e);
+    }
+    Set<Long> done = ConcurrentHashMap.newKeySet();
+    Map<Long, String> errors = new ConcurrentHashMap<>();
+    Flux.fromIterable(groups.values())
+        .flatMap(rows -> process(rows, limits, done, errors),
+            Math.max(1, limits.getConcurrency()))
+        .then()
+        .timeout(limits.getBatchTimeout(), Mono.fromRunnable(() ->
+            log.warn("[아웃박스] {} 배치 시간 초과, 남은 행은 돌려놓음", lane)))
+        .block();
+
+    // 3) 결과 반영 (토큰이 그대로인 행만)
+    LocalDateTime now = LocalDateTime.now();
+    List<Long> completed = new ArrayList<>();
+    Map<LocalDateTime, List<Long>> released = new LinkedHashMap<>();
+    for (List<OutboxEvent> rows : groups.values()) {
+      LocalDateTime hold = now;
+      for (OutboxEvent row : rows) {
+        String error = errors.get(row.getId());
+        if (error != null) {
+          LocalDateTime retryAt = store.fail(claim.token(), row, error);
+          hold = retryAt.isAfter(hold) ? retryAt : hold;
+        }
+      }
+      for (OutboxEvent row : rows) {
+        if (done.contains(row.getId())) {
+          completed.add(row.getId());
+        } else if (!errors.containsKey(row.getId())) {
+          released.computeIfAbsent(hold, k -> new ArrayList<>()).add(row.getId());
+        }
+      }
+    }
+    store.complete(claim.token(), completed);
+    released.forEach((at, ids) -> store.release(claim.token(), ids, at));
+    if (!errors.isEmpty()) {
+      log.warn("[아웃박스] {} {}건 중 {}건 실패: {}", lane, claim.rows().size(), errors.size(),
+          errors);
+    }
+    log.debug("[아웃박스] {} 행 {}건 → 대상 {}개, 완료 {}건", lane, claim.rows().size(),
+        groups.size(), completed.size());
+    return claim.rows().size();
+  }
+
+  // 한 대상의 행을 순서대로 실행, 실패하면 거기서 멈춘다 (뒤의 행은 처리하지 않음)
+  private Mono<Void> process(List<OutboxEvent> rows, OutboxProps.Lane limits, Set<Long> done,
+      Map<Long, String> errors) {
+    return Flux.fromIterable(steps(rows))
+        .concatMap(step -> handle(step.type(), step.aggregateId())
+            .timeout(limits.getHandlerTimeout())
+            .doOnSuccess(v -> step.rows().forEach(r -> done.add(r.getId())))
+            .doOnError(ex -> step.rows().forEach(r ->
+                errors.put(r.getId(), String.valueOf(ex.getMessage())))))
+        .then()
+        .onErrorResume(ex -> Mono.empty());
+  }
+
+  // 같은 종류는 마지막 위치에서 한 번만 (그 종류의 행은 그 실행 결과를 따른다)
+  private static List<Step> steps(List<OutboxEvent> rows) {
+    Map<OutboxEventType, List<OutboxEvent>> byType = new LinkedHashMap<>();
+    for (OutboxEvent row : rows) {
+      // 다시 넣어서 마지막 위치로 옮긴다
+      List<OutboxEvent> same = byType.remove(row.getEventType());
+      same = same == null ? new ArrayList<>() : same;
+      same.add(row);
+      byType.put(row.getEventType(), same);
+    }
+    Long aggregateId = rows.get(0).getAggregateId();
+    return byType.entrySet().stream()
+        .map(e -> new Step(e.getKey(), aggregateId, e.getValue()))
+        .toList();
+  }
+
+  // 이 구역에서 처리기가 있는 종류
+  private Set<OutboxEventType> typesOf(OutboxLane lane) {
+    Set<OutboxEventType> types = EnumSet.noneOf(OutboxEventType.class);
+    handlers.keySet().stream().filter(type -> type.getLane() == lane).forEach(types::add);
+    return types;
+  }
+
+  private Mono<Void> handle(OutboxEventType type, Long aggregateId) {
+    OutboxHandler handler = handlers.get(type);
+    if (handler == null) {
+      return Mono.error(new IllegalStateException("처리기 없음: " + type));
+    }
+    // 처리기 내부의 동기 예외도 실패로 기록
+    return Mono.defer(() -> handler.handle(type, aggregateId));
+  }
+
+  private record Target(OutboxEventType.Aggregate aggregate, Long aggregateId) {
+
+  }
+
+  private record Step(OutboxEventType type, Long aggregateId, List<OutboxEvent> rows) {
+
+  }
+}
@@ -0,0 +1,75 @@
+package project.masil.global.outbox;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import project.masil.global.common.BaseTimeEntity;
+
+/**
+ * 트랜잭셔널 아웃박스
+ * - 도메인 변경과 같은 트랜잭션에서 저장 → 커밋되면 반드시 처리된다 (재시작/대기열 포화로 유실되지 않음)
+ * - 처리에 성공한 행은 삭제, 실패하면 nextAttemptAt 을 미뤄 재시도, maxAttempts 를 넘으면 FAILED
+ * - 가져갈 때마다 claimToken 을 새로 발급, 결과 반영은 토큰이 같을 때만 (임대가 끝나 다른 노드가 가져간 행은 건드리지 않음)
+ */
+@Entity
+@Table(name = "outbox_events",
+    indexes = {
+        @Index(name = "idx_outbox_status_next", columnList = "status, nextAttemptAt")
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class OutboxEvent extends BaseTimeEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 40)
+  private OutboxEventType eventType;
+
+  @Column(nullable = false)
+  private Long aggregateId;
+
+  // ID 만으로 처리할 수 없는 이벤트의 내용 (JSON, 예: 알림)
+  @Column(columnDefinition = "TEXT")
+  private String payload;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 20)
+  private OutboxStatus status;
+
+  @Column(nullable = false)
+  private int attempts;
+
+  @Column(nullable = false)
+  private LocalDateTime nextAttemptAt;
+
+  @Column(length = 500)
+  private String lastError;
+
+  // 마지막으로 가져간 처리기의 토큰 (처리 중이 아니면 null)
+  @Column(length = 36)
+  private String claimToken;
+
+  /** 처리 시작: until 까지 다른 노드가 가져가지 않도록 미룸 (그 전에 노드가 죽으면 다시 처리됨) */
+  public void claim(String token, LocalDateTime until) {
+    this.claimToken = token;
+    this.nextAttemptAt = until;
+  }
+}
@@ -0,0 +1,63 @@
+package project.masil.global.outbox;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+  /**
+   * 처리할 행 가져가기 (호출 트랜잭션 안에서 행 잠금)
+   * - SKIP LOCKED: 다른 노드가 잠근 행은 건너뛰므로 여러 노드가 동시에 폴링해도 같은 행을 처리하지 않는다
+   */
+  @Query(value = """
+      select *
+      from outbox_events
+      where status = 'PENDING' and eventType in (:types) and nextAttemptAt <= :now
+      order by id
+      limit :limit
+      for update skip locked
+      """, nativeQuery = true)
+  List<OutboxEvent> lockDue(@Param("types") Collection<String> types,
+      @Param("now") LocalDateTime now, @Param("limit") int limit);
+
+  /**
+   * 처리 완료: 아직 같은 토큰으로 잡고 있는 행만 삭제
+   */
+  @Modifying
+  @Query("delete from OutboxEvent e where e.id in :ids and e.claimToken = :token")
+  int deleteClaimed(@Param("token") String token, @Param("ids") Collection<Long> ids);
+
+  /**
+   * 처리 실패: attempts 증가 + 재시도 예약, max-attempts 도달 시 FAILED (같은 토큰일 때만)
+   */
+  @Modifying
+  @Query(value = """
+      update outbox_events
+      set status = case when attempts + 1 >= :maxAttempts then 'FAILED' else 'PENDING' end,
+          lastError = :error,
+          nextAttemptAt = :retryAt,
+          attempts = attempts + 1,
+          claimToken = null
+      where id = :id and claimToken = :token
+      """, nativeQuery = true)
+  int failClaimed(@Param("token") String token, @Param("id") Long id,
+      @Param("error") String error, @Param("retryAt") LocalDateTime retryAt,
+      @Param("maxAttempts") int maxAttempts);
+
+  /**
+   * 처리하지 못하고 돌려놓기 (시도 횟수는 그대로, 같은 토큰일 때만)
+   */
+  @Modifying
+  @Query(value = """
+      update outbox_events
+      set nextAttemptAt = :at, claimToken = null
+      where id in (:ids) and claimToken = :token
+      """, nativeQuery = true)
+  int releaseClaimed(@Param("token") String token, @Param("ids") Collection<Long> ids,
+      @Param("at") LocalDateTime at);
+}
@@ -0,0 +1,36 @@
+package project.masil.global.outbox;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 아웃박스 이벤트 종류 (aggregateId 는 aggregate 가 가리키는 대상의 ID)
+ * - 같은 대상의 행은 id 순서대로 처리된다 (예: 같은 게시글의 임베딩 upsert → remove)
+ * - lane 별로 따로 폴링한다 ({@link OutboxLane})
+ */
+@Getter
+@RequiredArgsConstructor
+public enum OutboxEventType {
+  // AI 요약 생성 → events.summary
+  POST_SUMMARIZE(OutboxLane.POST, Aggregate.POST),
+  // 임베딩 생성 → post_embeddings 저장 → FAISS upsert
+  POST_EMBEDDING_UPSERT(OutboxLane.POST, Aggregate.POST),
+  // post_embeddings 삭제 → FAISS remove
+  POST_EMBEDDING_REMOVE(OutboxLane.POST, Aggregate.POST),
+  // 게시글 이미지 변형본(썸네일/카드/상세) 생성
+  POST_IMAGE_VARIANTS(OutboxLane.IMAGE, Aggregate.POST),
+  // 프로필 이미지 썸네일 생성
+  PROFILE_IMAGE_VARIANTS(OutboxLane.IMAGE, Aggregate.USER),
+  // 알림 (payload 에 NotificationEvent, aggregateId 는 받는 사람, fan-out 이면 보낸 사람)
+  NOTIFICATION(OutboxLane.NOTIFICATION, Aggregate.USER);
+
+  private final OutboxLane lane;
+  private final Aggregate aggregate;
+
+  public enum Aggregate {
+    // 게시글 ID
+    POST,
+    // 사용자 ID
+    USER
+  }
+}
@@ -0,0 +1,16 @@
+package project.masil.global.outbox;
+
+import java.util.Set;
+import reactor.core.publisher.Mono;
+
+/**
+ * 아웃박스 이벤트 처리기
+ * - 같은 이벤트가 두 번 이상 처리될 수 있으므로 멱등이어야 한다 (재시도, 임대 만료 후 재처리)
+ * - 이벤트에는 ID 만 있으므로 처리 시점의 최신 상태를 읽어 반영한다
+ */
+public interface OutboxHandler {
+
+  Set<OutboxEventType> supports();
+
+  Mono<Void> handle(OutboxEventType type, Long aggregateId);
+}
@@ -0,0 +1,14 @@
+package project.masil.global.outbox;
+
+/**
+ * 아웃박스 처리 구역. 구역마다 폴링 스레드/배치 크기/시간 한도가 따로라서
+ * 오래 걸리는 이미지 처리가 요약/임베딩 처리를 막지 않는다
+ */
+public enum OutboxLane {
+  // 게시글 요약/임베딩 (AI 서버 호출)
+  POST,
+  // 이미지 변형본 생성 (CPU, 오래 걸림)
+  IMAGE,
+  // 알림 저장/푸시 (처리기 없이 NotificationDispatcher 가 직접 가져가 합쳐서 저장)
+  NOTIFICATION
+}
@@ -0,0 +1,82 @@
+package project.masil.global.outbox;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 아웃박스 기록. 도메인 변경과 같은 트랜잭션에서만 호출 가능 (MANDATORY)
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxPublisher {
+
+  private static final String INSERT_SQL = """
+      insert into outbox_events
+        (eventType, aggregateId, payload, status, attempts, nextAttemptAt, createdAt, updatedAt)
+      values (?, ?, ?, 'PENDING', 0, ?, ?, ?)
+      """;
+
+  private final OutboxEventRepository outboxEventRepository;
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * 여러 건을 한 번에 기록할 때의 한 건
+   */
+  public record Entry(Long aggregateId, String payload) {
+
+  }
+
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void append(OutboxEventType type, Long aggregateId) {
+    append(type, aggregateId, null);
+  }
+
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void append(OutboxEventType type, Long aggregateId, String payload) {
+    outboxEventRepository.save(OutboxEvent.builder()
+        .eventType(type)
+        .aggregateId(aggregateId)
+        .payload(payload)
+        .status(OutboxStatus.PENDING)
+        .attempts(0)
+        .nextAttemptAt(LocalDateTime.now())
+        .build());
+  }
+
+  /**
+   * JDBC batch insert (채팅 배치 저장처럼 한 트랜잭션에서 여러 건을 쓰는 경우)
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void appendAll(OutboxEventType type, List<Entry> entries) {
+    if (entries.isEmpty()) {
+      return;
+    }
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+      @Override
+      public void setValues(PreparedStatement ps, int i) throws SQLException {
+        Entry entry = entries.get(i);
+        ps.setString(1, type.name());
+        ps.setLong(2, entry.aggregateId());
+        ps.setString(3, entry.payload());
+        ps.setTimestamp(4, now);
+        ps.setTimestamp(5, now);
+        ps.setTimestamp(6, now);
+      }
+
+      @Override
+      public int getBatchSize() {
+        return entries.size();
+      }
+    });
+  }
+}
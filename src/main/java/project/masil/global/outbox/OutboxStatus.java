@@ -0,0 +1,8 @@
+package project.masil.global.outbox;
+
+public enum OutboxStatus {
+  // 처리 대기 (nextAttemptAt 이후 가져갈 수 있음, 처리 중인 행은 임대 시각까지 미뤄져 있음)
+  PENDING,
+  // 최대 재시도 초과 (수동 확인 대상)
+  FAILED
+}
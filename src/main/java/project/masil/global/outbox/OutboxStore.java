@@ -0,0 +1,113 @@
+package project.masil.global.outbox;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import project.masil.global.config.props.OutboxProps;
+
+/**
+ * 아웃박스 행 가져가기/결과 반영 (각각 짧은 자체 트랜잭션)
+ * <p>
+ * - claim: 처리 시각이 된 행을 SKIP LOCKED 로 잠그고 새 토큰 + lease 를 기록한 뒤 곧바로 커밋
+ * - complete/fail/release: 토큰이 그대로인 행에만 반영. 처리가 lease 보다 길어져 다른 노드가 다시 가져간 행은
+ *   그 노드의 결과만 남는다 (늦게 끝난 쪽이 덮어쓰지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxStore {
+
+  private final OutboxEventRepository outboxEventRepository;
+  private final TransactionTemplate tx;
+  private final OutboxProps props;
+
+  /**
+   * 가져간 행 (id 순서)
+   */
+  public record Claim(String token, List<OutboxEvent> rows) {
+
+    public boolean isEmpty() {
+      return rows.isEmpty();
+    }
+  }
+
+  public Claim claim(Collection<OutboxEventType> types, int limit, Duration lease) {
+    String token = UUID.randomUUID().toString();
+    if (types.isEmpty()) {
+      return new Claim(token, List.of());
+    }
+    List<String> names = types.stream().map(Enum::name).toList();
+    List<OutboxEvent> rows = tx.execute(status -> {
+      LocalDateTime now = LocalDateTime.now();
+      List<OutboxEvent> due = outboxEventRepository.lockDue(names, now, limit);
+      LocalDateTime until = now.plus(lease);
+      due.forEach(e -> e.claim(token, until));
+      return due;
+    });
+    return new Claim(token, rows == null ? List.of() : rows);
+  }
+
+  /**
+   * 성공한 행 삭제
+   */
+  public void complete(String token, Collection<Long> ids) {
+    if (ids.isEmpty()) {
+      return;
+    }
+    tx.executeWithoutResult(status -> outboxEventRepository.deleteClaimed(token, ids));
+  }
+
+  /**
+   * 실패 기록 (재시도 예약 또는 FAILED)
+   *
+   * @return 재시도 예정 시각
+   */
+  public LocalDateTime fail(String token, OutboxEvent row, String error) {
+    LocalDateTime retryAt = LocalDateTime.now().plus(backoff(row.getAttempts() + 1));
+    String message = error == null ? null : error.substring(0, Math.min(500, error.length()));
+    tx.executeWithoutResult(status -> outboxEventRepository.failClaimed(token, row.getId(),
+        message, retryAt, props.getMaxAttempts()));
+    return retryAt;
+  }
+
+  /**
+   * 같은 오류로 여러 행 실패 기록 (한 트랜잭션)
+   */
+  public void failAll(String token, Collection<OutboxEvent> rows, String error) {
+    if (rows.isEmpty()) {
+      return;
+    }
+    LocalDateTime now = LocalDateTime.now();
+    String message = error == null ? null : error.substring(0, Math.min(500, error.length()));
+    tx.executeWithoutResult(status -> rows.forEach(row -> outboxEventRepository.failClaimed(
+        token, row.getId(), message, now.plus(backoff(row.getAttempts() + 1)),
+        props.getMaxAttempts())));
+  }
+
+  /**
+   * 처리하지 못한 행을 at 이후 다시 가져갈 수 있게 돌려놓는다 (시도 횟수는 늘리지 않음)
+   */
+  public void release(String token, Collection<Long> ids, LocalDateTime at) {
+    if (ids.isEmpty()) {
+      return;
+    }
+    tx.executeWithoutResult(status -> outboxEventRepository.releaseClaimed(token, ids, at));
+  }
+
+  // base * 2^(attempt-1), 최대 backoff-max, 동시에 몰리지 않도록 ±20% 지터
+  private Duration backoff(int attempt) {
+    long base = props.getBackoffBase().toMillis();
+    long max = props.getBackoffMax().toMillis();
+    long delay = base << Math.min(attempt - 1, 30);
+    if (delay <= 0 || delay > max) {
+      delay = max;
+    }
+    double jitter = 0.8 + ThreadLocalRandom.current().nextDouble() * 0.4;
+    return Duration.ofMillis((long) (delay * jitter));
+  }
+}
@@ -0,0 +1,84 @@
+package project.masil.global.security;
+
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import project.masil.community.entity.Region;
+import project.masil.community.exception.RegionErrorCode;
+import project.masil.community.repository.RegionRepository;
+import project.masil.global.exception.CustomException;
+import project.masil.user.entity.User;
+import project.masil.user.exception.UserErrorCode;
+import project.masil.user.repository.UserRepository;
+
+/**
+ * 현재 요청의 인증 사용자 정보 접근.
+ * <p>
+ * JwtAuthenticationFilter 가 SecurityContext 에 넣은 principal(userId, regionId, role)을 요청 범위에서 재사용한다. 요청 사용자가
+ * 아닌 userId 이거나 인증 정보가 없는 스레드(비동기 작업 등)에서는 DB 조회로 대체한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CurrentUserContext {
+
+  private final UserRepository userRepository;
+  private final RegionRepository regionRepository;
+
+  /**
+   * 현재 요청의 인증 principal
+   */
+  public Optional<CustomUserDetails> current() {
+    Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+    if (auth != null && auth.getPrincipal() instanceof CustomUserDetails details) {
+      return Optional.of(details);
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * 사용자의 지역 ID. 요청 사용자 본인이면 SELECT 없이 principal 값을 사용한다.
+   */
+  public Long regionIdOf(Long userId) {
+    return principalOf(userId)
+        .map(CustomUserDetails::getRegionId)
+        .orElseGet(() -> load(userId).getRegion().getId());
+  }
+
+  /**
+   * 사용자의 지역. 요청 사용자 본인이면 users 조회 없이 region 만 조회한다.
+   */
+  public Region regionOf(Long userId) {
+    Optional<CustomUserDetails> principal = principalOf(userId);
+    if (principal.isPresent()) {
+      return regionRepository.findById(principal.get().getRegionId())
+          .orElseThrow(() -> new CustomException(RegionErrorCode.REGION_NOT_FOUND));
+    }
+    return load(userId).getRegion();
+  }
+
+  /**
+   * 연관관계 설정/조회 조건용 User. 요청 사용자 본인이면 엔티티를 읽지 않고 프록시(참조)를 반환한다.
+   * <p>
+   * 토큰 발급 후 탈퇴한 사용자면 저장 시 FK 오류(500)가 나므로, PK 존재 확인만 하고 없으면 USER_NOT_FOUND
+   */
+  public User referenceOf(Long userId) {
+    if (principalOf(userId).isPresent()) {
+      if (!userRepository.existsById(userId)) {
+        throw new CustomException(UserErrorCode.USER_NOT_FOUND);
+      }
+      return userRepository.getReferenceById(userId);
+    }
+    return load(userId);
+  }
+
+  private Optional<CustomUserDetails> principalOf(Long userId) {
+    return current().filter(d -> d.getUserId() != null && d.getUserId().equals(userId));
+  }
+
+  private User load(Long userId) {
+    return userRepository.findById(userId)
+        .orElseThrow(() -> new CustomException(UserErrorCode.USER_NOT_FOUND));
+  }
+}
@@ -6,6 +6,7 @@ import lombok.Getter;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import project.masil.user.entity.Role;
 import project.masil.user.entity.User;
 
 /**
@@ -13,30 +14,46 @@ import project.masil.user.entity.User;
  * User -> UserDetails 변환 어댑터
  *
  * Spring Security는 로그인 후 사용자 정보를 세션(SecurityContext)에 저장하는데,
- * 이때 User 엔티티를 그대로 저장하지 않고, UserDetails 인터페이스를 구현한 객체만 저장
+ * 이때 User 엔티티를 그대로 저장하지 않고, 요청 처리에 필요한 식별 정보(userId, regionId, role)만 담는다.
+ * 서비스는 이 값을 재사용해 같은 요청 안에서 users 테이블을 다시 조회하지 않는다.
  */
 @Getter
 public class CustomUserDetails implements UserDetails {
 
-  private final User user;
+  private final Long userId;
+  private final String email;
+  private final Long regionId;
+  private final Role role;
+  private final String password; // 로그인(아이디/비밀번호 인증) 시에만 사용
 
   public CustomUserDetails(User user) {
-    this.user = user;
+    this(user.getId(), user.getEmail(),
+        user.getRegion() != null ? user.getRegion().getId() : null,
+        user.getRole(), user.getPassword());
+  }
+
+  public CustomUserDetails(Long userId, String email, Long regionId, Role role,
+      String password) {
+    this.userId = userId;
+    this.email = email;
+    this.regionId = regionId;
+    this.role = role;
+    this.password = password;
   }
 
   @Override
   public Collection<? extends GrantedAuthority> getAuthorities() {
-    return List.of(new SimpleGrantedAuthority(user.getRole().name()));
+    return List.of(new SimpleGrantedAuthority(role.name()));
   }
 
   @Override
   public String getPassword() {
-    return user.getPassword();
+    return password;
   }
 
   @Override
   public String getUsername() {
-    return user.getEmail();
+    return email;
   }
 
   @Override
@@ -10,11 +10,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
-import project.masil.global.jwt.JwtProvider;
 
 /**
  * JwtAuthenticationFilter는 모든 요청 전에 작동하면서
@@ -29,8 +26,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
   private static final String AUTHORIZATION_HEADER = "Authorization";
   private static final String BEARER_PREFIX = "Bearer ";
 
-  private final JwtProvider jwtProvider;
-  private final UserDetailsService userDetailsService;
+  private final JwtPrincipalResolver principalResolver;
 
   @Override
   protected void doFilterInternal(
@@ -39,18 +35,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     try {
       String token = resolveToken(request);
 
-      if (token != null && jwtProvider.validateToken(token)) {
-//        String socialId = jwtProvider.extractSocialId(token); //고유 식별자(socialId)를 subject에 넣음
-        String email = jwtProvider.extractEmail(token); // 이메일로 추출
-        log.info("✅ [JWT 필터] JWT에서 추출한 이메일: {}", email);  // ✅ 추가
-        UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+      if (token != null) {
+        // 토큰 클레임(또는 검증 캐시)으로 principal 구성 - 요청마다 users 조회하지 않음
+        CustomUserDetails userDetails = principalResolver.resolve(token);
 
         UsernamePasswordAuthenticationToken authentication =
             new UsernamePasswordAuthenticationToken(
                 userDetails, null, userDetails.getAuthorities());
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
-        log.debug("SecurityContext에 '{}' 인증 정보를 저장했습니다.", email);
+        log.debug("SecurityContext에 userId={} 인증 정보를 저장했습니다.", userDetails.getUserId());
       }
     } catch (JwtException | IllegalArgumentException e) {
       log.error("JWT 검증 실패 : {}", e.getMessage());
@@ -0,0 +1,155 @@
+package project.masil.global.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import project.masil.global.config.props.AuthTokenCacheProps;
+import project.masil.global.exception.CustomException;
+import project.masil.global.jwt.JwtProvider;
+import project.masil.user.entity.Role;
+import project.masil.user.entity.User;
+import project.masil.user.event.UserPrincipalChangedEvent;
+import project.masil.user.exception.UserErrorCode;
+import project.masil.user.repository.UserRepository;
+
+/**
+ * 액세스 토큰 -> 인증 principal 변환.
+ * <p>
+ * - 토큰은 캐시된 파서로 한 번만 파싱하고, 클레임(userId, regionId, role)으로 principal 을 만든다
+ * - 검증된 토큰은 짧은 TTL 로 캐싱해 같은 토큰의 반복 요청은 서명 검증도 생략한다
+ * - 사용자의 principalVersion(지역/권한 변경 시 증가)을 캐시 적중 때마다 확인한다. 버전은 사용자별로
+ *   version-ttl 동안만 메모리에 두므로, 다른 노드에서 일어난 변경/탈퇴도 그 안에 반영된다
+ *   (변경한 노드는 커밋 직후 바로 반영)
+ * - 토큰의 버전 클레임이 현재 버전과 다르거나 없는(이전 형식) 토큰은 클레임을 믿지 않고 DB 에서 다시 읽는다
+ * - 탈퇴 등으로 사용자가 없으면 USER_NOT_FOUND
+ */
+@Slf4j
+@Component
+public class JwtPrincipalResolver {
+
+  // 버전 캐시에서 "사용자 없음"
+  private static final long MISSING = -1L;
+
+  private final JwtProvider jwtProvider;
+  private final UserRepository userRepository;
+
+  private final Cache<String, Verified> verified;
+  // userId -> principalVersion (없으면 MISSING)
+  private final Cache<Long, Long> versions;
+
+  public JwtPrincipalResolver(
+      JwtProvider jwtProvider,
+      UserRepository userRepository,
+      AuthTokenCacheProps props
+  ) {
+    this.jwtProvider = jwtProvider;
+    this.userRepository = userRepository;
+    long ttlNanos = props.getTtl().toNanos();
+    this.verified = Caffeine.newBuilder()
+        .maximumSize(props.getMaxSize())
+        .expireAfter(new Expiry<String, Verified>() {
+          @Override
+          public long expireAfterCreate(String token, Verified v, long currentTime) {
+            long untilExpiry = Duration.ofMillis(
+                v.expiresAtMillis() - System.currentTimeMillis()).toNanos();
+            return Math.max(0, Math.min(ttlNanos, untilExpiry));
+          }
+
+          @Override
+          public long expireAfterUpdate(String token, Verified v, long currentTime,
+              long currentDuration) {
+            return expireAfterCreate(token, v, currentTime);
+          }
+
+          @Override
+          public long expireAfterRead(String token, Verified v, long currentTime,
+              long currentDuration) {
+            return currentDuration;
+          }
+        })
+        .build();
+    this.versions = Caffeine.newBuilder()
+        .maximumSize(props.getMaxSize())
+        .expireAfterWrite(props.getVersionTtl())
+        .build();
+  }
+
+  /**
+   * 토큰을 검증하고 principal 을 반환한다. 검증 실패 시 JwtProvider 와 같은 CustomException 을 던진다.
+   */
+  public CustomUserDetails resolve(String token) {
+    Verified hit = verified.getIfPresent(token);
+    if (hit != null && hit.expiresAtMillis() > System.currentTimeMillis()) {
+      if (hit.version() == currentVersion(hit.principal().getUserId())) {
+        return hit.principal();
+      }
+      verified.invalidate(token);
+    }
+
+    Claims claims = jwtProvider.parse(token);
+    Verified fresh = fromClaims(claims);
+    if (fresh == null) {
+      fresh = load(claims.getSubject(), claims.getExpiration().getTime());
+    }
+
+    verified.put(token, fresh);
+    return fresh.principal();
+  }
+
+  /**
+   * 사용자 정보 변경 커밋 후: 이 노드의 캐시를 바로 비운다 (다른 노드는 version-ttl 안에 버전 비교로 반영)
+   */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onPrincipalChanged(UserPrincipalChangedEvent e) {
+    invalidateUser(e.userId());
+  }
+
+  public void invalidateUser(Long userId) {
+    versions.invalidate(userId);
+    verified.asMap().values().removeIf(v -> userId.equals(v.principal().getUserId()));
+    log.debug("[인증 캐시] userId={} principal 무효화", userId);
+  }
+
+  // 클레임이 없거나 버전이 현재와 다르면 null
+  private Verified fromClaims(Claims claims) {
+    Long userId = claims.get(JwtProvider.CLAIM_USER_ID, Long.class);
+    String role = claims.get(JwtProvider.CLAIM_ROLE, String.class);
+    Long version = claims.get(JwtProvider.CLAIM_VERSION, Long.class);
+    if (userId == null || role == null || version == null
+        || version != currentVersion(userId)) {
+      return null;
+    }
+    CustomUserDetails principal = new CustomUserDetails(userId, claims.getSubject(),
+        claims.get(JwtProvider.CLAIM_REGION_ID, Long.class), Role.valueOf(role), null);
+    return new Verified(principal, version, claims.getExpiration().getTime());
+  }
+
+  // 사용자 정보와 버전을 한 번에 읽는다 (캐시에는 비밀번호 해시를 두지 않음)
+  private Verified load(String email, long expiresAtMillis) {
+    User user = userRepository.findByEmail(email)
+        .orElseThrow(() -> new CustomException(UserErrorCode.USER_NOT_FOUND));
+    versions.put(user.getId(), user.getPrincipalVersion());
+    CustomUserDetails principal = new CustomUserDetails(user.getId(), user.getEmail(),
+        user.getRegion() != null ? user.getRegion().getId() : null, user.getRole(), null);
+    return new Verified(principal, user.getPrincipalVersion(), expiresAtMillis);
+  }
+
+  private long currentVersion(Long userId) {
+    long version = versions.get(userId,
+        id -> userRepository.findPrincipalVersion(id).orElse(MISSING));
+    if (version == MISSING) {
+      throw new CustomException(UserErrorCode.USER_NOT_FOUND);
+    }
+    return version;
+  }
+
+  private record Verified(CustomUserDetails principal, long version, long expiresAtMillis) {
+
+  }
+}
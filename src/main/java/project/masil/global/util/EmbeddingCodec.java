@@ -44,4 +44,32 @@ public final class EmbeddingCodec {
     }
     return out;
   }
-}
\ No newline at end of file
+
+  /**
+   * 벡터별 대칭 int8 양자화 스케일 (max|x| / 127)
+   */
+  public static float int8Scale(float[] arr) {
+    float max = 0f;
+    for (float f : arr) {
+      max = Math.max(max, Math.abs(f));
+    }
+    return max == 0f ? 1f : max / 127f;
+  }
+
+  public static byte[] toInt8(float[] arr, float scale) {
+    byte[] out = new byte[arr.length];
+    for (int i = 0; i < arr.length; i++) {
+      int q = Math.round(arr[i] / scale);
+      out[i] = (byte) Math.max(-127, Math.min(127, q));
+    }
+    return out;
+  }
+
+  public static float[] fromInt8(byte[] bytes, float scale) {
+    float[] arr = new float[bytes.length];
+    for (int i = 0; i < bytes.length; i++) {
+      arr[i] = bytes[i] * scale;
+    }
+    return arr;
+  }
+}
@@ -0,0 +1,67 @@
+package project.masil.global.util;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 고정 간격 백그라운드 작업 (데몬 스레드 1개).
+ * <p>
+ * - 작업이 처리한 건수가 drainThreshold 이상이면(가득 찬 배치) 쉬지 않고 바로 다음 배치
+ * - 예외는 로그만 남기고 다음 간격에 다시 실행
+ * - {@link #close()} 후에는 새 배치를 시작하지 않는다 (실행 중인 배치는 끝까지)
+ */
+@Slf4j
+public final class FixedDelayLoop implements AutoCloseable {
+
+  private final String name;
+  private final ScheduledExecutorService executor;
+
+  private FixedDelayLoop(String name) {
+    this.name = name;
+    this.executor = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread t = new Thread(r, name);
+      t.setDaemon(true);
+      return t;
+    });
+  }
+
+  /**
+   * @param task           처리한 건수를 반환
+   * @param drainThreshold 이 건수 이상이면 밀린 일이 있다고 보고 바로 다시 실행
+   */
+  public static FixedDelayLoop start(String name, Duration interval, IntSupplier task,
+      int drainThreshold) {
+    FixedDelayLoop loop = new FixedDelayLoop(name);
+    long millis = interval.toMillis();
+    loop.executor.scheduleWithFixedDelay(() -> loop.runSafely(task, drainThreshold), millis,
+        millis, TimeUnit.MILLISECONDS);
+    return loop;
+  }
+
+  public static FixedDelayLoop start(String name, Duration interval, Runnable task) {
+    return start(name, interval, () -> {
+      task.run();
+      return 0;
+    }, Integer.MAX_VALUE);
+  }
+
+  @Override
+  public void close() {
+    executor.shutdown();
+  }
+
+  private void runSafely(IntSupplier task, int drainThreshold) {
+    try {
+      int processed;
+      do {
+        processed = task.getAsInt();
+      } while (processed >= drainThreshold && !executor.isShutdown());
+    } catch (Exception e) {
+      log.warn("[{}] 실행 실패: {}", name, e.getMessage(), e);
+    }
+  }
+}
@@ -1,5 +1,7 @@
 package project.masil.global.util.parser;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import java.time.DateTimeException;
 import java.time.DayOfWeek;
 import java.time.Duration;
@@ -10,10 +12,14 @@ import java.time.temporal.TemporalAdjusters;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import org.springframework.stereotype.Component;
 
+/**
+ * 한국어 시간 표현 파서
+ * <p>
+ * 질의를 한 번만 훑어 {@link Tokens}로 분류한 뒤, 각 규칙은 문자열을 다시 스캔하지 않고 토큰만 본다. 결과는 (정규화된 질의, 기준 날짜)
+ * 단위로 캐시한다. ("이번 주말", "오늘 저녁" 같은 표현이 반복되기 때문)
+ */
 @Component
 public class KoreanTimeParser {
 
@@ -27,14 +33,20 @@ public class KoreanTimeParser {
       "새벽", new TimeBand(LocalTime.of(0, 0), LocalTime.of(5, 59, 59)),
       "점심", new TimeBand(LocalTime.of(11, 30), LocalTime.of(13, 30))
   );
-  private static final Map<String, DayOfWeek> DOW = Map.of(
-      "월", DayOfWeek.MONDAY, "화", DayOfWeek.TUESDAY, "수", DayOfWeek.WEDNESDAY,
-      "목", DayOfWeek.THURSDAY, "금", DayOfWeek.FRIDAY, "토", DayOfWeek.SATURDAY, "일", DayOfWeek.SUNDAY
-  );
+  // 시간대가 여러 개 들어있을 때 결과가 JVM마다 달라지지 않도록 탐색 순서를 고정
+  private static final String[] TIME_BAND_ORDER = {"오전", "오후", "저녁", "밤", "새벽", "점심"};
 
-  private static final Pattern DOW_EXPR =
-      Pattern.compile("(다다음|다음|저번|이번)?(월|화|수|목|금|토|일)(?:요일)?");
+  // (다다음|다음|저번|이번) + 요일 의 주차 접두어와 offset (정규식 alternation 순서 그대로)
+  private static final String[] WEEK_PREFIXES = {"다다음", "다음", "저번", "이번"};
+  private static final int[] WEEK_PREFIX_OFFSETS = {2, 1, -1, 0};
 
+  // === 결과 캐시 ===
+  private static final int CACHE_MAX_SIZE = 10_000;
+  // 기본 범위(now~+14일)는 시각까지 now에 의존하므로 캐시에는 표식만 저장
+  private static final TimeSpan DEFAULT_MARKER = new TimeSpan(null, null);
+  private static final Cache<CacheKey, TimeSpan> CACHE = Caffeine.newBuilder()
+      .maximumSize(CACHE_MAX_SIZE)
+      .build();
 
   public record TimeBand(LocalTime start, LocalTime end) {
 
@@ -44,6 +56,41 @@ public class KoreanTimeParser {
 
   }
 
+  // 날짜를 제외한 규칙은 모두 now.toLocalDate()에만 의존 → 날짜 단위 버킷이면 충분
+  private record CacheKey(String query, long epochDay) {
+
+  }
+
+  /**
+   * 정규화된 질의에서 한 번에 뽑아낸 토큰
+   *
+   * @param date         첫 번째 "M/D", "M월D일" 매치 (없으면 null)
+   * @param dateTailRange 날짜 뒤쪽에 범위 연결자(~, -)가 있는지
+   * @param dateTailTimes 날짜 뒤쪽의 시각들
+   * @param range        질의 전체에 범위 연결자가 있는지
+   * @param times        질의 전체의 시각들 (오전/오후 보정 완료)
+   * @param dow          첫 번째 요일 토큰 (없으면 null)
+   * @param dowWeekOffset 요일 앞 접두어(다다음/다음/저번/이번)의 주차 offset
+   * @param weekOffset   다다음주/다음주/지난주 표현의 주차 offset
+   * @param weekWord     이번주/다음주/다다음주/지난주/저번주 포함 여부
+   * @param weekend      "주말" 포함 여부
+   * @param weekday      "평일" 포함 여부
+   * @param relativeDays 오늘(0)/내일(1)/모레(2)/글피(3), 없으면 -1
+   * @param band         시간대(오전/오후/...)
+   */
+  private record Tokens(
+      MonthDay date, boolean dateTailRange, List<LocalTime> dateTailTimes,
+      boolean range, List<LocalTime> times,
+      DayOfWeek dow, int dowWeekOffset,
+      int weekOffset, boolean weekWord, boolean weekend, boolean weekday,
+      int relativeDays, TimeBand band) {
+
+  }
+
+  private record MonthDay(int month, int day, int end) {
+
+  }
+
   // === 공개 엔트리 ===
 
   /**
@@ -54,67 +101,59 @@ public class KoreanTimeParser {
    */
   public static TimeSpan parse(String query, LocalDateTime now) {
     String q = normalize(query);
+    LocalDate today = now.toLocalDate();
+
+    TimeSpan span = CACHE.get(new CacheKey(q, today.toEpochDay()), key -> {
+      TimeSpan resolved = resolve(tokenize(key.query()), today);
+      return resolved != null ? resolved : DEFAULT_MARKER;
+    });
+
+    if (span == DEFAULT_MARKER) {
+      // 실패 → 기본 2주
+      return new TimeSpan(now, endOfDay(now.plus(DEFAULT_RANGE).toLocalDate()));
+    }
+    return span;
+  }
 
+  // === 규칙 적용 (우선순위 순) ===
+  private static TimeSpan resolve(Tokens t, LocalDate today) {
     // 1) 절대 날짜/시간
-    TimeSpan abs = tryAbsoluteRange(q, now);
+    TimeSpan abs = tryAbsoluteRange(t, today);
     if (abs != null) {
       return abs;
     }
 
     // 2) (이번/다음/다다음/저번) + 요일 (+ 시간대)  ← ★ 우선순위 상향
-    TimeSpan dow = tryDayOfWeek(q, now);
+    TimeSpan dow = tryDayOfWeek(t, today);
     if (dow != null) {
       return dow;
     }
 
     // 3) 주/주말/평일 표현  ← ★ 요일 다음으로
-    TimeSpan weekish = tryWeekish(q, now);
+    TimeSpan weekish = tryWeekish(t, today);
     if (weekish != null) {
       return weekish;
     }
 
     // 4) 상대일자 (오늘/내일/모레/글피)
-    TimeSpan rel = tryRelativeDays(q, now);
+    TimeSpan rel = tryRelativeDays(t, today);
     if (rel != null) {
       return rel;
     }
 
     // 5) 시간대 단독 (오늘 해당 밴드)
-    TimeSpan bandOnly = tryBandOnly(q, now);
-    if (bandOnly != null) {
-      return bandOnly;
-    }
-
-    // 6) 실패 → 기본 2주
-    return new TimeSpan(now, endOfDay(now.plus(DEFAULT_RANGE).toLocalDate()));
+    return tryBandOnly(t, today);
   }
 
   // === 1) 절대 날짜/시간 ===
-  private static final Pattern DATE_YMD = Pattern.compile(
-      "(20\\d{2})[-./년\\s]?(\\d{1,2})[-./월\\s]?(\\d{1,2})[일]?");
-  private static final Pattern DATE_MD = Pattern.compile("(\\d{1,2})[./월\\s]?(\\d{1,2})[일]?");
-  private static final Pattern TIME_HM = Pattern.compile(
-      "(오전|오후)?\\s?(\\d{1,2})[:시]\\s?(\\d{0,2})"); // 3시, 14:30, 오후3시
-  private static final Pattern RANGE_CONNECTOR = Pattern.compile("[~∼~-]");
-
-  private static TimeSpan tryAbsoluteRange(String q, LocalDateTime now) {
-    // 1) "M/D HH:mm~HH:mm" 또는 "M월D일 HH:mm~HH:mm"
-    Matcher md = DATE_MD.matcher(q);
-    if (md.find()) {
-      int month = Integer.parseInt(md.group(1));
-      int day = Integer.parseInt(md.group(2));
-      int year = now.getYear(); // 연도 생략 시 올해
-      LocalDate base = safeDate(year, month, day);
-
-      String after = q.substring(md.end());
-      List<LocalTime> times = extractTimes(after);
-      if (RANGE_CONNECTOR.matcher(after).find() && times.size() >= 2) {
-        LocalDateTime s = LocalDateTime.of(base, times.get(0));
-        LocalDateTime e = LocalDateTime.of(base, times.get(1));
-        if (e.isBefore(s)) {
-          e = e.plusDays(1);
-        }
-        return new TimeSpan(s, e);
+  private static TimeSpan tryAbsoluteRange(Tokens t, LocalDate today) {
+    // 1) "M/D HH:mm~HH:mm" 또는 "M월D일 HH:mm~HH:mm" (연도 생략 시 올해)
+    //    "YYYY-MM-DD"도 앞의 "YY" + "YY"가 먼저 M/D로 잡히므로 별도 분기가 없다
+    if (t.date() != null) {
+      LocalDate base = safeDate(today.getYear(), t.date().month(), t.date().day());
+      List<LocalTime> times = t.dateTailTimes();
+      if (t.dateTailRange() && times.size() >= 2) {
+        return spanOf(base, times.get(0), times.get(1));
       } else if (times.size() == 1) {
         LocalDateTime s = LocalDateTime.of(base, times.get(0));
         return new TimeSpan(s, s.plusHours(2));
@@ -123,110 +162,48 @@ public class KoreanTimeParser {
       }
     }
 
-    // 2) "YYYY-MM-DD ..." 형태
-    Matcher ymd = DATE_YMD.matcher(q);
-    if (ymd.find()) {
-      int y = Integer.parseInt(ymd.group(1));
-      int m = Integer.parseInt(ymd.group(2));
-      int d = Integer.parseInt(ymd.group(3));
-      LocalDate base = safeDate(y, m, d);
-
-      String tail = q.substring(ymd.end());
-      List<LocalTime> times = extractTimes(tail);
-      if (RANGE_CONNECTOR.matcher(tail).find() && times.size() >= 2) {
-        LocalDateTime s = LocalDateTime.of(base, times.get(0));
-        LocalDateTime e = LocalDateTime.of(base, times.get(1));
-        if (e.isBefore(s)) {
-          e = e.plusDays(1);
-        }
-        return new TimeSpan(s, e);
-      } else if (times.size() == 1) {
-        LocalDateTime s = LocalDateTime.of(base, times.get(0));
-        return new TimeSpan(s, s.plusHours(2));
-      } else {
-        return new TimeSpan(startOfDay(base), endOfDay(base));
-      }
-    }
-
-    // 3) "HH:mm~HH:mm" (오늘로 간주)
-    if (RANGE_CONNECTOR.matcher(q).find() && countMatches(TIME_HM, q) >= 2) {
-      List<LocalTime> t = extractTimes(q);
-      if (t.size() >= 2) {
-        LocalDateTime s = LocalDateTime.of(now.toLocalDate(), t.get(0));
-        LocalDateTime e = LocalDateTime.of(now.toLocalDate(), t.get(1));
-        if (e.isBefore(s)) {
-          e = e.plusDays(1);
-        }
-        return new TimeSpan(s, e);
-      }
+    // 2) "HH:mm~HH:mm" (오늘로 간주)
+    if (t.range() && t.times().size() >= 2) {
+      return spanOf(today, t.times().get(0), t.times().get(1));
     }
 
-    // 4) 단일 시각만 있을 때 → 오늘 그 시각부터 2시간 윈도우
-    if (countMatches(TIME_HM, q) == 1) {
-      LocalTime t = extractTimes(q).get(0);
-      LocalDateTime s = LocalDateTime.of(now.toLocalDate(), t);
+    // 3) 단일 시각만 있을 때 → 오늘 그 시각부터 2시간 윈도우
+    if (t.times().size() == 1) {
+      LocalDateTime s = LocalDateTime.of(today, t.times().get(0));
       return new TimeSpan(s, s.plusHours(2));
     }
     return null;
   }
 
   // === 2) 주/주말/평일 ===
-  private static TimeSpan tryWeekish(String q, LocalDateTime now) {
+  private static TimeSpan tryWeekish(Tokens t, LocalDate base) {
     // ★ 요일 토큰이 함께 있으면 '주' 해석을 건너뛴다 (중복/충돌 방지)
-    if (containsDow(q)) {
+    if (t.dow() != null) {
       return null;
     }
 
-    LocalDate base = now.toLocalDate();
-
-    // 0) 주차 offset 계산 (다다음/다음/이번/지난)
-    int offset = 0;
-    if (q.contains("다다음주")) {
-      offset = 2;
-    } else if (q.contains("다음주")) {
-      offset = 1;
-    } else if (q.contains("지난주") || q.contains("저번주")) {
-      offset = -1;
-    }
-    // "이번주"는 offset=0
-
-    TimeBand band = findTimeBand(q); // "오전/오후/저녁/밤/점심/새벽" 있으면
+    int offset = t.weekOffset(); // "이번주"는 offset=0
+    TimeBand band = t.band();    // "오전/오후/저녁/밤/점심/새벽" 있으면
 
     // A) 주말 처리 (토~일)
-    if (q.contains("주말")) {
+    if (t.weekend()) {
       LocalDate mon = mondayOf(base).plusWeeks(offset);
       LocalDate sat = mon.with(TemporalAdjusters.nextOrSame(DayOfWeek.SATURDAY));
       LocalDate sun = mon.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
-      if (band != null) {
-        return new TimeSpan(LocalDateTime.of(sat, band.start()),
-            LocalDateTime.of(sun, band.end()));
-      } else {
-        return new TimeSpan(startOfDay(sat), endOfDay(sun));
-      }
+      return spanOf(sat, sun, band);
     }
 
     // B) 평일 처리 (월~금)
-    if (q.contains("평일")) {
+    if (t.weekday()) {
       LocalDate mon = mondayOf(base).plusWeeks(offset);
-      LocalDate fri = mon.plusDays(4);
-      if (band != null) {
-        return new TimeSpan(LocalDateTime.of(mon, band.start()),
-            LocalDateTime.of(fri, band.end()));
-      } else {
-        return new TimeSpan(startOfDay(mon), endOfDay(fri));
-      }
+      return spanOf(mon, mon.plusDays(4), band);
     }
 
-    // C) '주' 자체
-    if (q.contains("이번주") || q.contains("다음주") || q.contains("다다음주")
-        || q.contains("지난주") || q.contains("저번주")) {
-      var range = weekRange(base, offset); // (월, 일)
-      if (band != null) {
-        return new TimeSpan(LocalDateTime.of(range.left, band.start()),
-            LocalDateTime.of(range.right, band.end()));
-      } else {
-        return new TimeSpan(startOfDay(range.left), endOfDay(range.right));
-      }
+    // C) '주' 자체 (월~일)
+    if (t.weekWord()) {
+      LocalDate mon = mondayOf(base).plusWeeks(offset);
+      LocalDate sun = mon.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
+      return spanOf(mon, sun, band);
     }
 
     // D) 해당 없음
@@ -234,145 +211,258 @@ public class KoreanTimeParser {
   }
 
   // === 3) (다음/다다음/저번/이번) + 요일 (+ 시간대) ===
-  private static TimeSpan tryDayOfWeek(String q, LocalDateTime now) {
-    Matcher m = DOW_EXPR.matcher(q);
-    if (!m.find()) {
+  private static TimeSpan tryDayOfWeek(Tokens t, LocalDate today) {
+    if (t.dow() == null) {
       return null;
     }
+    LocalDate baseMon = mondayOf(today).plusWeeks(t.dowWeekOffset());
+    // 그 주의 '해당 요일'로 안전하게 이동
+    LocalDate day = baseMon.with(TemporalAdjusters.nextOrSame(t.dow()));
+    return spanOf(day, day, t.band());
+  }
 
-    String rel = m.group(1);  // 다다음 | 다음 | 저번 | 이번 | null
-    String dowKr = m.group(2); // 월 ~ 일
+  // === 4) 오늘/내일/모레/글피 등 ===
+  private static TimeSpan tryRelativeDays(Tokens t, LocalDate today) {
+    if (t.relativeDays() < 0) {
+      return null;
+    }
+    LocalDate d = today.plusDays(t.relativeDays());
+    return new TimeSpan(startOfDay(d), endOfDay(d));
+  }
+
+  // === 5) 시간대 단독 ===
+  private static TimeSpan tryBandOnly(Tokens t, LocalDate today) {
+    if (t.band() == null) {
+      return null;
+    }
+    return spanOf(today, today, t.band());
+  }
+
+  // === 토큰화 ===
 
+  /**
+   * 정규화된 질의를 한 번 훑어 규칙들이 볼 토큰을 만든다. 날짜/시각/요일 스캐너는 기존 정규식
+   * (DATE_MD, TIME_HM, DOW_EXPR)의 첫 매치 규칙을 그대로 따른다.
+   */
+  private static Tokens tokenize(String q) {
+    MonthDay date = scanMonthDay(q);
+    boolean dateTailRange = date != null && hasRangeConnector(q, date.end());
+    List<LocalTime> dateTailTimes = date != null ? scanTimes(q, date.end()) : List.of();
+
+    // 날짜가 잡히면 질의 전체 시각은 볼 일이 없다
+    boolean range = date == null && hasRangeConnector(q, 0);
+    List<LocalTime> times = date == null ? scanTimes(q, 0) : List.of();
+
+    // 요일: 접두어+요일 또는 요일 단독의 첫 매치
+    DayOfWeek dow = null;
+    int dowWeekOffset = 0;
+    for (int i = 0; i < q.length() && dow == null; i++) {
+      for (int k = 0; k < WEEK_PREFIXES.length; k++) {
+        String prefix = WEEK_PREFIXES[k];
+        int next = i + prefix.length();
+        if (q.startsWith(prefix, i) && next < q.length() && dayOfWeekOf(q.charAt(next)) != null) {
+          dow = dayOfWeekOf(q.charAt(next));
+          dowWeekOffset = WEEK_PREFIX_OFFSETS[k];
+          break;
+        }
+      }
+      if (dow == null) {
+        dow = dayOfWeekOf(q.charAt(i));
+      }
+    }
+
+    // 주차 offset 계산 (다다음/다음/이번/지난)
     int weekOffset = 0;
-    if ("다다음".equals(rel)) {
+    if (q.contains("다다음주")) {
       weekOffset = 2;
-    } else if ("다음".equals(rel)) {
+    } else if (q.contains("다음주")) {
       weekOffset = 1;
-    } else if ("저번".equals(rel)) {
+    } else if (q.contains("지난주") || q.contains("저번주")) {
       weekOffset = -1;
     }
+    boolean weekWord = q.contains("이번주") || q.contains("다음주") || q.contains("지난주")
+        || q.contains("저번주");
 
-    DayOfWeek dow = DOW.get(dowKr);
-
-    LocalDate baseMon = mondayOf(now.toLocalDate()).plusWeeks(weekOffset);
-    // 그 주의 '해당 요일'로 안전하게 이동
-    LocalDate day = baseMon.with(TemporalAdjusters.nextOrSame(dow));
+    int relativeDays = -1;
+    if (q.contains("오늘")) {
+      relativeDays = 0;
+    } else if (q.contains("내일")) {
+      relativeDays = 1;
+    } else if (q.contains("모레")) {
+      relativeDays = 2;
+    } else if (q.contains("글피")) {
+      relativeDays = 3;
+    }
 
-    TimeBand band = findTimeBand(q);
-    if (band != null) {
-      return new TimeSpan(LocalDateTime.of(day, band.start()),
-          LocalDateTime.of(day, band.end()));
-    } else {
-      return new TimeSpan(startOfDay(day), endOfDay(day));
+    TimeBand band = null;
+    for (String key : TIME_BAND_ORDER) {
+      if (q.contains(key)) {
+        band = TIME_BANDS.get(key);
+        break;
+      }
     }
+
+    return new Tokens(date, dateTailRange, dateTailTimes, range, times, dow, dowWeekOffset,
+        weekOffset, weekWord, q.contains("주말"), q.contains("평일"), relativeDays, band);
   }
 
-  // === 4) 오늘/내일/모레/글피 등 ===
-  private static TimeSpan tryRelativeDays(String q, LocalDateTime now) {
-    if (q.contains("오늘")) {
-      return new TimeSpan(startOfDay(now.toLocalDate()), endOfDay(now.toLocalDate()));
-    }
-    if (q.contains("내일")) {
-      LocalDate d = now.toLocalDate().plusDays(1);
-      return new TimeSpan(startOfDay(d), endOfDay(d));
-    }
-    if (q.contains("모레")) {
-      LocalDate d = now.toLocalDate().plusDays(2);
-      return new TimeSpan(startOfDay(d), endOfDay(d));
-    }
-    if (q.contains("글피")) {
-      LocalDate d = now.toLocalDate().plusDays(3);
-      return new TimeSpan(startOfDay(d), endOfDay(d));
+  // (\d{1,2})[./월\s]?(\d{1,2})[일]? 의 첫 매치 (탐욕적 매칭 → 백트래킹 순서 동일)
+  private static MonthDay scanMonthDay(String q) {
+    int n = q.length();
+    for (int i = 0; i < n; i++) {
+      if (!isDigit(q.charAt(i))) {
+        continue;
+      }
+      int maxFirst = (i + 1 < n && isDigit(q.charAt(i + 1))) ? 2 : 1;
+      for (int first = maxFirst; first >= 1; first--) {
+        int sepAt = i + first;
+        boolean hasSep = sepAt < n && isDateSeparator(q.charAt(sepAt));
+        int second = hasSep ? sepAt + 1 : sepAt;
+        if (second < n && isDigit(q.charAt(second))) {
+          int secondLen = (second + 1 < n && isDigit(q.charAt(second + 1))) ? 2 : 1;
+          int end = second + secondLen;
+          if (end < n && q.charAt(end) == '일') {
+            end++;
+          }
+          return new MonthDay(digits(q, i, i + first), digits(q, second, second + secondLen), end);
+        }
+      }
     }
     return null;
   }
 
-  // === 5) 시간대 단독 ===
-  private static TimeSpan tryBandOnly(String q, LocalDateTime now) {
-    TimeBand band = findTimeBand(q);
-    if (band == null) {
-      return null;
-    }
-    LocalDate d = now.toLocalDate();
-    return new TimeSpan(LocalDateTime.of(d, band.start()),
-        LocalDateTime.of(d, band.end()));
-  }
+  // (오전|오후)?(\d{1,2})[:시](\d{0,2}) 의 모든 매치 → 24시간제 시각
+  private static List<LocalTime> scanTimes(String q, int from) {
+    List<LocalTime> out = new ArrayList<>(2);
+    int n = q.length();
+    int i = from;
+    while (i < n) {
+      String ampm = q.startsWith("오전", i) ? "오전" : q.startsWith("오후", i) ? "오후" : null;
+      int p = ampm != null ? i + 2 : i;
+
+      int hourEnd = -1;
+      if (p < n && isDigit(q.charAt(p))) {
+        if (p + 2 < n && isDigit(q.charAt(p + 1)) && isTimeSeparator(q.charAt(p + 2))) {
+          hourEnd = p + 2;
+        } else if (p + 1 < n && isTimeSeparator(q.charAt(p + 1))) {
+          hourEnd = p + 1;
+        }
+      }
+      if (hourEnd < 0) {
+        i++;
+        continue;
+      }
 
-  // === 유틸 ===
-  private static String normalize(String s) {
-    return s.replaceAll("\\s+", "");
-  }
+      int minuteStart = hourEnd + 1;
+      int minuteEnd = minuteStart;
+      while (minuteEnd < n && minuteEnd - minuteStart < 2 && isDigit(q.charAt(minuteEnd))) {
+        minuteEnd++;
+      }
 
-  private static int countMatches(Pattern p, String s) {
-    int c = 0;
-    Matcher m = p.matcher(s);
-    while (m.find()) {
-      c++;
+      int h = digits(q, p, hourEnd);
+      int m = minuteEnd > minuteStart ? digits(q, minuteStart, minuteEnd) : 0;
+      if ("오후".equals(ampm) && h < 12) {
+        h += 12;
+      }
+      if ("오전".equals(ampm) && h == 12) {
+        h = 0; // 오전 12시 = 00시
+      }
+      out.add(LocalTime.of(Math.min(h, 23), Math.min(m, 59)));
+      i = minuteEnd;
     }
-    return c;
+    return out;
   }
 
-  private static List<LocalTime> extractTimes(String s) {
-    List<LocalTime> out = new ArrayList<>();
-    Matcher m = TIME_HM.matcher(s);
-    while (m.find()) {
-      String ampm = m.group(1); // 오전/오후 (nullable)
-      String hh = m.group(2);
-      String mm = m.group(3);
-      int H = Integer.parseInt(hh);
-      int M = (mm == null || mm.isEmpty()) ? 0 : Integer.parseInt(mm);
-      if ("오후".equals(ampm) && H < 12) {
-        H += 12;
+  // [~∼-]
+  private static boolean hasRangeConnector(String q, int from) {
+    for (int i = from; i < q.length(); i++) {
+      char c = q.charAt(i);
+      if (c == '~' || c == '∼' || c == '-') {
+        return true;
       }
-      if ("오전".equals(ampm) && H == 12) {
-        H = 0; // 오전 12시 = 00시
+    }
+    return false;
+  }
+
+  // === 유틸 ===
+
+  // \s(공백/탭/개행/\x0B/\f) 제거
+  private static String normalize(String s) {
+    StringBuilder sb = null;
+    for (int i = 0; i < s.length(); i++) {
+      char c = s.charAt(i);
+      boolean space = c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f'
+          || c == '\r';
+      if (space && sb == null) {
+        sb = new StringBuilder(s.length()).append(s, 0, i);
+      } else if (!space && sb != null) {
+        sb.append(c);
       }
-      out.add(LocalTime.of(Math.min(H, 23), Math.min(M, 59)));
     }
-    return out;
+    return sb != null ? sb.toString() : s;
   }
 
-  private static LocalDateTime startOfDay(LocalDate d) {
-    return d.atStartOfDay();
+  private static boolean isDigit(char c) {
+    return c >= '0' && c <= '9';
   }
 
-  private static LocalDateTime endOfDay(LocalDate d) {
-    return d.atTime(23, 59, 59);
+  private static boolean isDateSeparator(char c) {
+    return c == '.' || c == '/' || c == '월';
   }
 
-  private static Pair<LocalDate, LocalDate> weekRange(LocalDate base, int offsetWeeks) {
-    LocalDate mon = mondayOf(base).plusWeeks(offsetWeeks);
-    LocalDate sun = mon.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
-    return Pair.of(mon, sun);
+  private static boolean isTimeSeparator(char c) {
+    return c == ':' || c == '시';
   }
 
-  private static Pair<LocalDate, LocalDate> weekendRange(LocalDate base, int offsetWeeks) {
-    LocalDate mon = mondayOf(base).plusWeeks(offsetWeeks);
-    LocalDate sat = mon.with(TemporalAdjusters.nextOrSame(DayOfWeek.SATURDAY));
-    LocalDate sun = mon.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
-    return Pair.of(sat, sun);
+  private static int digits(String s, int from, int to) {
+    int v = 0;
+    for (int i = from; i < to; i++) {
+      v = v * 10 + (s.charAt(i) - '0');
+    }
+    return v;
   }
 
-  private static LocalDate mondayOf(LocalDate d) {
-    return d.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+  private static DayOfWeek dayOfWeekOf(char c) {
+    return switch (c) {
+      case '월' -> DayOfWeek.MONDAY;
+      case '화' -> DayOfWeek.TUESDAY;
+      case '수' -> DayOfWeek.WEDNESDAY;
+      case '목' -> DayOfWeek.THURSDAY;
+      case '금' -> DayOfWeek.FRIDAY;
+      case '토' -> DayOfWeek.SATURDAY;
+      case '일' -> DayOfWeek.SUNDAY;
+      default -> null;
+    };
   }
 
-  private static TimeSpan toSpan(Pair<LocalDate, LocalDate> r) {
-    return new TimeSpan(startOfDay(r.left), endOfDay(r.right));
+  // 시작 시각 > 종료 시각이면 종료를 다음날로 넘긴다
+  private static TimeSpan spanOf(LocalDate base, LocalTime from, LocalTime to) {
+    LocalDateTime s = LocalDateTime.of(base, from);
+    LocalDateTime e = LocalDateTime.of(base, to);
+    if (e.isBefore(s)) {
+      e = e.plusDays(1);
+    }
+    return new TimeSpan(s, e);
   }
 
-  private static TimeBand findTimeBand(String q) {
-    for (var e : TIME_BANDS.entrySet()) {
-      if (q.contains(e.getKey())) {
-        return e.getValue();
-      }
+  // [from, to] 날짜 범위 — 시간대가 있으면 그 밴드로, 없으면 하루 전체
+  private static TimeSpan spanOf(LocalDate from, LocalDate to, TimeBand band) {
+    if (band != null) {
+      return new TimeSpan(LocalDateTime.of(from, band.start()), LocalDateTime.of(to, band.end()));
     }
-    return null;
+    return new TimeSpan(startOfDay(from), endOfDay(to));
   }
 
-  // ★ 요일 포함 여부 체크
-  private static boolean containsDow(String q) {
-    return DOW_EXPR.matcher(q).find();
+  private static LocalDateTime startOfDay(LocalDate d) {
+    return d.atStartOfDay();
+  }
+
+  private static LocalDateTime endOfDay(LocalDate d) {
+    return d.atTime(23, 59, 59);
+  }
+
+  private static LocalDate mondayOf(LocalDate d) {
+    return d.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
   }
 
   private static LocalDate safeDate(int y, int m, int d) {
@@ -382,20 +472,4 @@ public class KoreanTimeParser {
       return LocalDate.of(y, Math.min(Math.max(m, 1), 12), 1).withDayOfMonth(1);
     }
   }
-
-  // 간단한 Pair
-  private static class Pair<L, R> {
-
-    final L left;
-    final R right;
-
-    private Pair(L l, R r) {
-      left = l;
-      right = r;
-    }
-
-    public static <L, R> Pair<L, R> of(L l, R r) {
-      return new Pair<>(l, r);
-    }
-  }
 }
@@ -0,0 +1,25 @@
+package project.masil.infrastructure.client;
+
+import io.swagger.v3.oas.annotations.Operation;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import project.masil.global.response.BaseResponse;
+import project.masil.infrastructure.client.dto.OutboundPoolResponse;
+
+@RestController
+@RequestMapping("/api/admin/outbound")
+@RequiredArgsConstructor
+public class OutboundAdminController {
+
+  private final OutboundPoolMetrics outboundPoolMetrics;
+
+  @GetMapping("/pools")
+  @Operation(summary = "외부 연동 커넥션 풀 상태", description = "다운스트림별 커넥션 풀의 사용/유휴/대기 수를 조회합니다.")
+  public ResponseEntity<BaseResponse<List<OutboundPoolResponse>>> getPools() {
+    return ResponseEntity.ok(BaseResponse.success(outboundPoolMetrics.snapshot()));
+  }
+}
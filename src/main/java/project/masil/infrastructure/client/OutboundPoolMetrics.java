@@ -0,0 +1,53 @@
+package project.masil.infrastructure.client;
+
+import java.net.SocketAddress;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import project.masil.infrastructure.client.dto.OutboundPoolResponse;
+import reactor.netty.resources.ConnectionPoolMetrics;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * 다운스트림별 커넥션 풀 지표 수집 (Micrometer 없이 Reactor Netty 풀 지표를 직접 보관)
+ */
+public class OutboundPoolMetrics implements ConnectionProvider.MeterRegistrar {
+
+  private final Map<String, Entry> pools = new ConcurrentHashMap<>();
+
+  @Override
+  public void registerMetrics(String poolName, String id, SocketAddress remoteAddress,
+      ConnectionPoolMetrics metrics) {
+    pools.put(key(poolName, id), new Entry(poolName, String.valueOf(remoteAddress), metrics));
+  }
+
+  @Override
+  public void deRegisterMetrics(String poolName, String id, SocketAddress remoteAddress) {
+    pools.remove(key(poolName, id));
+  }
+
+  public List<OutboundPoolResponse> snapshot() {
+    return pools.values().stream()
+        .map(e -> new OutboundPoolResponse(
+            e.poolName(),
+            e.remote(),
+            e.metrics().acquiredSize(),
+            e.metrics().idleSize(),
+            e.metrics().pendingAcquireSize(),
+            e.metrics().allocatedSize(),
+            e.metrics().maxAllocatedSize(),
+            e.metrics().maxPendingAcquireSize()))
+        .sorted(Comparator.comparing(OutboundPoolResponse::pool)
+            .thenComparing(OutboundPoolResponse::remote))
+        .toList();
+  }
+
+  private static String key(String poolName, String id) {
+    return poolName + "#" + id;
+  }
+
+  private record Entry(String poolName, String remote, ConnectionPoolMetrics metrics) {
+
+  }
+}
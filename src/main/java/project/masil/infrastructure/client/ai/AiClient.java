@@ -5,27 +5,27 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import project.masil.infrastructure.client.ai.dto.AiSummarizeRequest;
 import project.masil.infrastructure.client.ai.dto.AiSummarizeResponse;
+import reactor.core.publisher.Mono;
 
 @Component
 public class AiClient {
 
   private final WebClient client;
 
-  public AiClient(@Qualifier("aiWebClient") WebClient client) {
+  public AiClient(@Qualifier("aiBatchWebClient") WebClient client) {
     this.client = client;
   }
 
-  public AiSummarizeResponse summarize(AiSummarizeRequest request) {
+  public Mono<AiSummarizeResponse> summarize(AiSummarizeRequest request) {
     return client.post()
         .uri("/api/summarize")
         .bodyValue(request)
         .retrieve()
         .onStatus(org.springframework.http.HttpStatusCode::isError, this::toApiException)
-        .bodyToMono(AiSummarizeResponse.class)
-        .block();
+        .bodyToMono(AiSummarizeResponse.class);
   }
 
-  private reactor.core.publisher.Mono<Throwable> toApiException(
+  private Mono<Throwable> toApiException(
       org.springframework.web.reactive.function.client.ClientResponse resp) {
     return resp.bodyToMono(String.class)
         .defaultIfEmpty("")
@@ -9,6 +9,7 @@ import org.springframework.web.reactive.function.client.WebClient;
 import project.masil.infrastructure.client.ai.dto.CommonResponse;
 import project.masil.infrastructure.client.ai.dto.FaissSearchRequest;
 import project.masil.infrastructure.client.ai.dto.FaissSearchResponse;
+import reactor.core.publisher.Mono;
 
 @Service
 public class AiRerankService {
@@ -21,9 +22,10 @@ public class AiRerankService {
     this.ai = ai;
   }
 
-  public List<Long> searchByAI(List<Long> candidateIds, List<Float> queryEmbedding, int topK) {
+  public Mono<List<Long>> searchByAI(List<Long> candidateIds, List<Float> queryEmbedding,
+      int topK) {
     if (candidateIds == null || candidateIds.isEmpty()) {
-      return List.of();
+      return Mono.just(List.of());
     }
 
     FaissSearchRequest req = new FaissSearchRequest(queryEmbedding, candidateIds, topK, true);
@@ -32,28 +34,19 @@ public class AiRerankService {
         new ParameterizedTypeReference<>() {
         };
 
-    CommonResponse<FaissSearchResponse> res = ai.post()
+    return ai.post()
         .uri("/api/faiss/search")   // 서버에서 candidateIds를 받아 서브셋 내에서만 검색
         .bodyValue(req)
         .retrieve()
         .bodyToMono(typeRef)
-        .block();
-
-    if (res == null) {
-      throw new IllegalStateException("AI search null response");
-    }
-    if (!"success".equalsIgnoreCase(res.getStatus()) || res.getData() == null) {
-      throw new IllegalStateException("AI search failed: " + res.getMessage());
-    }
-
-    return res.getData().getResults().stream()
-        .map(FaissSearchResponse.Result::getPostId)
-        .toList();
+        .switchIfEmpty(Mono.error(() -> new IllegalStateException("AI search null response")))
+        .map(AiRerankService::toPostIds);
   }
 
-  public List<Long> recommendByAI(List<Long> candidateIds, List<Float> queryEmbedding, int topK) {
+  public Mono<List<Long>> recommendByAI(List<Long> candidateIds, List<Float> queryEmbedding,
+      int topK) {
     if (candidateIds == null || candidateIds.isEmpty()) {
-      return List.of();
+      return Mono.just(List.of());
     }
 
     FaissSearchRequest req = new FaissSearchRequest(queryEmbedding, candidateIds, topK, true);
@@ -62,22 +55,21 @@ public class AiRerankService {
         new ParameterizedTypeReference<>() {
         };
 
-    CommonResponse<FaissSearchResponse> res = ai.post()
+    return ai.post()
         .uri("/api/faiss/ai-recommend")   // 서버에서 candidateIds를 받아 서브셋 내에서만 검색
         .bodyValue(req)
         .retrieve()
         .bodyToMono(typeRef)
-        .block();
+        .switchIfEmpty(Mono.error(() -> new IllegalStateException("AI search null response")))
+        .map(AiRerankService::toPostIds);
+  }
 
-    if (res == null) {
-      throw new IllegalStateException("AI search null response");
-    }
+  private static List<Long> toPostIds(CommonResponse<FaissSearchResponse> res) {
     if (!"success".equalsIgnoreCase(res.getStatus()) || res.getData() == null) {
       throw new IllegalStateException("AI search failed: " + res.getMessage());
     }
-
     return res.getData().getResults().stream()
         .map(FaissSearchResponse.Result::getPostId)
         .toList();
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,25 @@
+package project.masil.infrastructure.client.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(title = "OutboundPoolResponse DTO", description = "외부 연동 커넥션 풀 상태")
+public record OutboundPoolResponse(
+    @Schema(description = "풀 이름(다운스트림)", example = "ai")
+    String pool,
+    @Schema(description = "원격 주소")
+    String remote,
+    @Schema(description = "사용 중 커넥션 수")
+    int active,
+    @Schema(description = "유휴 커넥션 수")
+    int idle,
+    @Schema(description = "커넥션 대기 중인 요청 수")
+    int pending,
+    @Schema(description = "할당된 커넥션 수")
+    int allocated,
+    @Schema(description = "최대 커넥션 수")
+    int maxConnections,
+    @Schema(description = "최대 대기 요청 수")
+    int maxPending
+) {
+
+}
@@ -8,6 +8,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import project.masil.infrastructure.client.opendata.dto.BusinessInfoPayload;
 import project.masil.infrastructure.client.opendata.dto.OwnerVerifyApiResponse;
+import reactor.core.publisher.Mono;
 
 // OpenDataClient.java
 @Component
@@ -19,7 +20,7 @@ public class OpenDataClient {
     this.client = client;
   }
 
-  public OwnerVerifyApiResponse verifyBusiness(BusinessInfoPayload payload) {
+  public Mono<OwnerVerifyApiResponse> verifyBusiness(BusinessInfoPayload payload) {
     Map<String, Object> requestBody = Map.of("businesses", List.of(payload));
 
     return client.post()
@@ -29,7 +30,6 @@ public class OpenDataClient {
             .build())
         .bodyValue(requestBody)
         .retrieve()
-        .bodyToMono(OwnerVerifyApiResponse.class)
-        .block();
+        .bodyToMono(OwnerVerifyApiResponse.class);
   }
 }
@@ -0,0 +1,66 @@
+package project.masil.infrastructure.client.resilience;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import reactor.core.publisher.Mono;
+
+/**
+ * 외부 연동(다운스트림)별 동시 호출 수 제한.
+ * <p>
+ * 허용량을 넘는 호출은 기다리지 않고 즉시 {@link BulkheadFullException} 으로 실패한다. 한 연동이 느려져도 그 연동을 기다리는 요청 수만
+ * 제한되고, 나머지 API 는 영향을 받지 않는다.
+ */
+@Slf4j
+public class Bulkhead {
+
+  @Getter
+  private final String name;
+  @Getter
+  private final int maxConcurrentCalls;
+  private final Semaphore permits;
+
+  public Bulkhead(String name, int maxConcurrentCalls) {
+    this.name = name;
+    this.maxConcurrentCalls = maxConcurrentCalls;
+    this.permits = new Semaphore(maxConcurrentCalls);
+  }
+
+  public int getAvailablePermits() {
+    return permits.availablePermits();
+  }
+
+  /**
+   * 구독 시점에 허가를 얻고, 완료/에러/취소 시 반납한다.
+   */
+  public <T> Mono<T> call(Supplier<Mono<T>> source) {
+    return Mono.defer(() -> {
+      if (!permits.tryAcquire()) {
+        log.warn("[Bulkhead] {} 동시 호출 한도({}) 초과로 거절", name, maxConcurrentCalls);
+        return Mono.error(new BulkheadFullException(name));
+      }
+      AtomicBoolean released = new AtomicBoolean();
+      Runnable release = () -> {
+        if (released.compareAndSet(false, true)) {
+          permits.release();
+        }
+      };
+      try {
+        return source.get().doFinally(signal -> release.run());
+      } catch (RuntimeException e) {
+        release.run();
+        return Mono.error(e);
+      }
+    });
+  }
+
+  /**
+   * WebClient 필터로 등록. 허가는 응답 헤더를 받을 때까지 유지된다.
+   */
+  public ExchangeFilterFunction asFilter() {
+    return (request, next) -> call(() -> next.exchange(request));
+  }
+}
@@ -0,0 +1,16 @@
+package project.masil.infrastructure.client.resilience;
+
+import lombok.Getter;
+import project.masil.global.exception.CustomException;
+import project.masil.global.exception.GlobalErrorCode;
+
+@Getter
+public class BulkheadFullException extends CustomException {
+
+  private final String downstream;
+
+  public BulkheadFullException(String downstream) {
+    super(GlobalErrorCode.EXTERNAL_SERVICE_BUSY);
+    this.downstream = downstream;
+  }
+}
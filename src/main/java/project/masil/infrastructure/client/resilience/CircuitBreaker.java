@@ -0,0 +1,146 @@
+package project.masil.infrastructure.client.resilience;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 호출 결과 기반 서킷 브레이커 (최근 windowSize 건 기준).
+ * <p>
+ * - CLOSED : 실패율이 임계치를 넘으면 OPEN
+ * - OPEN : openDuration 동안 호출을 즉시 거절, 이후 HALF_OPEN
+ * - HALF_OPEN : halfOpenCalls 건만 시험 호출. 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN
+ */
+@Slf4j
+public class CircuitBreaker {
+
+  public enum State {
+    CLOSED, OPEN, HALF_OPEN
+  }
+
+  @Getter
+  private final String name;
+  private final int minimumCalls;
+  private final int failureRateThreshold;
+  private final long openDurationNanos;
+  private final int halfOpenCalls;
+  private final LongSupplier nanoClock;
+
+  private final boolean[] window;
+  private int next;
+  private int recorded;
+  private int failures;
+
+  private State state = State.CLOSED;
+  private long openedAt;
+  private int halfOpenInFlight;
+  private int halfOpenSuccesses;
+
+  public CircuitBreaker(String name, int windowSize, int minimumCalls, int failureRateThreshold,
+      Duration openDuration, int halfOpenCalls) {
+    this(name, windowSize, minimumCalls, failureRateThreshold, openDuration, halfOpenCalls,
+        System::nanoTime);
+  }
+
+  // 테스트에서 시간 주입용
+  CircuitBreaker(String name, int windowSize, int minimumCalls, int failureRateThreshold,
+      Duration openDuration, int halfOpenCalls, LongSupplier nanoClock) {
+    this.name = name;
+    this.window = new boolean[windowSize];
+    this.minimumCalls = minimumCalls;
+    this.failureRateThreshold = failureRateThreshold;
+    this.openDurationNanos = openDuration.toNanos();
+    this.halfOpenCalls = halfOpenCalls;
+    this.nanoClock = nanoClock;
+  }
+
+  /**
+   * 호출 허가. false 면 호출하지 않고 바로 실패 처리해야 한다.
+   */
+  public synchronized boolean tryAcquire() {
+    if (state == State.OPEN) {
+      if (nanoClock.getAsLong() - openedAt < openDurationNanos) {
+        return false;
+      }
+      transition(State.HALF_OPEN);
+    }
+    if (state == State.HALF_OPEN) {
+      if (halfOpenInFlight >= halfOpenCalls) {
+        return false;
+      }
+      halfOpenInFlight++;
+    }
+    return true;
+  }
+
+  public synchronized void onSuccess() {
+    if (state == State.HALF_OPEN) {
+      halfOpenInFlight--;
+      if (++halfOpenSuccesses >= halfOpenCalls) {
+        transition(State.CLOSED);
+      }
+      return;
+    }
+    record(false);
+  }
+
+  public synchronized void onFailure() {
+    if (state == State.HALF_OPEN) {
+      transition(State.OPEN);
+      return;
+    }
+    if (state == State.OPEN) {
+      return;
+    }
+    record(true);
+    if (recorded >= minimumCalls && failures * 100 >= failureRateThreshold * recorded) {
+      transition(State.OPEN);
+    }
+  }
+
+  /**
+   * 결과 없이 끝난 호출(취소, 로컬 거절 등)의 허가 반납
+   */
+  public synchronized void release() {
+    if (state == State.HALF_OPEN && halfOpenInFlight > 0) {
+      halfOpenInFlight--;
+    }
+  }
+
+  public synchronized State getState() {
+    return state;
+  }
+
+  private void record(boolean failure) {
+    if (recorded == window.length) {
+      if (window[next]) {
+        failures--;
+      }
+    } else {
+      recorded++;
+    }
+    window[next] = failure;
+    if (failure) {
+      failures++;
+    }
+    next = (next + 1) % window.length;
+  }
+
+  private void transition(State to) {
+    log.warn("[CircuitBreaker] {} {} -> {} (failures={}/{})", name, state, to, failures, recorded);
+    state = to;
+    switch (to) {
+      case OPEN -> openedAt = nanoClock.getAsLong();
+      case HALF_OPEN -> {
+        halfOpenInFlight = 0;
+        halfOpenSuccesses = 0;
+      }
+      case CLOSED -> {
+        next = 0;
+        recorded = 0;
+        failures = 0;
+      }
+    }
+  }
+}
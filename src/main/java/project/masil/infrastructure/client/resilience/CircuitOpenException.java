@@ -0,0 +1,16 @@
+package project.masil.infrastructure.client.resilience;
+
+import lombok.Getter;
+import project.masil.global.exception.CustomException;
+import project.masil.global.exception.GlobalErrorCode;
+
+@Getter
+public class CircuitOpenException extends CustomException {
+
+  private final String endpoint;
+
+  public CircuitOpenException(String endpoint) {
+    super(GlobalErrorCode.EXTERNAL_SERVICE_UNAVAILABLE);
+    this.endpoint = endpoint;
+  }
+}
@@ -0,0 +1,46 @@
+package project.masil.infrastructure.client.resilience;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * 최근 N건의 응답 시간 기록 (링 버퍼). 적응형 타임아웃과 헤징 지연 계산에 사용한다.
+ */
+public class LatencyTracker {
+
+  private final long[] samples;
+  private int next;
+  private int count;
+
+  public LatencyTracker(int capacity) {
+    this.samples = new long[capacity];
+  }
+
+  public synchronized void record(long nanos) {
+    samples[next] = nanos;
+    next = (next + 1) % samples.length;
+    if (count < samples.length) {
+      count++;
+    }
+  }
+
+  public synchronized int size() {
+    return count;
+  }
+
+  /**
+   * p(0~1) 백분위 응답 시간. 기록이 없으면 null.
+   */
+  public Duration percentile(double p) {
+    long[] copy;
+    synchronized (this) {
+      if (count == 0) {
+        return null;
+      }
+      copy = Arrays.copyOf(samples, count);
+    }
+    Arrays.sort(copy);
+    int idx = (int) Math.ceil(p * copy.length) - 1;
+    return Duration.ofNanos(copy[Math.max(0, Math.min(copy.length - 1, idx))]);
+  }
+}
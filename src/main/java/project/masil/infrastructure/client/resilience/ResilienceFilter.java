@@ -0,0 +1,183 @@
+package project.masil.infrastructure.client.resilience;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import project.masil.global.config.props.OutboundProps;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
+
+/**
+ * 다운스트림 WebClient 에 거는 복원력 필터.
+ * <p>
+ * - 엔드포인트(경로)별 서킷 브레이커: 실패율이 높으면 호출 없이 {@link CircuitOpenException}
+ * - 적응형 타임아웃: 최근 응답 시간 백분위 기반
+ * - 헤징: hedge.paths 에 등록된 멱등 조회만, 첫 요청이 늦으면 같은 요청을 한 번 더 보내고 먼저 온 응답 사용
+ *   (늦게 온 응답은 본문을 비워 커넥션을 풀에 돌려준다)
+ * <p>
+ * 5xx 응답, 타임아웃, 네트워크 오류는 실패로 집계한다. 벌크헤드 거절, 커넥션 풀 대기 초과처럼 호출 자체가 나가지 않은 경우는 집계하지
+ * 않는다.
+ */
+@Slf4j
+public class ResilienceFilter implements ExchangeFilterFunction {
+
+  /*
+   * reactor-netty 의 풀 대기 예외는 내부 shaded 패키지(reactor.netty.internal.shaded.reactor.pool)에만 있어
+   * 공개 API 로 import 할 수 없다. 버전마다 패키지가 바뀔 수 있으므로 클래스 이름으로만 판별한다.
+   */
+  private static final Set<String> POOL_ACQUIRE_FAILURES =
+      Set.of("PoolAcquirePendingLimitException", "PoolAcquireTimeoutException");
+
+  private final String downstream;
+  private final OutboundProps.Downstream config;
+  private final Map<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+  private final Map<String, LatencyTracker> latencies = new ConcurrentHashMap<>();
+
+  public ResilienceFilter(String downstream, OutboundProps.Downstream config) {
+    this.downstream = downstream;
+    this.config = config;
+  }
+
+  @Override
+  public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+    String endpoint = endpointKey(request.url().getPath());
+    CircuitBreaker breaker = breakers.computeIfAbsent(endpoint, this::newBreaker);
+    LatencyTracker tracker = latencies.computeIfAbsent(endpoint,
+        k -> new LatencyTracker(config.getTimeout().getSampleSize()));
+
+    Duration timeout = adaptiveTimeout(tracker);
+    Mono<ClientResponse> attempt = Mono.defer(() -> guarded(request, next, breaker, tracker,
+        timeout));
+
+    Duration hedgeDelay = hedgeDelay(endpoint, tracker, timeout);
+    if (hedgeDelay == null) {
+      return attempt;
+    }
+    AtomicBoolean decided = new AtomicBoolean();
+    return Mono.firstWithValue(firstOnly(attempt, decided), firstOnly(Mono.delay(hedgeDelay)
+            .doOnNext(t -> log.debug("[Hedge] {} {} 헤지 요청 (delay={}ms)", downstream, endpoint,
+                hedgeDelay.toMillis()))
+            .then(attempt), decided))
+        // 취소된 쪽이 그래도 응답을 내보내면 버려지는 응답으로 들어온다
+        .doOnDiscard(ClientResponse.class, ResilienceFilter::release)
+        .onErrorMap(NoSuchElementException.class, ResilienceFilter::firstCause);
+  }
+
+  // 두 응답이 거의 동시에 오면 먼저 통과한 쪽만 쓰고 나머지는 본문을 비운다
+  static Mono<ClientResponse> firstOnly(Mono<ClientResponse> source,
+      AtomicBoolean decided) {
+    return source.flatMap(res -> {
+      if (decided.compareAndSet(false, true)) {
+        return Mono.just(res);
+      }
+      release(res);
+      return Mono.empty();
+    });
+  }
+
+  private static void release(ClientResponse res) {
+    res.releaseBody().subscribe(null, e -> log.debug("[Hedge] 응답 본문 해제 실패: {}",
+        e.getMessage()));
+  }
+
+  private Mono<ClientResponse> guarded(ClientRequest request, ExchangeFunction next,
+      CircuitBreaker breaker, LatencyTracker tracker, Duration timeout) {
+    if (!breaker.tryAcquire()) {
+      return Mono.error(new CircuitOpenException(breaker.getName()));
+    }
+    long start = System.nanoTime();
+    return next.exchange(request)
+        .timeout(timeout)
+        .doOnNext(res -> {
+          if (res.statusCode().is5xxServerError()) {
+            breaker.onFailure();
+          } else {
+            tracker.record(System.nanoTime() - start);
+            breaker.onSuccess();
+          }
+        })
+        .doOnError(e -> {
+          if (isLocalRejection(e)) {
+            breaker.release();
+          } else {
+            breaker.onFailure();
+          }
+        })
+        .doOnCancel(breaker::release);
+  }
+
+  // 요청이 나가지도 못한 경우(벌크헤드 거절, 커넥션 풀 대기 초과)는 다운스트림 실패로 보지 않음
+  private static boolean isLocalRejection(Throwable e) {
+    for (Throwable t = e; t != null; t = t.getCause()) {
+      if (t instanceof BulkheadFullException || isPoolAcquireFailure(t)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean isPoolAcquireFailure(Throwable t) {
+    return POOL_ACQUIRE_FAILURES.contains(t.getClass().getSimpleName());
+  }
+
+  private Duration adaptiveTimeout(LatencyTracker tracker) {
+    OutboundProps.Timeout t = config.getTimeout();
+    if (tracker.size() < t.getMinSamples()) {
+      return t.getMax();
+    }
+    Duration p = tracker.percentile(t.getPercentile());
+    long millis = (long) (p.toMillis() * t.getMultiplier());
+    return Duration.ofMillis(
+        Math.max(t.getMin().toMillis(), Math.min(t.getMax().toMillis(), millis)));
+  }
+
+  // 헤징 대상이 아니거나 표본이 부족하면 null
+  private Duration hedgeDelay(String endpoint, LatencyTracker tracker, Duration timeout) {
+    OutboundProps.Hedge h = config.getHedge();
+    if (!h.getPaths().contains(endpoint)
+        || tracker.size() < config.getTimeout().getMinSamples()) {
+      return null;
+    }
+    Duration delay = tracker.percentile(h.getDelayPercentile());
+    return delay.compareTo(timeout) < 0 ? delay : null;
+  }
+
+  private CircuitBreaker newBreaker(String endpoint) {
+    OutboundProps.Breaker b = config.getBreaker();
+    return new CircuitBreaker(downstream + " " + endpoint, b.getWindowSize(),
+        b.getMinimumCalls(), b.getFailureRateThreshold(), b.getOpenDuration(),
+        b.getHalfOpenCalls());
+  }
+
+  // 경로의 숫자 세그먼트는 {id} 로 묶는다 (/api/faiss/remove/12 -> /api/faiss/remove/{id})
+  static String endpointKey(String path) {
+    StringBuilder sb = new StringBuilder(path.length());
+    for (String seg : path.split("/")) {
+      if (seg.isEmpty()) {
+        continue;
+      }
+      sb.append('/');
+      sb.append(seg.chars().allMatch(Character::isDigit) ? "{id}" : seg);
+    }
+    return sb.isEmpty() ? "/" : sb.toString();
+  }
+
+  // 헤지 요청이 모두 실패하면 첫 번째 원인 예외를 그대로 전달
+  private static Throwable firstCause(NoSuchElementException e) {
+    if (e.getCause() != null) {
+      return Exceptions.unwrapMultiple(e.getCause()).get(0);
+    }
+    if (e.getSuppressed().length > 0) {
+      return e.getSuppressed()[0];
+    }
+    return e;
+  }
+}
@@ -45,7 +45,7 @@ public class MyPageController {
     Pageable pageable = PageRequest.of(pageIndex, size, sort);
 
     Page<PostResponse> result = myPageService.getMyPostList(
-        userDetails.getUser().getId(), pageable);
+        userDetails.getUserId(), pageable);
     return ResponseEntity.ok(BaseResponse.success("내가 작성한 게시글 목록 조회 성공", result));
   }
 
@@ -63,7 +63,7 @@ public class MyPageController {
     Pageable pageable = PageRequest.of(pageIndex, size, sort);
 
     Page<PostResponse> result = myPageService.getMyFavoritePostList(
-        userDetails.getUser().getId(), pageable);
+        userDetails.getUserId(), pageable);
     return ResponseEntity.ok(BaseResponse.success("내가 관심 있는 게시글 목록 조회 성공", result));
   }
 
@@ -75,7 +75,7 @@ public class MyPageController {
   public ResponseEntity<BaseResponse<Void>> verifyOwner(
       @AuthenticationPrincipal CustomUserDetails userDetails,
       @RequestBody OwnerVerifyRequest request) {
-    myPageService.verifyOwner(userDetails.getUser().getId(), request);
+    myPageService.verifyOwner(userDetails.getUserId(), request);
     return ResponseEntity.ok(
         BaseResponse.success("사업자 인증 요청이 성공적으로 처리되었습니다.", null));
   }
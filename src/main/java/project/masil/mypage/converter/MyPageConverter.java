@@ -4,7 +4,7 @@ import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.IntStream;
-import project.masil.community.dto.response.EventImageResponse;
+import project.masil.community.converter.EventPostConverter;
 import project.masil.community.entity.ClubPost;
 import project.masil.community.entity.EventPost;
 import project.masil.community.entity.Post;
@@ -34,14 +34,11 @@ public class MyPageConverter {
         .eventId(post.getId())
         .postType(post.getPostType())
         .images(IntStream.range(0, post.getEventImages().size())
-            .mapToObj(i -> EventImageResponse.builder()
-                .sequence(i + 1) // DB sequence 컬럼이 0부터면 +1
-                .imageUrl(post.getEventImages().get(i))
-                .build()
-            )
+            .mapToObj(i -> EventPostConverter.toImageResponse(i, post.getEventImages().get(i),
+                i < post.getImageVariantCount()))
             .toList())
         .username(post.getUser().getUsername())
-        .userImage(post.getUser().getProfileImageUrlOrDefault())
+        .userImage(post.getUser().getProfileThumbnailUrlOrDefault())
         .title(post.getTitle())
         .location(post.getLocation())
         .startAt(post.getStartAt())
@@ -67,13 +64,11 @@ public class MyPageConverter {
         .postType(post.getPostType())
         .images(List.of(post.getCoverImage())
             .stream()
-            .map(imageUrl -> EventImageResponse.builder()
-                .sequence(1) // ClubPost는 coverImage만 있으므로 sequence는 1로 설정
-                .imageUrl(imageUrl)
-                .build())
+            // ClubPost는 coverImage만 있으므로 sequence는 1로 설정 (변형본 없음)
+            .map(imageUrl -> EventPostConverter.toImageResponse(0, imageUrl, false))
             .toList())
         .username(post.getUser().getUsername())
-        .userImage(post.getUser().getProfileImageUrlOrDefault())
+        .userImage(post.getUser().getProfileThumbnailUrlOrDefault())
         .title(post.getTitle())
         .location(post.getLocation())
         .startAt(post.getStartAt())
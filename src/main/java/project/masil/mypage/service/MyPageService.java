@@ -16,6 +16,7 @@ import project.masil.community.entity.Post;
 import project.masil.community.repository.FavoriteRepository;
 import project.masil.community.repository.PostRepository;
 import project.masil.global.exception.CustomException;
+import project.masil.global.security.CurrentUserContext;
 import project.masil.infrastructure.client.opendata.OpenDataClient;
 import project.masil.infrastructure.client.opendata.dto.BusinessInfoPayload;
 import project.masil.infrastructure.client.opendata.dto.OwnerVerifyApiResponse;
@@ -32,6 +33,7 @@ import project.masil.user.repository.UserRepository;
 public class MyPageService {
 
   private final UserRepository userRepository;
+  private final CurrentUserContext currentUserContext;
   private final PostRepository postRepository;
   private final FavoriteRepository favoriteRepository;
   private final OpenDataClient openDataClient;
@@ -46,8 +48,7 @@ public class MyPageService {
    */
   @Transactional(readOnly = true)
   public Page<PostResponse> getMyPostList(Long userId, Pageable pageable) {
-    User user = userRepository.findById(userId)
-        .orElseThrow(() -> new CustomException(UserErrorCode.USER_NOT_FOUND));
+    User user = currentUserContext.referenceOf(userId);
     Page<Post> posts = postRepository.findByUserOrderByCreatedAtDesc(user, pageable);
 
     List<Long> postIds = posts.getContent().stream().map(Post::getId)
@@ -73,8 +74,7 @@ public class MyPageService {
    */
   @Transactional(readOnly = true)
   public Page<PostResponse> getMyFavoritePostList(Long userId, Pageable pageable) {
-    User user = userRepository.findById(userId)
-        .orElseThrow(() -> new CustomException(UserErrorCode.USER_NOT_FOUND));
+    User user = currentUserContext.referenceOf(userId);
     Page<Post> posts = favoriteRepository.findFavoritePostsAsPage(user, pageable);
     return posts.map(post -> {
       boolean isBusinessVerified = post.getUser().isBusinessVerified();
@@ -112,7 +112,8 @@ public class MyPageService {
         verifyRequest.getBusinessName()
     );
 
-    OwnerVerifyApiResponse response = openDataClient.verifyBusiness(payload);
+    // 인증 결과를 같은 트랜잭션에서 반영해야 하므로 응답을 기다린다 (동시 호출 수는 opendata 벌크헤드로 제한)
+    OwnerVerifyApiResponse response = openDataClient.verifyBusiness(payload).block();
 
     if (response != null
         && "OK".equals(response.getStatusCode())
@@ -1,10 +1,20 @@
 package project.masil.notification.controller;
 
+import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import project.masil.global.response.BaseResponse;
+import project.masil.global.security.CustomUserDetails;
+import project.masil.notification.dto.response.NotificationSliceResponse;
 import project.masil.notification.service.NotificationService;
 
 @RestController
@@ -16,5 +26,35 @@ public class NotificationController {
 
   private final NotificationService notificationService;
 
+  @Operation(summary = "내 알림 목록",
+      description = "최신순으로 알림을 조회합니다. 첫 페이지는 cursor 없이 호출하고 다음 페이지는 응답의 nextCursor 를 넘깁니다. "
+          + "새 알림은 /user/queue/notifications 구독으로 실시간 수신합니다.")
+  @GetMapping
+  public ResponseEntity<BaseResponse<NotificationSliceResponse>> getNotifications(
+      @AuthenticationPrincipal CustomUserDetails userDetails,
+      @RequestParam(required = false) Long cursor,
+      @RequestParam(defaultValue = "20") int size,
+      @RequestParam(defaultValue = "false") boolean unreadOnly) {
+    NotificationSliceResponse result = notificationService.getNotifications(
+        userDetails.getUserId(), cursor, size, unreadOnly);
+    return ResponseEntity.ok(BaseResponse.success("알림 목록 조회 성공", result));
+  }
+
+  @Operation(summary = "알림 읽음 처리", description = "알림 하나를 읽음 처리합니다.")
+  @PatchMapping("/{notificationId}/read")
+  public ResponseEntity<BaseResponse<Void>> markRead(
+      @AuthenticationPrincipal CustomUserDetails userDetails,
+      @PathVariable Long notificationId) {
+    notificationService.markRead(userDetails.getUserId(), notificationId);
+    return ResponseEntity.ok(BaseResponse.success("알림 읽음 처리 성공", null));
+  }
+
+  @Operation(summary = "알림 모두 읽음 처리", description = "내 알림을 모두 읽음 처리합니다.")
+  @PatchMapping("/read-all")
+  public ResponseEntity<BaseResponse<Void>> markAllRead(
+      @AuthenticationPrincipal CustomUserDetails userDetails) {
+    notificationService.markAllRead(userDetails.getUserId());
+    return ResponseEntity.ok(BaseResponse.success("알림 모두 읽음 처리 성공", null));
+  }
 
 }
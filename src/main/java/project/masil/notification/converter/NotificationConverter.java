@@ -1,5 +1,21 @@
 package project.masil.notification.converter;
 
+import project.masil.notification.dto.response.NotificationResponse;
+import project.masil.notification.entity.Notification;
+
 public class NotificationConverter {
 
+  public static NotificationResponse toNotificationResponse(Notification notification) {
+    return NotificationResponse.builder()
+        .notificationId(notification.getId())
+        .type(notification.getType())
+        .content(notification.getContent())
+        .postId(notification.getPost() == null ? null : notification.getPost().getId())
+        .targetId(notification.getTargetId())
+        .count(notification.getCount())
+        .isRead(notification.isRead())
+        .createdAt(notification.getCreatedAt())
+        .build();
+  }
+
 }
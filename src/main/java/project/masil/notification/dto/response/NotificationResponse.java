@@ -0,0 +1,23 @@
+package project.masil.notification.dto.response;
+
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Getter;
+import project.masil.notification.enums.NotificationType;
+
+/**
+ * 알림 응답 DTO (목록 조회 / 실시간 푸시 공용)
+ */
+@Getter
+@Builder
+public class NotificationResponse {
+
+  private Long notificationId;
+  private NotificationType type;
+  private String content;
+  private Long postId;   // 채팅 알림은 null
+  private Long targetId; // 댓글/채팅방/이벤트 ID
+  private int count;     // 합쳐진 건수
+  private boolean isRead;
+  private LocalDateTime createdAt;
+}
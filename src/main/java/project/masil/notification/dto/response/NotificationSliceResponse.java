@@ -0,0 +1,20 @@
+package project.masil.notification.dto.response;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 커서 기반 알림 목록 응답 DTO
+ * - notifications : 최신순
+ * - nextCursor    : 다음 조회에 넘길 커서 (마지막 알림 ID)
+ * - hasNext       : 더 조회할 알림이 있는지
+ */
+@Getter
+@Builder
+public class NotificationSliceResponse {
+
+  private List<NotificationResponse> notifications;
+  private Long nextCursor;
+  private boolean hasNext;
+}
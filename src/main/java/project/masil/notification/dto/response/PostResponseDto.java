@@ -1,5 +0,0 @@
-package project.masil.notification.dto.response;
-
-public class PostResponseDto {
-
-}
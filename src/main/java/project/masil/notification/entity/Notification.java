@@ -8,6 +8,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -22,8 +23,17 @@ import project.masil.global.common.BaseTimeEntity;
 import project.masil.notification.enums.NotificationType;
 import project.masil.user.entity.User;
 
+/**
+ * 알림
+ * - (receiver_id, id DESC) 인덱스로 내 알림 최신순 커서 조회
+ * - count: 같은 대상에 대해 합쳐진 알림 건수 ("새 댓글 5개")
+ */
 @Entity
-@Table(name = "notifications")
+@Table(name = "notifications",
+    indexes = {
+        @Index(name = "idx_noti_receiver_id", columnList = "receiver_id, id DESC")
+    }
+)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -39,10 +49,22 @@ public class Notification extends BaseTimeEntity {
   @JoinColumn(name = "receiver_id", nullable = false)
   private User receiver;
 
+  // 채팅 알림은 게시글이 없음
   @ManyToOne(fetch = FetchType.LAZY)
-  @JoinColumn(name = "post_id", nullable = false)
+  @JoinColumn(name = "post_id")
   private Post post;
 
+  // 알림을 일으킨 사용자 (합쳐진 경우 마지막 사용자)
+  private Long actorId;
+
+  // 종류별 대상 ID (댓글/채팅방/이벤트)
+  private Long targetId;
+
+  @Builder.Default
+  @Column(nullable = false)
+  @ColumnDefault("1")
+  private int count = 1;
+
   @Enumerated(EnumType.STRING)
   @Column(nullable = false)
   private NotificationType type;
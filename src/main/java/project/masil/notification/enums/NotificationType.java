@@ -1,5 +1,25 @@
 package project.masil.notification.enums;
 
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 알림 종류
+ * - 같은 종류/대상의 알림이 짧은 시간에 여러 건 오면 한 건으로 합치고 plural 문구를 쓴다 ("새 댓글 5개")
+ */
+@Getter
+@AllArgsConstructor
 public enum NotificationType {
-  COMMENT
+  COMMENT("내 게시글에 새 댓글이 달렸습니다.", "내 게시글에 새 댓글 %d개가 달렸습니다."),
+  REPLY("내 댓글에 답글이 달렸습니다.", "내 댓글에 답글 %d개가 달렸습니다."),
+  FAVORITE("내 이벤트를 관심 목록에 추가한 사용자가 있습니다.", "%d명이 내 이벤트를 관심 목록에 추가했습니다."),
+  CHAT_MESSAGE("새 채팅 메시지가 도착했습니다.", "새 채팅 메시지 %d개가 도착했습니다."),
+  CLUB_POST("관심 이벤트에 새 소모임 글이 올라왔습니다.", "관심 이벤트에 새 소모임 글 %d개가 올라왔습니다.");
+
+  private final String single;
+  private final String plural;
+
+  public String content(int count) {
+    return count > 1 ? String.format(plural, count) : single;
+  }
 }
@@ -0,0 +1,30 @@
+package project.masil.notification.event;
+
+import project.masil.notification.enums.NotificationType;
+
+/**
+ * 알림 발생 이벤트 (생산자는 NotificationPublisher 로 아웃박스에 기록만 하고, 저장/전달은 NotificationDispatcher 가 처리)
+ *
+ * @param receiverId 받는 사람 (null 이면 fan-out: CLUB_POST 는 targetId 이벤트를 관심 목록에 넣은 사용자 전체)
+ * @param actorId    알림을 일으킨 사용자 (본인에게는 보내지 않음)
+ * @param postId     관련 게시글 (채팅은 null)
+ * @param targetId   종류별 대상 ID (댓글/채팅방/이벤트 ID), 합치기 기준
+ */
+public record NotificationEvent(
+    NotificationType type,
+    Long receiverId,
+    Long actorId,
+    Long postId,
+    Long targetId
+) {
+
+  public static NotificationEvent to(NotificationType type, Long receiverId, Long actorId,
+      Long postId, Long targetId) {
+    return new NotificationEvent(type, receiverId, actorId, postId, targetId);
+  }
+
+  public static NotificationEvent fanOut(NotificationType type, Long actorId, Long postId,
+      Long targetId) {
+    return new NotificationEvent(type, null, actorId, postId, targetId);
+  }
+}
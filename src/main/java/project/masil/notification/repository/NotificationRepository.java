@@ -1,9 +1,42 @@
 package project.masil.notification.repository;
 
+import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import project.masil.notification.entity.Notification;
 
+/**
+ * 알림 레포지토리
+ * - 목록은 (receiver_id, id DESC) 인덱스 keyset 조회 (OFFSET/COUNT 없음), 첫 페이지 커서는 Long.MAX_VALUE
+ */
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
+  List<Notification> findByReceiverIdAndIdLessThanOrderByIdDesc(Long receiverId, Long id,
+      Pageable pageable);
+
+  List<Notification> findByReceiverIdAndIsReadFalseAndIdLessThanOrderByIdDesc(Long receiverId,
+      Long id, Pageable pageable);
+
+  @Transactional
+  @Modifying
+  @Query("""
+         update Notification n
+         set n.isRead = true
+         where n.id = :id and n.receiver.id = :receiverId
+""")
+  int markRead(@Param("id") Long id, @Param("receiverId") Long receiverId);
+
+  @Transactional
+  @Modifying
+  @Query("""
+         update Notification n
+         set n.isRead = true
+         where n.receiver.id = :receiverId and n.isRead = false
+""")
+  int markAllRead(@Param("receiverId") Long receiverId);
 
 }
@@ -0,0 +1,271 @@
+package project.masil.notification.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import project.masil.community.repository.FavoriteRepository;
+import project.masil.global.config.props.NotificationProps;
+import project.masil.global.outbox.OutboxEvent;
+import project.masil.global.outbox.OutboxEventType;
+import project.masil.global.outbox.OutboxStore;
+import project.masil.global.outbox.OutboxStore.Claim;
+import project.masil.global.util.FixedDelayLoop;
+import project.masil.notification.dto.response.NotificationResponse;
+import project.masil.notification.enums.NotificationType;
+import project.masil.notification.event.NotificationEvent;
+
+/**
+ * 알림 저장/실시간 전달기.
+ * <p>
+ * - 생산자는 트랜잭션 안에서 아웃박스 행(NOTIFICATION)만 기록한다 ({@link NotificationPublisher})
+ * - flush-interval 마다 행을 가져가서({@link OutboxStore#claim}): fan-out 수신자 조회 → (수신자, 종류, 게시글, 대상) 단위로 합치기
+ *   → chunk 단위 JDBC batch insert → 저장된 알림만 수신자별 한 번 "/user/queue/notifications" 푸시 → 행 삭제
+ * - chunk 저장이 실패하면 건별로 다시 저장: 제약 위반(삭제된 게시글/사용자 등)은 그 알림만 버리고,
+ *   그 밖의 오류는 원본 행을 재시도 예약 (fan-out 일부가 이미 저장됐으면 재시도 때 중복될 수 있음, 최소 한 번 전달)
+ * - 본인이 일으킨 알림은 만들지 않는다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationDispatcher {
+
+  private static final String PUSH_DEST = "/queue/notifications";
+  // PhysicalNamingStrategyStandardImpl: 조인 컬럼 외에는 필드명 그대로
+  private static final String INSERT_SQL = """
+      insert into notifications
+        (receiver_id, post_id, type, content, actorId, targetId, count, isRead, createdAt, updatedAt)
+      values (?, ?, ?, ?, ?, ?, ?, false, ?, ?)
+      """;
+
+  private final NotificationProps props;
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate tx;
+  private final OutboxStore store;
+  private final ObjectMapper objectMapper;
+  private final FavoriteRepository favoriteRepository;
+  private final SimpMessagingTemplate broker;
+
+  private FixedDelayLoop flusher;
+
+  @PostConstruct
+  public void start() {
+    flusher = FixedDelayLoop.start("notification-flush", props.getFlushInterval(), this::flush,
+        props.getMaxBatch());
+  }
+
+  @PreDestroy
+  public void stop() {
+    // 남은 행은 아웃박스에 그대로 있으므로 다음 기동 때(또는 다른 노드가) 처리
+    if (flusher != null) {
+      flusher.close();
+    }
+  }
+
+  // 가져간 행 수
+  int flush() {
+    Claim claim = store.claim(Set.of(OutboxEventType.NOTIFICATION), props.getMaxBatch(),
+        props.getLease());
+    if (claim.isEmpty()) {
+      return 0;
+    }
+    try {
+      deliver(claim);
+    } catch (RuntimeException e) {
+      // 수신자 조회 등 배치 전체 실패: 모두 재시도 예약
+      store.failAll(claim.token(), claim.rows(), e.getMessage());
+      throw e;
+    }
+    return claim.rows().size();
+  }
+
+  private void deliver(Claim claim) {
+    // 1) 수신자 확정 + 합치기 (행 순서 유지)
+    Map<Key, Row> rows = new LinkedHashMap<>();
+    for (OutboxEvent source : claim.rows()) {
+      NotificationEvent e = parse(source);
+      if (e == null) {
+        continue;
+      }
+      for (Long receiverId : receiversOf(e)) {
+        if (receiverId.equals(e.actorId())) {
+          continue;
+        }
+        rows.computeIfAbsent(new Key(receiverId, e.type(), e.postId(), e.targetId()), Row::new)
+            .add(e.actorId(), source.getId());
+      }
+    }
+
+    // 2) chunk 단위 저장, 실패한 chunk 는 건별로
+    List<Row> all = new ArrayList<>(rows.values());
+    LocalDateTime now = LocalDateTime.now();
+    List<Row> saved = new ArrayList<>(all.size());
+    Set<Long> retry = new HashSet<>();
+    String error = null;
+    for (int from = 0; from < all.size(); from += props.getFanOutChunk()) {
+      List<Row> chunk = all.subList(from, Math.min(all.size(), from + props.getFanOutChunk()));
+      try {
+        insert(chunk, now);
+        saved.addAll(chunk);
+        continue;
+      } catch (DataAccessException e) {
+        log.warn("[알림] {}건 저장 실패, 건별 재시도: {}", chunk.size(), e.getMessage());
+      }
+      for (Row row : chunk) {
+        try {
+          insert(List.of(row), now);
+          saved.add(row);
+        } catch (DataIntegrityViolationException e) {
+          log.warn("[알림] 저장 불가로 버림 receiver={} type={} post={} target={}: {}",
+              row.key.receiverId(), row.key.type(), row.key.postId(), row.key.targetId(),
+              e.getMostSpecificCause().getMessage());
+        } catch (DataAccessException e) {
+          retry.addAll(row.sources);
+          error = e.getMessage();
+        }
+      }
+    }
+
+    // 3) 원본 행 정리: 재시도 대상 외에는 삭제
+    List<OutboxEvent> failed = claim.rows().stream().filter(r -> retry.contains(r.getId()))
+        .toList();
+    store.failAll(claim.token(), failed, error);
+    store.complete(claim.token(), claim.rows().stream().map(OutboxEvent::getId)
+        .filter(id -> !retry.contains(id)).toList());
+
+    // 4) 저장된 알림만 수신자별 한 번 푸시
+    Map<Long, List<NotificationResponse>> byReceiver = new LinkedHashMap<>();
+    for (Row row : saved) {
+      byReceiver.computeIfAbsent(row.key.receiverId(), k -> new ArrayList<>())
+          .add(row.toResponse(now));
+    }
+    byReceiver.forEach((receiverId, list) ->
+        broker.convertAndSendToUser(String.valueOf(receiverId), PUSH_DEST, list));
+    log.debug("[알림] 이벤트 {}건 → 알림 {}건 저장, 수신자 {}명, 재시도 {}건", claim.rows().size(),
+        saved.size(), byReceiver.size(), failed.size());
+  }
+
+  // 내용을 읽을 수 없는 행은 버린다 (재시도해도 같음)
+  private NotificationEvent parse(OutboxEvent source) {
+    try {
+      return objectMapper.readValue(source.getPayload(), NotificationEvent.class);
+    } catch (JsonProcessingException | IllegalArgumentException e) {
+      log.warn("[알림] 잘못된 이벤트 버림 id={}: {}", source.getId(), e.getMessage());
+      return null;
+    }
+  }
+
+  private List<Long> receiversOf(NotificationEvent e) {
+    if (e.receiverId() != null) {
+      return List.of(e.receiverId());
+    }
+    // fan-out: 관심 이벤트에 새 소모임 글 → 이벤트를 관심 목록에 넣은 사용자
+    if (e.type() == NotificationType.CLUB_POST && e.targetId() != null) {
+      return favoriteRepository.findUserIdsByPostId(e.targetId());
+    }
+    return List.of();
+  }
+
+  // 한 트랜잭션: 실패하면 chunk 전체가 롤백되므로 건별 재시도가 중복을 만들지 않는다
+  private void insert(List<Row> chunk, LocalDateTime now) {
+    Timestamp ts = Timestamp.valueOf(now);
+    KeyHolder keys = new GeneratedKeyHolder();
+    tx.executeWithoutResult(status -> jdbcTemplate.batchUpdate(
+        con -> con.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+        new BatchPreparedStatementSetter() {
+          @Override
+          public void setValues(PreparedStatement ps, int i) throws SQLException {
+            Row row = chunk.get(i);
+            ps.setLong(1, row.key.receiverId());
+            setNullableLong(ps, 2, row.key.postId());
+            ps.setString(3, row.key.type().name());
+            ps.setString(4, row.key.type().content(row.count));
+            setNullableLong(ps, 5, row.lastActorId);
+            setNullableLong(ps, 6, row.key.targetId());
+            ps.setInt(7, row.count);
+            ps.setTimestamp(8, ts);
+            ps.setTimestamp(9, ts);
+          }
+
+          @Override
+          public int getBatchSize() {
+            return chunk.size();
+          }
+        },
+        keys));
+    List<Map<String, Object>> keyList = keys.getKeyList();
+    for (int i = 0; i < chunk.size() && i < keyList.size(); i++) {
+      chunk.get(i).id = ((Number) keyList.get(i).values().iterator().next()).longValue();
+    }
+  }
+
+  private static void setNullableLong(PreparedStatement ps, int index, Long value)
+      throws SQLException {
+    if (value == null) {
+      ps.setNull(index, Types.BIGINT);
+    } else {
+      ps.setLong(index, value);
+    }
+  }
+
+  private record Key(Long receiverId, NotificationType type, Long postId, Long targetId) {
+
+  }
+
+  private static final class Row {
+
+    private final Key key;
+    // 이 알림을 만든 아웃박스 행
+    private final Set<Long> sources = new LinkedHashSet<>();
+    private int count;
+    private Long lastActorId;
+    private Long id;
+
+    private Row(Key key) {
+      this.key = key;
+    }
+
+    private void add(Long actorId, Long sourceId) {
+      count++;
+      lastActorId = actorId;
+      sources.add(sourceId);
+    }
+
+    private NotificationResponse toResponse(LocalDateTime createdAt) {
+      return NotificationResponse.builder()
+          .notificationId(id)
+          .type(key.type())
+          .content(key.type().content(count))
+          .postId(key.postId())
+          .targetId(key.targetId())
+          .count(count)
+          .isRead(false)
+          .createdAt(createdAt)
+          .build();
+    }
+  }
+}
@@ -0,0 +1,52 @@
+package project.masil.notification.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import project.masil.global.outbox.OutboxEventType;
+import project.masil.global.outbox.OutboxPublisher;
+import project.masil.notification.event.NotificationEvent;
+
+/**
+ * 알림 발행: 생산자 트랜잭션 안에서 아웃박스 행으로 기록 (MANDATORY)
+ * - 롤백되면 알림도 없고, 커밋되면 재시작/장애가 있어도 NotificationDispatcher 가 반드시 저장/전달한다
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationPublisher {
+
+  private final OutboxPublisher outboxPublisher;
+  private final ObjectMapper objectMapper;
+
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void publish(NotificationEvent event) {
+    outboxPublisher.append(OutboxEventType.NOTIFICATION, aggregateIdOf(event), toJson(event));
+  }
+
+  /**
+   * 여러 건을 한 번에 (JDBC batch)
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void publishAll(List<NotificationEvent> events) {
+    outboxPublisher.appendAll(OutboxEventType.NOTIFICATION, events.stream()
+        .map(e -> new OutboxPublisher.Entry(aggregateIdOf(e), toJson(e)))
+        .toList());
+  }
+
+  // 받는 사람, fan-out 이면 보낸 사람
+  private static Long aggregateIdOf(NotificationEvent event) {
+    return event.receiverId() != null ? event.receiverId() : event.actorId();
+  }
+
+  private String toJson(NotificationEvent event) {
+    try {
+      return objectMapper.writeValueAsString(event);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("알림 이벤트 직렬화 실패: " + event, e);
+    }
+  }
+}
@@ -1,8 +1,17 @@
 package project.masil.notification.service;
 
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import project.masil.global.exception.CustomException;
+import project.masil.notification.converter.NotificationConverter;
+import project.masil.notification.dto.response.NotificationResponse;
+import project.masil.notification.dto.response.NotificationSliceResponse;
+import project.masil.notification.entity.Notification;
+import project.masil.notification.exception.NotificationErrorCode;
 import project.masil.notification.repository.NotificationRepository;
 
 @Service
@@ -10,7 +19,56 @@ import project.masil.notification.repository.NotificationRepository;
 @Slf4j
 public class NotificationService {
 
+  private static final int MAX_PAGE_SIZE = 100;
+
   private final NotificationRepository notificationRepository;
 
+  /**
+   * 내 알림 목록 (최신순, 커서 기반)
+   *
+   * @param cursor     이전 응답의 nextCursor (첫 페이지는 null)
+   * @param unreadOnly true 면 읽지 않은 알림만
+   */
+  @Transactional(readOnly = true)
+  public NotificationSliceResponse getNotifications(Long userId, Long cursor, int size,
+      boolean unreadOnly) {
+    int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    long before = cursor == null ? Long.MAX_VALUE : cursor;
+    // 한 건 더 읽어 다음 페이지 여부 판단
+    PageRequest page = PageRequest.of(0, limit + 1);
+    List<Notification> rows = unreadOnly
+        ? notificationRepository.findByReceiverIdAndIsReadFalseAndIdLessThanOrderByIdDesc(userId,
+        before, page)
+        : notificationRepository.findByReceiverIdAndIdLessThanOrderByIdDesc(userId, before, page);
+
+    boolean hasNext = rows.size() > limit;
+    List<NotificationResponse> notifications = rows.stream()
+        .limit(limit)
+        .map(NotificationConverter::toNotificationResponse)
+        .toList();
+    return NotificationSliceResponse.builder()
+        .notifications(notifications)
+        .nextCursor(hasNext ? notifications.get(notifications.size() - 1).getNotificationId()
+            : null)
+        .hasNext(hasNext)
+        .build();
+  }
+
+  /**
+   * 알림 읽음 처리 (내 알림이 아니면 NOTIFICATION_NOT_FOUND)
+   */
+  public void markRead(Long userId, Long notificationId) {
+    if (notificationRepository.markRead(notificationId, userId) == 0) {
+      throw new CustomException(NotificationErrorCode.NOTIFICATION_NOT_FOUND);
+    }
+  }
+
+  /**
+   * 내 알림 모두 읽음 처리
+   */
+  public void markAllRead(Long userId) {
+    int updated = notificationRepository.markAllRead(userId);
+    log.info("[서비스] 알림 모두 읽음 - userId: {}, count: {}", userId, updated);
+  }
 
 }
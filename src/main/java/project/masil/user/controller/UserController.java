@@ -57,7 +57,7 @@ public class UserController {
       @AuthenticationPrincipal CustomUserDetails userDetails,
       @RequestBody @Valid NicknameUpdateRequest nicknameUpdateRequest) {
     String updatedNickname = userService.changeNickname(
-        userDetails.getUser().getId(),
+        userDetails.getUserId(),
         nicknameUpdateRequest);
     return ResponseEntity.ok(BaseResponse.success("닉네임 변경 성공", updatedNickname));
   }
@@ -68,7 +68,7 @@ public class UserController {
       @AuthenticationPrincipal CustomUserDetails userDetails,
       @RequestPart(value = "profileImage", required = true) MultipartFile image) {
     return ResponseEntity.ok(BaseResponse.success("프로필 이미지 업로드 성공",
-        userService.uploadProfileImage(userDetails.getUser().getId(), image)));
+        userService.uploadProfileImage(userDetails.getUserId(), image)));
 
   }
 
@@ -78,7 +78,7 @@ public class UserController {
       @AuthenticationPrincipal CustomUserDetails userDetails,
       @RequestBody @Valid RegionUpdateRequest regionUpdateRequest) {
     RegionIdResponse updatedRegion = userService.updateRegion(
-        userDetails.getUser().getId(),
+        userDetails.getUserId(),
         regionUpdateRequest);
     return ResponseEntity.ok(BaseResponse.success("지역 정보 변경 성공", updatedRegion));
   }
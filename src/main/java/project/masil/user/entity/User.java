@@ -76,10 +76,20 @@ public class User extends BaseTimeEntity {
   @Column(unique = true)
   private String businessNumber;
 
-  @Setter
   @Column
   private String profileImageUrl;
 
+  // 토큰 클레임에 들어가는 정보(지역, 권한)가 바뀔 때마다 증가 → 이전 토큰의 클레임/인증 캐시 무효
+  @Builder.Default
+  @Column(nullable = false)
+  @ColumnDefault("0")
+  private long principalVersion = 0L;
+
+  // 프로필 썸네일 (비동기 생성, 생성 전/실패 시 null)
+  // 엔티티 flush 가 오래된 값을 덮어쓰지 않도록 UserRepository 의 update 쿼리로만 변경
+  @Column(updatable = false)
+  private String profileThumbnailUrl;
+
 
   public String getProfileImageUrlOrDefault() {
     return (StringUtils.hasText(profileImageUrl))
@@ -87,6 +97,19 @@ public class User extends BaseTimeEntity {
         : "https://masilbucket.s3.ap-northeast-2.amazonaws.com/profile/3eaf3db0-863b-4475-95d4-7d4dc9caba05";
   }
 
+  // 목록/카드용 작은 프로필 이미지 (썸네일이 아직 없으면 원본)
+  public String getProfileThumbnailUrlOrDefault() {
+    return StringUtils.hasText(profileThumbnailUrl)
+        ? profileThumbnailUrl
+        : getProfileImageUrlOrDefault();
+  }
+
+  // 프로필 이미지 변경 (이전 썸네일은 무효, DB 반영은 UserRepository.clearProfileThumbnail)
+  public void changeProfileImage(String profileImageUrl) {
+    this.profileImageUrl = profileImageUrl;
+    this.profileThumbnailUrl = null;
+  }
+
   public void createRefreshToken(String refreshToken) {
     this.refreshToken = refreshToken;
   }
@@ -98,6 +121,7 @@ public class User extends BaseTimeEntity {
 
   public void updateRegion(Region region) {
     this.region = region;
+    this.principalVersion++;
   }
 
 }
\ No newline at end of file
@@ -0,0 +1,66 @@
+package project.masil.user.event;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import project.masil.global.image.ImageVariant;
+import project.masil.global.image.ImageVariantGenerator;
+import project.masil.global.outbox.OutboxEventType;
+import project.masil.global.outbox.OutboxHandler;
+import project.masil.user.entity.User;
+import project.masil.user.repository.UserRepository;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 프로필 이미지 썸네일 생성 (imageTaskExecutor 에서 실행)
+ * - 처리 시점의 프로필 이미지 기준, 그 사이 다시 바뀌었으면 저장하지 않는다 (새 이미지의 이벤트가 따로 처리)
+ */
+@Slf4j
+@Component
+public class ProfileImageOutboxHandler implements OutboxHandler {
+
+  private final UserRepository userRepository;
+  private final ImageVariantGenerator generator;
+  private final Scheduler imageScheduler;
+
+  public ProfileImageOutboxHandler(UserRepository userRepository,
+      ImageVariantGenerator generator,
+      @Qualifier("imageTaskExecutor") Executor imageTaskExecutor) {
+    this.userRepository = userRepository;
+    this.generator = generator;
+    this.imageScheduler = Schedulers.fromExecutor(imageTaskExecutor);
+  }
+
+  @Override
+  public Set<OutboxEventType> supports() {
+    return Set.of(OutboxEventType.PROFILE_IMAGE_VARIANTS);
+  }
+
+  @Override
+  public Mono<Void> handle(OutboxEventType type, Long userId) {
+    return Mono.<Void>fromRunnable(() -> generate(userId))
+        .subscribeOn(imageScheduler);
+  }
+
+  private void generate(Long userId) {
+    String url = userRepository.findById(userId).map(User::getProfileImageUrl).orElse(null);
+    if (!StringUtils.hasText(url)) {
+      log.info("[이미지] skip userId={} (프로필 이미지 없음)", userId);
+      return;
+    }
+    try {
+      generator.generate(url, List.of(ImageVariant.THUMBNAIL));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    userRepository.updateProfileThumbnail(userId, url, ImageVariant.THUMBNAIL.of(url));
+  }
+}
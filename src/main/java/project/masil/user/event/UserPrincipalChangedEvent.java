@@ -0,0 +1,10 @@
+package project.masil.user.event;
+
+/**
+ * 액세스 토큰 클레임(regionId, role)에 들어가는 사용자 정보가 바뀌었음을 알리는 이벤트
+ */
+public record UserPrincipalChangedEvent(
+    Long userId
+) {
+
+}
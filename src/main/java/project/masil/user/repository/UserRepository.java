@@ -2,7 +2,11 @@ package project.masil.user.repository;
 
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import project.masil.user.entity.User;
 
 @Repository
@@ -21,4 +25,27 @@ public interface UserRepository extends JpaRepository<User, Long> {
   boolean existsByUsername(String username);
 
   boolean existsByBusinessNumber(String businessNumber);
+
+  /**
+   * 액세스 토큰 캐시 검증용 버전 (사용자가 없으면 empty)
+   */
+  @Query("select u.principalVersion from User u where u.id = :id")
+  Optional<Long> findPrincipalVersion(@Param("id") Long id);
+
+  /**
+   * 프로필 썸네일 저장 (그 사이 프로필 이미지가 바뀌었으면 반영하지 않음)
+   */
+  @Transactional
+  @Modifying(clearAutomatically = true, flushAutomatically = true)
+  @Query("update User u set u.profileThumbnailUrl = :thumbnailUrl "
+      + "where u.id = :id and u.profileImageUrl = :profileImageUrl")
+  int updateProfileThumbnail(@Param("id") Long id, @Param("profileImageUrl") String profileImageUrl,
+      @Param("thumbnailUrl") String thumbnailUrl);
+
+  /**
+   * 프로필 이미지 변경 시 이전 썸네일 제거 (호출 측 트랜잭션)
+   */
+  @Modifying(flushAutomatically = true)
+  @Query("update User u set u.profileThumbnailUrl = null where u.id = :id")
+  int clearProfileThumbnail(@Param("id") Long id);
 }
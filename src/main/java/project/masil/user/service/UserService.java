@@ -1,12 +1,14 @@
 package project.masil.user.service;
 
+import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 import project.masil.community.dto.request.RegionUpdateRequest;
 import project.masil.community.dto.response.RegionIdResponse;
@@ -14,9 +16,12 @@ import project.masil.community.entity.Region;
 import project.masil.community.exception.RegionErrorCode;
 import project.masil.community.repository.RegionRepository;
 import project.masil.global.config.S3.AmazonS3Manager;
-import project.masil.global.config.S3.Uuid;
-import project.masil.global.config.S3.UuidRepository;
+import project.masil.global.config.S3.S3ImageUploader;
+import project.masil.global.config.S3.S3ImageUploader.UploadedImage;
 import project.masil.global.exception.CustomException;
+import project.masil.global.image.ImageObjectService;
+import project.masil.global.outbox.OutboxEventType;
+import project.masil.global.outbox.OutboxPublisher;
 import project.masil.user.converter.UserConverter;
 import project.masil.user.dto.request.NicknameUpdateRequest;
 import project.masil.user.dto.request.SignUpRequest;
@@ -24,6 +29,7 @@ import project.masil.user.dto.response.NicknameCheckResponse;
 import project.masil.user.dto.response.ProfileImageUpdateResponse;
 import project.masil.user.dto.response.SignUpResponse;
 import project.masil.user.entity.User;
+import project.masil.user.event.UserPrincipalChangedEvent;
 import project.masil.user.exception.UserErrorCode;
 import project.masil.user.repository.UserRepository;
 
@@ -35,9 +41,13 @@ public class UserService {
   private final UserRepository userRepository;
   private final PasswordEncoder passwordEncoder;
   private final UserConverter userConverter;
-  private final UuidRepository uuidRepository;
   private final RegionRepository regionRepository;
   private final AmazonS3Manager s3Manager;
+  private final S3ImageUploader imageUploader;
+  private final ImageObjectService imageObjectService;
+  private final TransactionTemplate tx;
+  private final OutboxPublisher outboxPublisher;
+  private final ApplicationEventPublisher publisher;
 
   @Transactional
   public SignUpResponse signUp(SignUpRequest request) {
@@ -100,15 +110,24 @@ public class UserService {
    * @param image  업로드할 이미지 파일
    * @return 업로드된 이미지의 URL
    */
-  @Transactional
   public ProfileImageUpdateResponse uploadProfileImage(Long userId, MultipartFile image) {
-    String uuid = UUID.randomUUID().toString();
-    Uuid savedUuid = uuidRepository.save(Uuid.builder().uuid(uuid).build());
-    String imageUrl = s3Manager.uploadFile(s3Manager.generateProfile(savedUuid), image);
-
-    User user = userRepository.findById(userId)
-        .orElseThrow(() -> new CustomException(UserErrorCode.USER_NOT_FOUND));
-    user.setProfileImageUrl(imageUrl);
+    // 업로드는 트랜잭션 밖에서 (같은 내용이면 생략), 저장 실패 시 참조 없는 이미지는 GC 가 정리
+    List<UploadedImage> uploaded = imageUploader.uploadAll(List.of(image),
+        s3Manager::generateProfile);
+    String imageUrl = uploaded.get(0).url();
+    tx.executeWithoutResult(status -> {
+      User user = userRepository.findById(userId)
+          .orElseThrow(() -> new CustomException(UserErrorCode.USER_NOT_FOUND));
+      String oldImageUrl = user.getProfileImageUrl();
+      user.changeProfileImage(imageUrl);
+      userRepository.clearProfileThumbnail(userId);
+      imageObjectService.retain(List.of(imageUrl));
+      if (oldImageUrl != null) {
+        imageObjectService.release(List.of(oldImageUrl));
+      }
+      // 썸네일은 커밋 후 비동기 생성
+      outboxPublisher.append(OutboxEventType.PROFILE_IMAGE_VARIANTS, userId);
+    });
 
     return ProfileImageUpdateResponse.builder()
         .profileImageUrl(imageUrl)
@@ -134,6 +153,8 @@ public class UserService {
         .orElseThrow(() -> new CustomException(RegionErrorCode.REGION_NOT_FOUND));
 
     user.updateRegion(region);
+    // 기존 액세스 토큰의 regionId 클레임은 커밋 후 무효화
+    publisher.publishEvent(new UserPrincipalChangedEvent(userId));
     log.info("[서비스] 사용자 지역 정보 변경 성공: UserId = {}, NewRegionId = {}", userId, regionId);
 
     return RegionIdResponse.builder()
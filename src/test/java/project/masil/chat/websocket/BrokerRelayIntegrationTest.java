@@ -0,0 +1,221 @@
+package project.masil.chat.websocket;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Type;
+import java.security.Principal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.ServletWebServerFactoryAutoConfiguration;
+import org.springframework.boot.autoconfigure.websocket.servlet.WebSocketServletAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompBrokerRelayMessageHandler;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.springframework.web.socket.sockjs.client.SockJsClient;
+import org.springframework.web.socket.sockjs.client.WebSocketTransport;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.images.builder.Transferable;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * chat.broker.mode=relay: RabbitMQ(STOMP 플러그인) 컨테이너에 두 노드를 붙여, 한 노드의 convertAndSendToUser 가 다른 노드에
+ * 연결된 사용자에게 전달되는지 확인한다 (Docker 가 없으면 건너뜀).
+ * <p>
+ * 노드는 WebSocketConfig 만 올린 최소 컨텍스트. 인증은 access_token 쿼리 값을 그대로 userId 로 쓰는 대체품으로 바꾼다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class BrokerRelayIntegrationTest {
+
+  private static final int STOMP_PORT = 61613;
+  // guest 계정은 컨테이너 밖(loopback 아님)에서 접속할 수 없다
+  private static final String BROKER_USER = "masil";
+
+  @Container
+  static final GenericContainer<?> RABBIT = new GenericContainer<>("rabbitmq:3.13")
+      .withEnv("RABBITMQ_DEFAULT_USER", BROKER_USER)
+      .withEnv("RABBITMQ_DEFAULT_PASS", BROKER_USER)
+      .withCopyToContainer(Transferable.of("[rabbitmq_stomp].\n"), "/etc/rabbitmq/enabled_plugins")
+      .withExposedPorts(STOMP_PORT)
+      .waitingFor(Wait.forLogMessage(".*Server startup complete.*", 1));
+
+  private ConfigurableApplicationContext nodeA;
+  private ConfigurableApplicationContext nodeB;
+
+  @BeforeEach
+  void setUp() throws InterruptedException {
+    nodeA = startNode();
+    nodeB = startNode();
+    awaitBroker(nodeA);
+    awaitBroker(nodeB);
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (nodeA != null) {
+      nodeA.close();
+    }
+    if (nodeB != null) {
+      nodeB.close();
+    }
+  }
+
+  @Test
+  void userMessageReachesSessionOnOtherNode() throws Exception {
+    BlockingQueue<Map<?, ?>> received = subscribe(nodeB, 2L, "/user/queue/rooms.1");
+
+    Map<?, ?> message = sendUntilReceived(nodeA, "2", "/queue/rooms.1", received);
+
+    assertNotNull(message, "다른 노드에서 보낸 메시지를 받지 못함");
+    assertEquals("hello", message.get("text"));
+  }
+
+  @Test
+  void userMessageReachesSessionOnSameNode() throws Exception {
+    BlockingQueue<Map<?, ?>> received = subscribe(nodeA, 3L, "/user/queue/rooms.2");
+
+    Map<?, ?> message = sendUntilReceived(nodeA, "3", "/queue/rooms.2", received);
+
+    assertNotNull(message, "같은 노드에서 보낸 메시지를 받지 못함");
+    assertEquals("hello", message.get("text"));
+  }
+
+  @Test
+  void otherUsersDoNotReceive() throws Exception {
+    BlockingQueue<Map<?, ?>> target = subscribe(nodeB, 4L, "/user/queue/rooms.3");
+    BlockingQueue<Map<?, ?>> bystander = subscribe(nodeA, 5L, "/user/queue/rooms.3");
+
+    assertNotNull(sendUntilReceived(nodeA, "4", "/queue/rooms.3", target));
+
+    assertTrue(bystander.isEmpty());
+  }
+
+  private static ConfigurableApplicationContext startNode() {
+    return new SpringApplicationBuilder(RelayNode.class).run(
+        "--server.port=0",
+        "--chat.broker.mode=relay",
+        "--chat.broker.relay-host=" + RABBIT.getHost(),
+        "--chat.broker.relay-port=" + RABBIT.getMappedPort(STOMP_PORT),
+        "--chat.broker.client-login=" + BROKER_USER,
+        "--chat.broker.client-passcode=" + BROKER_USER,
+        "--chat.broker.system-login=" + BROKER_USER,
+        "--chat.broker.system-passcode=" + BROKER_USER);
+  }
+
+  // 시스템 연결(서버 발신 메시지용)이 붙을 때까지
+  private static void awaitBroker(ConfigurableApplicationContext node) throws InterruptedException {
+    StompBrokerRelayMessageHandler relay = node.getBean(StompBrokerRelayMessageHandler.class);
+    for (int i = 0; i < 100 && !relay.isBrokerAvailable(); i++) {
+      Thread.sleep(100);
+    }
+    assertTrue(relay.isBrokerAvailable(), "브로커 연결 실패");
+  }
+
+  private static BlockingQueue<Map<?, ?>> subscribe(ConfigurableApplicationContext node,
+      Long userId, String destination) throws Exception {
+    WebSocketStompClient client = new WebSocketStompClient(
+        new SockJsClient(List.of(new WebSocketTransport(new StandardWebSocketClient()))));
+    client.setMessageConverter(new MappingJackson2MessageConverter());
+    int port = ((ServletWebServerApplicationContext) node).getWebServer().getPort();
+    StompSession session = client.connectAsync(
+            "http://localhost:" + port + "/api/websocket/chat?access_token=" + userId,
+            new StompSessionHandlerAdapter() {
+            })
+        .get(10, TimeUnit.SECONDS);
+
+    BlockingQueue<Map<?, ?>> received = new LinkedBlockingQueue<>();
+    session.subscribe(destination, new StompFrameHandler() {
+      @Override
+      public Type getPayloadType(StompHeaders headers) {
+        return Map.class;
+      }
+
+      @Override
+      public void handleFrame(StompHeaders headers, Object payload) {
+        received.add((Map<?, ?>) payload);
+      }
+    });
+    return received;
+  }
+
+  // 구독이 브로커에 반영되기 전에 보낸 메시지는 버려지므로 받을 때까지 다시 보낸다
+  private static Map<?, ?> sendUntilReceived(ConfigurableApplicationContext node, String user,
+      String destination, BlockingQueue<Map<?, ?>> received) throws InterruptedException {
+    SimpMessagingTemplate template = node.getBean(SimpMessagingTemplate.class);
+    for (int i = 0; i < 50; i++) {
+      template.convertAndSendToUser(user, destination, Map.of("text", "hello"));
+      Map<?, ?> message = received.poll(200, TimeUnit.MILLISECONDS);
+      if (message != null) {
+        return message;
+      }
+    }
+    return null;
+  }
+
+  @Configuration(proxyBeanMethods = false)
+  @ImportAutoConfiguration({ServletWebServerFactoryAutoConfiguration.class,
+      DispatcherServletAutoConfiguration.class, WebSocketServletAutoConfiguration.class,
+      JacksonAutoConfiguration.class})
+  @Import(WebSocketConfig.class)
+  static class RelayNode {
+
+    @Bean
+    ChatOutboundMetrics chatOutboundMetrics() {
+      return new ChatOutboundMetrics();
+    }
+
+    // 방 참가자 검사 없이 통과 (Principal 은 핸드셰이크에서 정해짐)
+    @Bean
+    StompAuthChannelInterceptor stompAuthChannelInterceptor() {
+      return new StompAuthChannelInterceptor(null, null) {
+        @Override
+        public Message<?> preSend(Message<?> message, MessageChannel channel) {
+          return message;
+        }
+      };
+    }
+
+    // access_token 쿼리 값 = userId
+    @Bean
+    JwtHandshakeHandler jwtHandshakeHandler() {
+      return new JwtHandshakeHandler(null) {
+        @Override
+        protected Principal determineUser(ServerHttpRequest request, WebSocketHandler wsHandler,
+            Map<String, Object> attributes) {
+          String token = UriComponentsBuilder.fromUri(request.getURI()).build().getQueryParams()
+              .getFirst("access_token");
+          return new WebSocketPrincipal(Long.valueOf(token));
+        }
+      };
+    }
+  }
+}
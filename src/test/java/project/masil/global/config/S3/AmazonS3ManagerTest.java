@@ -0,0 +1,183 @@
+package project.masil.global.config.S3;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder.EndpointConfiguration;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.model.ListMultipartUploadsRequest;
+import com.amazonaws.services.s3.model.S3Object;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+import org.testcontainers.containers.MinIOContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import project.masil.global.config.props.S3UploadProps;
+import project.masil.global.exception.CustomException;
+import project.masil.global.exception.ImageErrorCode;
+
+/**
+ * MinIO 컨테이너로 uploadFile 의 단일 PutObject / 멀티파트 / 실패 시 abort 경로를 확인한다 (Docker 가 없으면 건너뜀).
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class AmazonS3ManagerTest {
+
+  private static final String BUCKET = "masil-test";
+  private static final int PART_SIZE = (int) S3UploadProps.MIN_PART_SIZE.toBytes();
+
+  @Container
+  static final MinIOContainer MINIO = new MinIOContainer("minio/minio:RELEASE.2024-06-13T22-53-53Z");
+
+  private static AmazonS3 amazonS3;
+  private static AmazonS3Manager manager;
+
+  @BeforeAll
+  static void setUp() {
+    amazonS3 = AmazonS3ClientBuilder.standard()
+        .withCredentials(new AWSStaticCredentialsProvider(
+            new BasicAWSCredentials(MINIO.getUserName(), MINIO.getPassword())))
+        .withEndpointConfiguration(new EndpointConfiguration(MINIO.getS3URL(), "us-east-1"))
+        .withPathStyleAccessEnabled(true)
+        .build();
+    amazonS3.createBucket(BUCKET);
+
+    AmazonConfig config = new AmazonConfig();
+    ReflectionTestUtils.setField(config, "bucket", BUCKET);
+    S3UploadProps props = new S3UploadProps();
+    props.setPartSize(S3UploadProps.MIN_PART_SIZE);
+    manager = new AmazonS3Manager(amazonS3, config, props);
+  }
+
+  @Test
+  void smallFileIsSinglePut() throws IOException {
+    byte[] data = bytes(PART_SIZE - 1);
+
+    String url = manager.uploadFile("event/small", file(data));
+
+    assertEquals(manager.urlOf("event/small"), url);
+    assertArrayEquals(data, read("event/small"));
+  }
+
+  @Test
+  void largeFileIsUploadedInParts() throws IOException {
+    // 5MB + 5MB + 2MB
+    byte[] data = bytes(PART_SIZE * 2 + 2 * 1024 * 1024);
+
+    manager.uploadFile("event/large", file(data));
+
+    assertArrayEquals(data, read("event/large"));
+    assertTrue(pendingUploads("event/large").isEmpty());
+  }
+
+  @Test
+  void exactlyOnePartSizeStillCompletes() throws IOException {
+    byte[] data = bytes(PART_SIZE);
+
+    manager.uploadFile("event/exact", file(data));
+
+    assertArrayEquals(data, read("event/exact"));
+  }
+
+  @Test
+  void readFailureAbortsMultipartUpload() {
+    byte[] data = bytes(PART_SIZE * 3);
+    // 두 번째 조각을 읽다가 끊김
+    MockMultipartFile broken = new MockMultipartFile("file", "broken.jpg", "image/jpeg", data) {
+      @Override
+      public InputStream getInputStream() throws IOException {
+        return new FailingAfter(super.getInputStream(), PART_SIZE + 1024);
+      }
+    };
+
+    CustomException e = assertThrows(CustomException.class,
+        () -> manager.uploadFile("event/broken", broken));
+
+    assertEquals(ImageErrorCode.UPLOAD_FAILED, e.getErrorCode());
+    assertFalse(amazonS3.doesObjectExist(BUCKET, "event/broken"));
+    assertTrue(pendingUploads("event/broken").isEmpty());
+  }
+
+  @Test
+  void deletesMoreKeysThanOneRequestAllows() {
+    List<String> keys = new ArrayList<>();
+    for (int i = 0; i < 1001; i++) {
+      keys.add("event/gc-" + i);
+    }
+    amazonS3.putObject(BUCKET, keys.get(0), "a");
+    amazonS3.putObject(BUCKET, keys.get(1000), "b");
+
+    manager.deleteFiles(keys);
+
+    assertFalse(amazonS3.doesObjectExist(BUCKET, keys.get(0)));
+    assertFalse(amazonS3.doesObjectExist(BUCKET, keys.get(1000)));
+  }
+
+  private static List<?> pendingUploads(String key) {
+    return amazonS3.listMultipartUploads(new ListMultipartUploadsRequest(BUCKET).withPrefix(key))
+        .getMultipartUploads();
+  }
+
+  private static byte[] read(String key) throws IOException {
+    try (S3Object object = amazonS3.getObject(BUCKET, key)) {
+      return object.getObjectContent().readAllBytes();
+    }
+  }
+
+  private static MockMultipartFile file(byte[] data) {
+    return new MockMultipartFile("file", "image.jpg", "image/jpeg", data);
+  }
+
+  private static byte[] bytes(int size) {
+    byte[] data = new byte[size];
+    new Random(size).nextBytes(data);
+    return data;
+  }
+
+  // limit 바이트를 넘겨 읽으려 하면 IOException
+  private static final class FailingAfter extends FilterInputStream {
+
+    private long remaining;
+
+    private FailingAfter(InputStream in, long limit) {
+      super(in);
+      this.remaining = limit;
+    }
+
+    @Override
+    public int read() throws IOException {
+      check(1);
+      int b = super.read();
+      remaining--;
+      return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      check(len);
+      int n = super.read(b, off, len);
+      remaining -= Math.max(n, 0);
+      return n;
+    }
+
+    private void check(int len) throws IOException {
+      if (len > remaining) {
+        throw new IOException("연결 끊김");
+      }
+    }
+  }
+}
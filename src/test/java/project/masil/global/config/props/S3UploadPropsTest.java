@@ -0,0 +1,33 @@
+package project.masil.global.config.props;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * part-size 범위 검사 (S3 최소 조각 5MB, 힙 버퍼 상한 64MB)
+ */
+class S3UploadPropsTest {
+
+  @ParameterizedTest
+  @ValueSource(strings = {"5MB", "8MB", "64MB"})
+  void acceptsPartSizeInRange(String partSize) {
+    S3UploadProps props = new S3UploadProps();
+
+    props.setPartSize(DataSize.parse(partSize));
+
+    assertEquals(DataSize.parse(partSize), props.getPartSize());
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"1MB", "65MB", "3GB"})
+  void rejectsPartSizeOutOfRange(String partSize) {
+    S3UploadProps props = new S3UploadProps();
+
+    assertThrows(IllegalArgumentException.class,
+        () -> props.setPartSize(DataSize.parse(partSize)));
+  }
+}
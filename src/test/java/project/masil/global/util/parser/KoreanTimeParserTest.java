@@ -0,0 +1,43 @@
+package project.masil.global.util.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvFileSource;
+import project.masil.global.util.parser.KoreanTimeParser.TimeSpan;
+
+/**
+ * 골든 코퍼스(korean-time-golden.tsv)와 파싱 결과를 비교한다. 코퍼스는 토큰화 이전(정규식 기반) 구현의 출력이다.
+ */
+class KoreanTimeParserTest {
+
+  @ParameterizedTest(name = "[{1}] {0}")
+  @CsvFileSource(resources = "/parser/korean-time-golden.tsv", delimiter = '\t', numLinesToSkip = 1)
+  void matchesGoldenCorpus(String query, String now, String start, String end) {
+    TimeSpan span = KoreanTimeParser.parse(query, LocalDateTime.parse(now));
+
+    assertEquals(LocalDateTime.parse(start), span.start());
+    assertEquals(LocalDateTime.parse(end), span.end());
+  }
+
+  @Test
+  void cachedResultIsStableAcrossCalls() {
+    LocalDateTime now = LocalDateTime.of(2025, 8, 20, 15, 30);
+
+    TimeSpan first = KoreanTimeParser.parse("이번 주말", now);
+    TimeSpan second = KoreanTimeParser.parse("이번주말", now.plusHours(3));
+
+    assertEquals(first, second);
+  }
+
+  @Test
+  void defaultRangeFollowsNowEvenWhenCached() {
+    LocalDateTime morning = LocalDateTime.of(2025, 8, 20, 9, 0);
+    LocalDateTime evening = LocalDateTime.of(2025, 8, 20, 21, 0);
+
+    assertEquals(morning, KoreanTimeParser.parse("플리마켓", morning).start());
+    assertEquals(evening, KoreanTimeParser.parse("플리마켓", evening).start());
+  }
+}
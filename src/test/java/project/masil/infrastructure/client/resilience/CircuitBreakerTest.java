@@ -0,0 +1,109 @@
+package project.masil.infrastructure.client.resilience;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import project.masil.infrastructure.client.resilience.CircuitBreaker.State;
+
+/**
+ * 서킷 브레이커 상태 전이 (시계는 주입해서 OPEN 유지 시간을 건너뛴다).
+ */
+class CircuitBreakerTest {
+
+  private static final Duration OPEN = Duration.ofSeconds(30);
+
+  private final AtomicLong now = new AtomicLong();
+  // 최근 4건 중 50% 이상 실패면 OPEN, HALF_OPEN 시험 호출 2건
+  private final CircuitBreaker breaker = new CircuitBreaker("test", 4, 4, 50, OPEN, 2, now::get);
+
+  @Test
+  void staysClosedUntilMinimumCalls() {
+    failTimes(3);
+
+    assertEquals(State.CLOSED, breaker.getState());
+    assertTrue(breaker.tryAcquire());
+  }
+
+  @Test
+  void opensWhenFailureRateReachesThreshold() {
+    succeedTimes(2);
+    failTimes(2);
+
+    assertEquals(State.OPEN, breaker.getState());
+    assertFalse(breaker.tryAcquire());
+  }
+
+  @Test
+  void oldResultsLeaveTheWindow() {
+    failTimes(1);
+    succeedTimes(3);
+    // 첫 실패가 밀려나서 실패 1/4
+    succeedTimes(1);
+    failTimes(1);
+
+    assertEquals(State.CLOSED, breaker.getState());
+  }
+
+  @Test
+  void halfOpenAfterOpenDurationAndClosesOnSuccess() {
+    failTimes(4);
+    now.addAndGet(OPEN.toNanos());
+
+    assertTrue(breaker.tryAcquire());
+    assertEquals(State.HALF_OPEN, breaker.getState());
+    assertTrue(breaker.tryAcquire());
+    // 시험 호출 수를 넘으면 거절
+    assertFalse(breaker.tryAcquire());
+
+    breaker.onSuccess();
+    breaker.onSuccess();
+
+    assertEquals(State.CLOSED, breaker.getState());
+    // 창이 비었으므로 실패 3건으로는 다시 열리지 않음
+    failTimes(3);
+    assertEquals(State.CLOSED, breaker.getState());
+  }
+
+  @Test
+  void failureWhileHalfOpenReopens() {
+    failTimes(4);
+    now.addAndGet(OPEN.toNanos());
+    assertTrue(breaker.tryAcquire());
+
+    breaker.onFailure();
+
+    assertEquals(State.OPEN, breaker.getState());
+    assertFalse(breaker.tryAcquire());
+  }
+
+  @Test
+  void releaseReturnsHalfOpenPermit() {
+    failTimes(4);
+    now.addAndGet(OPEN.toNanos());
+    assertTrue(breaker.tryAcquire());
+    assertTrue(breaker.tryAcquire());
+
+    breaker.release();
+
+    assertTrue(breaker.tryAcquire());
+    assertEquals(State.HALF_OPEN, breaker.getState());
+  }
+
+  private void failTimes(int n) {
+    for (int i = 0; i < n; i++) {
+      breaker.tryAcquire();
+      breaker.onFailure();
+    }
+  }
+
+  private void succeedTimes(int n) {
+    for (int i = 0; i < n; i++) {
+      breaker.tryAcquire();
+      breaker.onSuccess();
+    }
+  }
+}
@@ -0,0 +1,216 @@
+package project.masil.infrastructure.client.resilience;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import project.masil.global.config.props.OutboundProps;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * MockWebServer 로 서킷 브레이커 전이, 적응형 타임아웃, 헤징을 확인한다.
+ */
+class ResilienceFilterTest {
+
+  private MockWebServer server;
+  private ConnectionProvider pool;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = new MockWebServer();
+    server.start();
+    // 헤지에서 진 응답이 커넥션을 붙잡으면 이후 요청이 커넥션을 얻지 못한다
+    pool = ConnectionProvider.builder("resilience-test")
+        .maxConnections(2)
+        .pendingAcquireTimeout(Duration.ofMillis(500))
+        .build();
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    pool.dispose();
+    server.shutdown();
+  }
+
+  @Test
+  void breakerOpensOn5xxAndClosesAfterTrialCall() throws Exception {
+    OutboundProps.Downstream config = config();
+    config.getBreaker().setOpenDuration(Duration.ofMillis(300));
+    config.getBreaker().setHalfOpenCalls(1);
+    WebClient client = client(config);
+    for (int i = 0; i < 4; i++) {
+      server.enqueue(new MockResponse().setResponseCode(500));
+    }
+
+    for (int i = 0; i < 4; i++) {
+      assertEquals("500", call(client, "/items/" + i));
+    }
+    RuntimeException rejected = assertThrows(RuntimeException.class,
+        () -> call(client, "/items/9"));
+    assertTrue(causedBy(rejected, CircuitOpenException.class));
+    // 열린 동안에는 요청이 나가지 않음
+    assertEquals(4, server.getRequestCount());
+
+    Thread.sleep(400);
+    server.enqueue(new MockResponse().setBody("ok"));
+    server.enqueue(new MockResponse().setBody("ok"));
+
+    assertEquals("200 ok", call(client, "/items/1"));
+    assertEquals("200 ok", call(client, "/items/2"));
+    assertEquals(6, server.getRequestCount());
+  }
+
+  @Test
+  void usesMaxTimeoutUntilEnoughSamples() {
+    OutboundProps.Downstream config = config();
+    config.getTimeout().setMin(Duration.ofMillis(100));
+    config.getTimeout().setMax(Duration.ofSeconds(2));
+    WebClient client = client(config);
+    server.enqueue(new MockResponse().setBody("slow").setHeadersDelay(400, TimeUnit.MILLISECONDS));
+
+    assertEquals("200 slow", call(client, "/items"));
+  }
+
+  @Test
+  void timeoutShrinksToRecentLatency() {
+    OutboundProps.Downstream config = config();
+    config.getTimeout().setMin(Duration.ofMillis(100));
+    config.getTimeout().setMax(Duration.ofSeconds(2));
+    WebClient client = client(config);
+    for (int i = 0; i < 5; i++) {
+      server.enqueue(new MockResponse().setBody("fast"));
+      call(client, "/items");
+    }
+    server.enqueue(new MockResponse().setBody("slow").setHeadersDelay(1, TimeUnit.SECONDS));
+
+    long start = System.nanoTime();
+    RuntimeException e = assertThrows(RuntimeException.class, () -> call(client, "/items"));
+
+    assertTrue(causedBy(e, TimeoutException.class));
+    // 빠른 응답 p99 * 2 는 min(100ms) 으로 올라간다
+    assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 900);
+  }
+
+  @Test
+  void hedgedRequestWinsAndLoserConnectionIsReturned() throws Exception {
+    OutboundProps.Downstream config = config();
+    config.getTimeout().setMin(Duration.ofSeconds(3));
+    config.getTimeout().setMax(Duration.ofSeconds(5));
+    config.getHedge().setPaths(List.of("/search"));
+    // 표본 5건은 빠르게, 그다음 먼저 도착한 요청은 느리게, 나머지는 빠르게
+    AtomicInteger searches = new AtomicInteger();
+    server.setDispatcher(new Dispatcher() {
+      @Override
+      public MockResponse dispatch(RecordedRequest request) {
+        if (searches.incrementAndGet() == 6) {
+          return new MockResponse().setBody("slow").setHeadersDelay(1500, TimeUnit.MILLISECONDS);
+        }
+        return new MockResponse().setBody("fast");
+      }
+    });
+    WebClient client = client(config);
+    for (int i = 0; i < 5; i++) {
+      call(client, "/search");
+    }
+
+    long start = System.nanoTime();
+    assertEquals("200 fast", call(client, "/search"));
+
+    assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 1000);
+    assertEquals(7, server.getRequestCount());
+
+    // 느린 응답이 도착한 뒤에도 풀(2개)이 모두 쓸 수 있어야 한다
+    Thread.sleep(1700);
+    List<String> results = Flux.range(0, 2)
+        .flatMap(i -> exchange(client, "/search"))
+        .collectList()
+        .block(Duration.ofSeconds(3));
+    assertEquals(List.of("200 fast", "200 fast"), results);
+  }
+
+  @Test
+  void responseAfterWinnerIsReleased() {
+    AtomicBoolean decided = new AtomicBoolean();
+    AtomicBoolean winnerReleased = new AtomicBoolean();
+    AtomicBoolean loserReleased = new AtomicBoolean();
+    ClientResponse winner = response(winnerReleased);
+
+    // 두 응답이 거의 동시에 도착한 경우: 먼저 통과한 쪽만 쓰고 나머지는 본문을 비운다
+    assertEquals(winner, ResilienceFilter.firstOnly(Mono.just(winner), decided).block());
+    assertTrue(ResilienceFilter.firstOnly(Mono.just(response(loserReleased)), decided)
+        .blockOptional().isEmpty());
+
+    assertTrue(loserReleased.get());
+    assertFalse(winnerReleased.get());
+  }
+
+  // 최근 4건 중 50% 이상 실패면 OPEN, 표본 5건부터 적응형 타임아웃/헤징
+  private static OutboundProps.Downstream config() {
+    OutboundProps.Downstream config = new OutboundProps.Downstream(8);
+    config.getBreaker().setWindowSize(4);
+    config.getBreaker().setMinimumCalls(4);
+    config.getBreaker().setFailureRateThreshold(50);
+    config.getTimeout().setMinSamples(5);
+    config.getTimeout().setSampleSize(16);
+    return config;
+  }
+
+  private WebClient client(OutboundProps.Downstream config) {
+    return WebClient.builder()
+        .baseUrl(server.url("/").toString())
+        .clientConnector(new ReactorClientHttpConnector(HttpClient.create(pool)))
+        .filter(new ResilienceFilter("test", config))
+        .build();
+  }
+
+  private static String call(WebClient client, String path) {
+    return exchange(client, path).block(Duration.ofSeconds(5));
+  }
+
+  // "상태코드 본문" (본문이 없으면 상태코드만)
+  private static Mono<String> exchange(WebClient client, String path) {
+    return client.get().uri(path)
+        .exchangeToMono(res -> res.bodyToMono(String.class)
+            .map(body -> res.statusCode().value() + " " + body)
+            .defaultIfEmpty(String.valueOf(res.statusCode().value())));
+  }
+
+  // 본문을 구독하면(releaseBody 포함) released 가 true
+  private static ClientResponse response(AtomicBoolean released) {
+    return ClientResponse.create(HttpStatus.OK)
+        .body(Flux.<DataBuffer>empty().doOnSubscribe(s -> released.set(true)))
+        .build();
+  }
+
+  private static boolean causedBy(Throwable e, Class<? extends Throwable> type) {
+    for (Throwable t = e; t != null; t = t.getCause()) {
+      if (type.isInstance(t)) {
+        return true;
+      }
+    }
+    return false;
+  }
+}